@@ -0,0 +1,102 @@
+package com.recruitment;
+
+import com.recruitment.engine.AllPairsMatcher;
+import com.recruitment.engine.MatchingEngine;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Check of the {@link AllPairsMatcher} against the per-job and per-candidate scans it replaces
+ * in the nightly match report. Builds synthetic candidates and jobs in memory (nothing is
+ * stored), runs one all-pairs sweep, then calls MatchingEngine.findBestMatches for every job
+ * and findSuitableJobs for every candidate and requires the same matches in the same order.
+ *
+ * Usage: AllPairsBenchmark [candidates] [jobs] [top K] [threads]
+ */
+public class AllPairsBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int candidateCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int jobCount = args.length > 1 ? Integer.parseInt(args[1]) : 800;
+        int k = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        List<String> vocabulary = BenchmarkSupport.vocabulary(8);
+
+        Random random = new Random(42);
+        List<JobPosting> jobs = new ArrayList<>();
+        for (int j = 0; j < jobCount; j++) {
+            JobPosting job = new JobPosting("Benchmark Job " + j, "Synthetic job", "Remote", null, null,
+                    random.nextInt(8));
+            job.setId((long) j + 1);
+            job.setRequiredSkills(skills(random, vocabulary, 6));
+            job.setPreferredSkills(skills(random, vocabulary, 4));
+            jobs.add(job);
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        for (int c = 0; c < candidateCount; c++) {
+            Candidate candidate = new Candidate("Benchmark Candidate " + c, "candidate" + c + "@benchmark.invalid",
+                    null, null, random.nextInt(15), null);
+            candidate.setId((long) c + 1);
+            candidate.setSkills(skills(random, vocabulary, 12));
+            candidates.add(candidate);
+        }
+
+        AllPairsMatcher allPairsMatcher = new AllPairsMatcher(threads);
+        // Warm up once
+        allPairsMatcher.match(candidates, jobs, k, k);
+        AllPairsMatcher.Result result = allPairsMatcher.match(candidates, jobs, k, k);
+        System.out.printf("All pairs: %d pairs on %d threads in %d ms%n", result.getPairsScored(), threads,
+                result.getElapsedMillis());
+
+        MatchingEngine matchingEngine = new MatchingEngine();
+        long start = System.nanoTime();
+        for (JobPosting job : jobs) {
+            compare("Job " + job.getId(), matchingEngine.findBestMatches(job, candidates, k),
+                    result.getCandidatesByJob().get(job.getId()));
+        }
+        long perJobMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for (Candidate candidate : candidates) {
+            compare("Candidate " + candidate.getId(), matchingEngine.findSuitableJobs(candidate, jobs, k),
+                    result.getJobsByCandidate().get(candidate.getId()));
+        }
+        long perCandidateMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.printf("Per-job scans: %d ms, per-candidate scans: %d ms%n", perJobMs, perCandidateMs);
+        System.out.println("All-pairs results match the scans for " + jobCount + " jobs and "
+                + candidateCount + " candidates");
+    }
+
+    private static void compare(String owner, List<MatchResult> scanned, List<MatchResult> swept) {
+        if (swept == null || swept.size() != scanned.size()) {
+            throw new IllegalStateException(owner + ": all-pairs returned " + (swept == null ? 0 : swept.size())
+                    + " matches, scan " + scanned.size());
+        }
+        for (int i = 0; i < scanned.size(); i++) {
+            MatchResult a = swept.get(i);
+            MatchResult b = scanned.get(i);
+            if (!a.getCandidateId().equals(b.getCandidateId()) || !a.getJobId().equals(b.getJobId())
+                    || a.getMatchScore() != b.getMatchScore()) {
+                throw new IllegalStateException(owner + ", rank " + (i + 1) + ": all-pairs has candidate "
+                        + a.getCandidateId() + " / job " + a.getJobId() + " (" + a.getMatchScore() + "), scan has "
+                        + b.getCandidateId() + " / job " + b.getJobId() + " (" + b.getMatchScore() + ")");
+            }
+        }
+    }
+
+    private static List<String> skills(Random random, List<String> vocabulary, int max) {
+        List<String> skills = new ArrayList<>();
+        for (int s = random.nextInt(max + 1); s > 0; s--) {
+            skills.add(vocabulary.get(random.nextInt(vocabulary.size())));
+        }
+        return skills;
+    }
+}
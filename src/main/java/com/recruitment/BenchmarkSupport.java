@@ -0,0 +1,105 @@
+package com.recruitment;
+
+import com.recruitment.database.DatabaseManager;
+import com.recruitment.database.SkillDAO;
+import com.recruitment.util.SkillDictionary;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared scaffolding of the benchmarks: the skill vocabulary and synthetic candidates that
+ * are recognized and removed again by the email domain of each benchmark.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Canonical skill names of the current dictionary; fails if there are fewer than minSize
+     */
+    static List<String> vocabulary(int minSize) {
+        List<String> vocabulary = new ArrayList<>();
+        for (SkillDictionary.Entry entry : SkillDictionary.current().getEntries()) {
+            vocabulary.add(entry.getCanonicalName());
+        }
+        if (vocabulary.size() < minSize) {
+            throw new IllegalStateException("Skill dictionary has too few skills for the benchmark");
+        }
+        return vocabulary;
+    }
+
+    /**
+     * Replace the candidates of the email domain with synthetic ones, each holding consecutive
+     * vocabulary skills from a random offset so skill frequencies are even. Returns the stored
+     * id of each vocabulary skill.
+     */
+    static Map<String, Integer> seed(DatabaseManager dbManager, String emailDomain, List<String> vocabulary,
+                                     int candidateCount, int skillsPerCandidate) throws SQLException {
+        cleanUp(dbManager, emailDomain);
+        long start = System.nanoTime();
+        Random random = new Random(42);
+        Map<String, Integer> skillIds;
+
+        try (Connection connection = dbManager.getConnection()) {
+            connection.setAutoCommit(false);
+            skillIds = SkillDAO.storeIds(connection, vocabulary);
+            try (PreparedStatement insertCandidate = connection.prepareStatement(
+                    "INSERT INTO candidates (name, email, experience_years, resume_text) VALUES (?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement insertSkill = connection.prepareStatement(
+                    "INSERT INTO candidate_skills (candidate_id, skill_id) VALUES (?, ?)")) {
+
+                for (int i = 0; i < candidateCount; i++) {
+                    insertCandidate.setString(1, "Benchmark Candidate " + i);
+                    insertCandidate.setString(2, "candidate" + i + emailDomain);
+                    insertCandidate.setInt(3, random.nextInt(15));
+                    insertCandidate.setString(4, "Synthetic resume text for benchmark candidate " + i);
+                    insertCandidate.executeUpdate();
+
+                    try (ResultSet keys = insertCandidate.getGeneratedKeys()) {
+                        keys.next();
+                        long id = keys.getLong(1);
+                        int offset = random.nextInt(vocabulary.size());
+                        for (int s = 0; s < Math.min(skillsPerCandidate, vocabulary.size()); s++) {
+                            insertSkill.setLong(1, id);
+                            insertSkill.setInt(2, skillIds.get(vocabulary.get((offset + s) % vocabulary.size())));
+                            insertSkill.addBatch();
+                        }
+                    }
+                    if (i % 500 == 499) {
+                        insertSkill.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insertSkill.executeBatch();
+                connection.commit();
+            }
+        }
+
+        System.out.printf("Seeded %d candidates in %d ms%n", candidateCount,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return skillIds;
+    }
+
+    /**
+     * Delete the candidates of the email domain, with their skills
+     */
+    static void cleanUp(DatabaseManager dbManager, String emailDomain) throws SQLException {
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "DELETE FROM candidates WHERE email LIKE ?")) {
+            statement.setString(1, "%" + emailDomain);
+            statement.executeUpdate();
+        }
+    }
+}
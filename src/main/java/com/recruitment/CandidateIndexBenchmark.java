@@ -0,0 +1,224 @@
+package com.recruitment;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.CandidateFetchPlan;
+import com.recruitment.database.DatabaseManager;
+import com.recruitment.engine.CandidateIndex;
+import com.recruitment.engine.MatchQuery;
+import com.recruitment.engine.MatchingEngine;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent-ingest check of the {@link CandidateIndex}. Seeds synthetic candidates (removed
+ * afterwards), starts the index while ingest threads keep inserting, updating and deleting
+ * candidates, and queries it from a reader thread meanwhile. Once the writer has caught up,
+ * the index must return the same top matches as scoring every stored candidate.
+ *
+ * Usage: CandidateIndexBenchmark [initial candidates] [ingested candidates] [ingest threads]
+ */
+public class CandidateIndexBenchmark {
+    private static final String EMAIL_DOMAIN = "@index-benchmark.invalid";
+    private static final int MAX_RESULTS = 15;
+    private static final int INGEST_BATCH_SIZE = 500;
+
+    public static void main(String[] args) throws Exception {
+        int initialCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int ingestCount = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        int threadCount = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        dbManager.initializeDatabase();
+        CandidateDAO candidateDAO = new CandidateDAO();
+        CandidateIndex index = CandidateIndex.getInstance();
+
+        List<String> vocabulary = BenchmarkSupport.vocabulary(12);
+
+        try {
+            BenchmarkSupport.cleanUp(dbManager, EMAIL_DOMAIN);
+            long start = System.nanoTime();
+            Random random = new Random(42);
+            List<Candidate> initial = new ArrayList<>();
+            for (int i = 0; i < initialCount; i++) {
+                initial.add(candidate(random, vocabulary, i));
+            }
+            candidateDAO.saveAll(initial);
+            System.out.printf("Seeded %d candidates in %d ms%n", initialCount,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            JobPosting probe = job(vocabulary, 0, 4);
+            AtomicBoolean ingesting = new AtomicBoolean(true);
+            AtomicLong queries = new AtomicLong();
+            AtomicLong slowestNanos = new AtomicLong();
+            Thread reader = new Thread(() -> {
+                while (ingesting.get()) {
+                    long queryStart = System.nanoTime();
+                    index.findBestMatches(probe, MAX_RESULTS, MatchQuery.any());
+                    slowestNanos.accumulateAndGet(System.nanoTime() - queryStart, Math::max);
+                    queries.incrementAndGet();
+                }
+            }, "index-benchmark-reader");
+
+            // Ingest starts before the index, so changes land while the initial load is applied
+            List<Thread> writers = new ArrayList<>();
+            List<Throwable> failures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                int thread = t;
+                writers.add(new Thread(() -> {
+                    try {
+                        ingest(candidateDAO, vocabulary, initial, thread, threadCount, initialCount, ingestCount);
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                }, "index-benchmark-writer-" + t));
+            }
+
+            start = System.nanoTime();
+            writers.forEach(Thread::start);
+            reader.start();
+            index.start();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            long ingestMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            ingesting.set(false);
+            reader.join();
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("Ingest failed", failures.get(0));
+            }
+
+            List<Candidate> stored;
+            try (Stream<Candidate> candidates = candidateDAO.stream(CandidateFetchPlan.SKILLS)) {
+                stored = candidates.collect(Collectors.toCollection(ArrayList::new));
+            }
+            awaitCatchUp(index, stored.size());
+            System.out.printf("Ingest: %d ms, %d queries meanwhile, slowest %.1f ms; %d segments at epoch %d%n",
+                    ingestMs, queries.get(), slowestNanos.get() / 1e6, index.getSegmentCount(), index.getEpoch());
+
+            // The index ranks the newer candidate first on equal scores, so scan in that order
+            stored.sort(Comparator.comparing(Candidate::getId).reversed());
+            MatchingEngine matchingEngine = new MatchingEngine();
+            for (int offset = 0; offset < 10; offset++) {
+                JobPosting job = job(vocabulary, offset, offset % 8);
+                MatchQuery query = new MatchQuery();
+                if (offset % 2 == 0) {
+                    query.setMinExperience(2);
+                    query.setMaxExperience(8);
+                }
+                compare(offset, index.findBestMatches(job, MAX_RESULTS, query),
+                        matchingEngine.findBestMatches(job, stored, MAX_RESULTS, query));
+            }
+            System.out.println("Index matches a scan of all " + stored.size() + " candidates for 10 jobs");
+        } finally {
+            index.stop();
+            BenchmarkSupport.cleanUp(dbManager, EMAIL_DOMAIN);
+            dbManager.shutdown();
+        }
+    }
+
+    /**
+     * One writer's share of the ingest: insert new candidates in batches, then update and delete
+     * some of the seeded ones
+     */
+    private static void ingest(CandidateDAO candidateDAO, List<String> vocabulary, List<Candidate> initial,
+                               int thread, int threadCount, int initialCount, int ingestCount) throws SQLException {
+        Random random = new Random(thread);
+        List<Candidate> batch = new ArrayList<>();
+        for (int i = thread; i < ingestCount; i += threadCount) {
+            batch.add(candidate(random, vocabulary, initialCount + i));
+            if (batch.size() == INGEST_BATCH_SIZE) {
+                candidateDAO.saveAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            candidateDAO.saveAll(batch);
+        }
+
+        // Each writer owns every threadCount-th seeded candidate, so no two change the same one
+        for (int i = thread; i < initial.size(); i += threadCount * 50) {
+            Candidate candidate = initial.get(i);
+            if (random.nextInt(4) == 0) {
+                candidateDAO.delete(candidate.getId());
+            } else {
+                candidate.setExperienceYears(random.nextInt(15));
+                candidate.setSkills(skills(random, vocabulary));
+                candidateDAO.update(candidate);
+            }
+        }
+    }
+
+    /**
+     * Wait until the index holds as many candidates as the table and its epoch stops moving
+     */
+    private static void awaitCatchUp(CandidateIndex index, int expectedSize) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        long lastEpoch = -1;
+        while (System.nanoTime() < deadline) {
+            long epoch = index.getEpoch();
+            if (index.size() == expectedSize && epoch == lastEpoch) {
+                return;
+            }
+            lastEpoch = epoch;
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Index did not catch up: " + index.size() + " of " + expectedSize + " candidates");
+    }
+
+    private static void compare(int jobNumber, List<MatchResult> indexed, List<MatchResult> scanned) {
+        if (indexed.size() != scanned.size()) {
+            throw new IllegalStateException("Job " + jobNumber + ": index returned " + indexed.size()
+                    + " matches, scan " + scanned.size());
+        }
+        for (int i = 0; i < indexed.size(); i++) {
+            MatchResult a = indexed.get(i);
+            MatchResult b = scanned.get(i);
+            if (!a.getCandidateId().equals(b.getCandidateId()) || a.getMatchScore() != b.getMatchScore()) {
+                throw new IllegalStateException("Job " + jobNumber + ", rank " + (i + 1) + ": index has candidate "
+                        + a.getCandidateId() + " (" + a.getMatchScore() + "), scan has " + b.getCandidateId()
+                        + " (" + b.getMatchScore() + ")");
+            }
+        }
+    }
+
+    private static JobPosting job(List<String> vocabulary, int offset, int requiredExperience) {
+        JobPosting job = new JobPosting("Benchmark Job " + offset, "Synthetic job", "Remote", null, null,
+                requiredExperience);
+        job.setId(-1L - offset);
+        job.setRequiredSkills(new ArrayList<>(vocabulary.subList(offset, offset + 3)));
+        job.setPreferredSkills(new ArrayList<>(vocabulary.subList(offset + 3, offset + 4)));
+        return job;
+    }
+
+    private static Candidate candidate(Random random, List<String> vocabulary, int number) {
+        Candidate candidate = new Candidate("Benchmark Candidate " + number, "candidate" + number + EMAIL_DOMAIN,
+                null, null, random.nextInt(15), "Synthetic resume text for benchmark candidate " + number);
+        candidate.setSkills(skills(random, vocabulary));
+        return candidate;
+    }
+
+    private static List<String> skills(Random random, List<String> vocabulary) {
+        List<String> skills = new ArrayList<>();
+        for (int s = random.nextInt(7); s > 0; s--) {
+            String skill = vocabulary.get(random.nextInt(Math.min(vocabulary.size(), 30)));
+            if (!skills.contains(skill)) {
+                skills.add(skill);
+            }
+        }
+        return skills;
+    }
+}
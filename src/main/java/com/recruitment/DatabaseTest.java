@@ -7,7 +7,7 @@ public class DatabaseTest {
     public static void main(String[] args) {
         try {
             DatabaseManager dbManager = DatabaseManager.getInstance();
-            dbManager.initializeDatabase(); // <-- this runs schema.sql
+            dbManager.initializeDatabase(); // <-- this applies pending schema migrations
 
             try (Connection conn = dbManager.getConnection()) {
                 if (conn != null) {
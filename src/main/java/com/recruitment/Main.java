@@ -1,6 +1,10 @@
 package com.recruitment;
 
+import com.recruitment.database.CandidateDAO;
 import com.recruitment.database.DatabaseManager;
+import com.recruitment.database.JobPostingDAO;
+import com.recruitment.engine.CandidateIndex;
+import com.recruitment.engine.IncrementalMatcher;
 import com.recruitment.ui.RecruiterDashboard;
 import com.formdev.flatlaf.FlatLightLaf;
 
@@ -21,6 +25,21 @@ public class Main {
             // Initialize database
             DatabaseManager.getInstance().initializeDatabase();
             System.out.println("Database initialized successfully.");
+            
+            // Keep stored match results current as candidates and jobs change
+            IncrementalMatcher.getInstance().start();
+
+            // Keep all candidates indexed in memory for matching when stored results cannot be refreshed
+            CandidateIndex.getInstance().start();
+            
+            // Report cache use and close pooled connections when the application exits
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                IncrementalMatcher.getInstance().stop();
+                CandidateIndex.getInstance().stop();
+                System.out.println("Entity cache " + CandidateDAO.getCache().getStatistics());
+                System.out.println("Entity cache " + JobPostingDAO.getCache().getStatistics());
+                DatabaseManager.getInstance().shutdown();
+            }));
 
             // Launch Swing application on Event Dispatch Thread
             SwingUtilities.invokeLater(() -> {
@@ -0,0 +1,188 @@
+package com.recruitment;
+
+import com.recruitment.model.Candidate;
+import com.recruitment.parser.ResumeParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency stress test for the resume parsers.
+ * Parses every resume sequentially, then again from many threads sharing one
+ * ResumeParser, and fails if any concurrent result differs from the sequential one.
+ *
+ * Usage: ParserStressTest [resume directory] [threads] [rounds]
+ * Without a directory, synthetic resumes are generated in a temp folder: mostly TXT, with
+ * every fifth one a two-page PDF, so concurrent PDF extraction is exercised too.
+ */
+public class ParserStressTest {
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 2;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        List<File> files = args.length > 0 ? listResumes(new File(args[0])) : generateResumes(50);
+        if (files.isEmpty()) {
+            System.err.println("No supported resume files found");
+            System.exit(1);
+        }
+
+        ResumeParser parser = new ResumeParser();
+
+        // Sequential baseline
+        List<String> expected = new ArrayList<>();
+        for (File file : files) {
+            expected.add(fingerprint(parser.parseResume(file)));
+        }
+
+        // Concurrent run: every thread parses every file, several rounds
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+
+        for (int t = 0; t < threads; t++) {
+            final int offset = t;
+            futures.add(executor.submit(() -> {
+                int mismatches = 0;
+                for (int round = 0; round < rounds; round++) {
+                    for (int i = 0; i < files.size(); i++) {
+                        // Rotate start position so threads hit different files at the same time
+                        int index = (i + offset + round) % files.size();
+                        String actual = fingerprint(parser.parseResume(files.get(index)));
+                        if (!actual.equals(expected.get(index))) {
+                            mismatches++;
+                            System.err.println("Mismatch for " + files.get(index).getName() + ":\n  expected "
+                                    + expected.get(index) + "\n  actual   " + actual);
+                        }
+                    }
+                }
+                return mismatches;
+            }));
+        }
+
+        int mismatches = 0;
+        for (Future<Integer> future : futures) {
+            mismatches += future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        int parses = threads * rounds * files.size();
+        System.out.printf("Parsed %d resumes on %d threads in %d ms (%.1f parses/s)%n",
+                parses, threads, elapsedMs, parses * 1000.0 / Math.max(1, elapsedMs));
+
+        if (mismatches > 0) {
+            System.err.println("❌ " + mismatches + " concurrent results differed from the sequential run");
+            System.exit(1);
+        }
+        System.out.println("✅ Concurrent output matches sequential output");
+    }
+
+    private static String fingerprint(Candidate candidate) {
+        return String.join("|",
+                Objects.toString(candidate.getName()),
+                Objects.toString(candidate.getEmail()),
+                Objects.toString(candidate.getPhone()),
+                Objects.toString(candidate.getEducation()),
+                String.valueOf(candidate.getExperienceYears()),
+                String.join(",", candidate.getSkills()),
+                String.valueOf(Objects.hashCode(candidate.getResumeText())));
+    }
+
+    private static List<File> listResumes(File directory) {
+        List<File> files = new ArrayList<>();
+        File[] entries = directory.listFiles();
+        if (entries != null) {
+            for (File file : entries) {
+                if (file.isFile() && ResumeParser.isSupported(file.getName())) {
+                    files.add(file);
+                }
+            }
+        }
+        return files;
+    }
+
+    private static List<File> generateResumes(int count) throws IOException {
+        Path directory = Files.createTempDirectory("resumes");
+        directory.toFile().deleteOnExit();
+        String[] skills = {"Java", "Python", "React", "Docker", "Kubernetes", "MySQL", "AWS", "Spring", "Go", "C++"};
+        List<File> files = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            StringBuilder resume = new StringBuilder();
+            resume.append("Candidate Number").append(" ").append((char) ('A' + i % 26)).append("lex\n");
+            resume.append("candidate").append(i).append("@example.com\n");
+            resume.append("+1-555-").append(String.format("%04d", i)).append("\n\n");
+            resume.append("Summary: ").append(i % 15).append(" years of experience building software.\n\n");
+            resume.append("Education:\nBachelor of Science in Computer Science, State University\n\n");
+            resume.append("Experience:\nSoftware Engineer, ").append(2010 + i % 10).append(" - present\n\n");
+            resume.append("Technical Skills: ");
+            for (int s = 0; s <= i % skills.length; s++) {
+                resume.append(skills[(i + s) % skills.length]).append(", ");
+            }
+            resume.append("Agile\n");
+
+            File file;
+            if (i % 5 == 0) {
+                file = directory.resolve("resume-" + i + ".pdf").toFile();
+                writePdf(file, resume.toString());
+            } else {
+                file = directory.resolve("resume-" + i + ".txt").toFile();
+                Files.writeString(file.toPath(), resume.toString(), StandardCharsets.UTF_8);
+            }
+            file.deleteOnExit();
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * Write the resume as a PDF: contact details on the first page, the rest on a second one
+     */
+    private static void writePdf(File file, String resume) throws IOException {
+        String[] lines = resume.split("\n");
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = null;
+            PDPageContentStream content = null;
+            try {
+                for (int i = 0; i < lines.length; i++) {
+                    if (i == 0 || i == 4) {
+                        if (content != null) {
+                            content.endText();
+                            content.close();
+                        }
+                        page = new PDPage();
+                        document.addPage(page);
+                        content = new PDPageContentStream(document, page);
+                        content.beginText();
+                        content.setFont(PDType1Font.HELVETICA, 11);
+                        content.setLeading(14);
+                        content.newLineAtOffset(50, 740);
+                    }
+                    content.showText(lines[i]);
+                    content.newLine();
+                }
+                content.endText();
+            } finally {
+                if (content != null) {
+                    content.close();
+                }
+            }
+            document.save(file);
+        }
+    }
+}
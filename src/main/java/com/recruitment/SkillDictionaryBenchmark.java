@@ -0,0 +1,82 @@
+package com.recruitment;
+
+import com.recruitment.parser.ResumeParser;
+import com.recruitment.util.SkillDictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of resume parse time against skill dictionary size.
+ * Grows the bundled dictionary with synthetic skills (each with two aliases) and
+ * reports the compile time and the average full-parse time for each size.
+ *
+ * Usage: SkillDictionaryBenchmark [iterations]
+ */
+public class SkillDictionaryBenchmark {
+    private static final int[] DICTIONARY_SIZES = {60, 1_000, 5_000, 10_000, 20_000};
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        String resume = sampleResume();
+        SkillDictionary bundled = SkillDictionary.current();
+        ResumeParser parser = new ResumeParser();
+
+        System.out.printf("%10s %12s %14s %12s%n", "skills", "keywords", "compile (ms)", "parse (µs)");
+
+        for (int size : DICTIONARY_SIZES) {
+            List<SkillDictionary.Entry> entries = new ArrayList<>(bundled.getEntries());
+            for (int i = entries.size(); i < size; i++) {
+                entries.add(new SkillDictionary.Entry("Skill" + i, "Synthetic",
+                        List.of("skill-" + i + "-alias", "sk" + i)));
+            }
+            List<String> educationKeywords = List.of("bachelor", "master", "phd", "degree", "university", "college");
+
+            long compileStart = System.nanoTime();
+            SkillDictionary dictionary = SkillDictionary.of(entries, educationKeywords);
+            long compileMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - compileStart);
+            SkillDictionary.setCurrent(dictionary);
+
+            // Warm up, then measure
+            for (int i = 0; i < iterations / 4; i++) {
+                parser.parseResumeText(resume);
+            }
+            long start = System.nanoTime();
+            int skillsFound = 0;
+            for (int i = 0; i < iterations; i++) {
+                skillsFound += parser.parseResumeText(resume).getSkillCount();
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+            int keywordCount = entries.stream().mapToInt(e -> e.getNames().size()).sum();
+            System.out.printf("%10d %12d %14d %12.1f   (%d skills/parse)%n",
+                    size, keywordCount, compileMs, micros, skillsFound / iterations);
+        }
+
+        SkillDictionary.setCurrent(bundled);
+    }
+
+    private static String sampleResume() {
+        return """
+            Jane Developer
+            jane.developer@example.com
+            +1-555-0199
+
+            Summary
+            Backend engineer with 7 years of experience building services in Java and Go,
+            deploying on AWS with Docker and Kubernetes. Comfortable with React front ends.
+
+            Experience
+            Senior Engineer, Example Corp, 2019 - present
+            Built REST APIs with Spring and PostgreSQL, CI/CD pipelines in Jenkins, sk1500 tooling.
+            Software Engineer, Sample Inc, 2016 - 2019
+            Python data pipelines with Pandas and NumPy; Redis caching; Agile and Scrum teams.
+
+            Education
+            Bachelor of Science in Computer Science, State University, 2016
+
+            Technical Skills: Java, Go, Python, SQL, Docker, Kubernetes, Terraform
+            """;
+    }
+}
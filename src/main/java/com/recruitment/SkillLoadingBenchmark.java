@@ -0,0 +1,132 @@
+package com.recruitment;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.DatabaseManager;
+import com.recruitment.model.Candidate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of candidate skill loading: one query per candidate (the old N+1 pattern)
+ * against CandidateDAO.findAll(), which loads skills with one IN query per chunk of ids.
+ * Seeds synthetic candidates (removed afterwards) into the configured database and reports
+ * latency and the number of statements the server executed (MySQL "Questions" counter).
+ *
+ * Usage: SkillLoadingBenchmark [candidates] [skills per candidate]
+ */
+public class SkillLoadingBenchmark {
+    private static final String EMAIL_DOMAIN = "@skill-benchmark.invalid";
+    private static final String[] SKILLS = {
+        "Java", "Python", "JavaScript", "SQL", "Docker", "Kubernetes", "AWS", "React",
+        "Spring", "Go", "C++", "Git", "Linux", "Redis", "MongoDB", "Terraform"
+    };
+
+    public static void main(String[] args) throws Exception {
+        int candidateCount = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int skillsPerCandidate = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        dbManager.initializeDatabase();
+        CandidateDAO candidateDAO = new CandidateDAO();
+
+        try {
+            BenchmarkSupport.seed(dbManager, EMAIL_DOMAIN, Arrays.asList(SKILLS), candidateCount, skillsPerCandidate);
+
+            // Warm up both paths once
+            loadOneByOne(dbManager);
+            candidateDAO.findAll();
+
+            long questionsBefore = serverQuestions(dbManager);
+            long start = System.nanoTime();
+            int[] result = loadOneByOne(dbManager);
+            long nPlusOneMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long nPlusOneQuestions = questionsSince(dbManager, questionsBefore);
+
+            questionsBefore = serverQuestions(dbManager);
+            start = System.nanoTime();
+            List<Candidate> candidates = candidateDAO.findAll();
+            long batchedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long batchedQuestions = questionsSince(dbManager, questionsBefore);
+
+            int batchedSkills = candidates.stream().mapToInt(Candidate::getSkillCount).sum();
+
+            System.out.printf("%-22s %10s %10s %12s %10s%n", "", "rows", "skills", "queries", "ms");
+            System.out.printf("%-22s %10d %10d %12s %10d%n", "one query per row",
+                    result[0], result[1], format(nPlusOneQuestions, result[0] + 1), nPlusOneMs);
+            System.out.printf("%-22s %10d %10d %12s %10d%n", "batched IN queries",
+                    candidates.size(), batchedSkills, format(batchedQuestions,
+                            1 + (candidates.size() + 499) / 500), batchedMs);
+            System.out.println("Connection pool: " + dbManager.getConnectionPool().getStatistics());
+        } finally {
+            BenchmarkSupport.cleanUp(dbManager, EMAIL_DOMAIN);
+            dbManager.shutdown();
+        }
+    }
+
+    /**
+     * Old access pattern: list candidates, then one skill query per candidate
+     */
+    private static int[] loadOneByOne(DatabaseManager dbManager) throws SQLException {
+        int rows = 0;
+        int skills = 0;
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement list = connection.prepareStatement("SELECT id FROM candidates ORDER BY created_at DESC");
+             PreparedStatement skillQuery = connection.prepareStatement(
+                     "SELECT s.name FROM candidate_skills cs JOIN skills s ON s.id = cs.skill_id"
+                             + " WHERE cs.candidate_id = ? ORDER BY s.name")) {
+
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet resultSet = list.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+            for (Long id : ids) {
+                skillQuery.setLong(1, id);
+                try (ResultSet resultSet = skillQuery.executeQuery()) {
+                    while (resultSet.next()) {
+                        skills++;
+                    }
+                }
+                rows++;
+            }
+        }
+        return new int[] {rows, skills};
+    }
+
+    /**
+     * Statements executed by the server so far, or -1 if the database does not report it
+     */
+    private static long serverQuestions(DatabaseManager dbManager) {
+        try (Connection connection = dbManager.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW GLOBAL STATUS LIKE 'Questions'")) {
+            return resultSet.next() ? resultSet.getLong(2) : -1;
+        } catch (SQLException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Statements executed since an earlier counter reading, excluding the reading itself
+     */
+    private static long questionsSince(DatabaseManager dbManager, long before) {
+        long after = serverQuestions(dbManager);
+        return before < 0 || after < 0 ? -1 : after - before - 1;
+    }
+
+    private static String format(long measured, long expected) {
+        if (measured >= 0) {
+            return Long.toString(measured);
+        }
+        return expected >= 0 ? "~" + expected : "n/a";
+    }
+}
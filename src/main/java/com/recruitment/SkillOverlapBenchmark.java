@@ -0,0 +1,138 @@
+package com.recruitment;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.CandidateFetchPlan;
+import com.recruitment.database.DatabaseManager;
+import com.recruitment.engine.MatchQuery;
+import com.recruitment.engine.MatchService;
+import com.recruitment.engine.MatchingEngine;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+import com.recruitment.model.SkillOverlap;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark of the SQL skill overlap prefilter (CandidateDAO.findSkillOverlaps) against
+ * scoring a streamed scan of every candidate. Seeds synthetic candidates (removed afterwards)
+ * with skills drawn from the skill dictionary, prints the plan of the overlap lookup to show
+ * it reads idx_candidate_skills_skill_id, then times both paths at several score thresholds.
+ *
+ * Usage: SkillOverlapBenchmark [candidates] [skills per candidate]
+ */
+public class SkillOverlapBenchmark {
+    private static final String EMAIL_DOMAIN = "@overlap-benchmark.invalid";
+    private static final double[] THRESHOLDS = {50, 70, 90};
+
+    public static void main(String[] args) throws Exception {
+        int candidateCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int skillsPerCandidate = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        dbManager.initializeDatabase();
+        CandidateDAO candidateDAO = new CandidateDAO();
+        MatchService matchService = new MatchService();
+        MatchingEngine matchingEngine = new MatchingEngine();
+
+        List<String> vocabulary = BenchmarkSupport.vocabulary(8);
+
+        JobPosting job = new JobPosting("Benchmark Job", "Synthetic job", "Remote", null, null, 3);
+        job.setRequiredSkills(new ArrayList<>(vocabulary.subList(0, 4)));
+        job.setPreferredSkills(new ArrayList<>(vocabulary.subList(4, 6)));
+
+        try {
+            Map<String, Integer> skillIds = BenchmarkSupport.seed(dbManager, EMAIL_DOMAIN, vocabulary, candidateCount,
+                    skillsPerCandidate);
+            List<Integer> requiredIds = new ArrayList<>();
+            job.getRequiredSkills().forEach(skill -> requiredIds.add(skillIds.get(skill)));
+            explain(dbManager, requiredIds);
+
+            Map<String, Integer> required = new LinkedHashMap<>();
+            job.getRequiredSkills().forEach(skill -> required.put(skill, 1));
+            List<String> preferred = job.getPreferredSkills();
+            int[] anyOverlap = new int[preferred.size() + 1];
+
+            // Warm up both paths once
+            candidateDAO.findSkillOverlaps(required, preferred, anyOverlap);
+            scanAboveThreshold(candidateDAO, matchingEngine, job, THRESHOLDS[0]);
+
+            long start = System.nanoTime();
+            List<SkillOverlap> overlaps = candidateDAO.findSkillOverlaps(required, preferred, anyOverlap);
+            System.out.printf("Overlap query alone: %d of %d candidates share a skill, %d ms%n",
+                    overlaps.size(), candidateCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            System.out.printf("%n%-10s %12s %10s %12s %10s%n", "threshold", "scan rows", "scan ms", "prefiltered", "ms");
+            for (double threshold : THRESHOLDS) {
+                start = System.nanoTime();
+                List<MatchResult> scanned = scanAboveThreshold(candidateDAO, matchingEngine, job, threshold);
+                long scanMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                start = System.nanoTime();
+                List<MatchResult> prefiltered = matchService.findMatchesAboveThreshold(job, threshold, MatchQuery.any());
+                long prefilteredMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                if (scanned.size() != prefiltered.size()) {
+                    throw new IllegalStateException("Prefiltered results differ from the scan at threshold " + threshold
+                            + ": " + prefiltered.size() + " vs " + scanned.size());
+                }
+                System.out.printf("%-10.0f %12d %10d %12d %10d%n", threshold, candidateCount, scanMs,
+                        prefiltered.size(), prefilteredMs);
+            }
+            System.out.println("Connection pool: " + dbManager.getConnectionPool().getStatistics());
+        } finally {
+            BenchmarkSupport.cleanUp(dbManager, EMAIL_DOMAIN);
+            dbManager.shutdown();
+        }
+    }
+
+    /**
+     * Old access pattern: load and score every candidate
+     */
+    private static List<MatchResult> scanAboveThreshold(CandidateDAO candidateDAO, MatchingEngine matchingEngine,
+                                                        JobPosting job, double threshold) throws SQLException {
+        try (Stream<Candidate> candidates = candidateDAO.stream(CandidateFetchPlan.SKILLS)) {
+            return matchingEngine.findMatchesAboveThreshold(job, candidates, threshold, MatchQuery.any());
+        }
+    }
+
+    /**
+     * Print the plan of the skill lookup the overlap query is built on
+     */
+    private static void explain(DatabaseManager dbManager, Collection<Integer> skillIds) throws SQLException {
+        StringBuilder sql = new StringBuilder("EXPLAIN SELECT candidate_id, COUNT(*) FROM candidate_skills WHERE skill_id IN (");
+        for (int i = 0; i < skillIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(") GROUP BY candidate_id");
+
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (int skillId : skillIds) {
+                statement.setInt(index++, skillId);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int columns = resultSet.getMetaData().getColumnCount();
+                System.out.println("Plan of the overlap lookup:");
+                while (resultSet.next()) {
+                    StringBuilder row = new StringBuilder("  ");
+                    for (int i = 1; i <= columns; i++) {
+                        row.append(i == 1 ? "" : " | ").append(resultSet.getString(i));
+                    }
+                    System.out.println(row);
+                }
+            }
+        }
+    }
+}
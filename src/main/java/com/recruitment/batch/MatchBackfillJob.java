@@ -0,0 +1,286 @@
+package com.recruitment.batch;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.ConnectionPool;
+import com.recruitment.database.DatabaseManager;
+import com.recruitment.database.JobPostingDAO;
+import com.recruitment.database.MatchResultDAO;
+import com.recruitment.engine.MatchingEngine;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recalculates the stored match result of every candidate x active job pair, e.g. after the
+ * scoring weights in {@link MatchingEngine} changed and {@code SCORING_VERSION} was bumped.
+ *
+ * The matrix is partitioned into chunks of consecutive candidate ids; each chunk is scored
+ * against all active jobs on a fixed pool, one slice of jobs at a time, and each slice's results
+ * are written with batched upserts in one transaction and dropped before the next slice is scored.
+ * At most two chunks per thread are in flight, so memory stays bounded however many jobs are
+ * active. Chunks finish out of order, but the checkpoint only advances past a chunk once every
+ * chunk before it has committed, so a restarted run resumes after the last id known to be
+ * complete. The checkpoint records the scoring version and is ignored if that changed, and is
+ * removed when the job completes.
+ *
+ * The job runs in its own process, so its connection pool and waiting count say nothing about
+ * the application's load. The only throttle that reaches other processes is the duty cycle:
+ * each worker pauses after a chunk so it is busy only for the given share of the time. Within
+ * this process, the workers use at most half of the pool and new chunks are held back while
+ * another caller is waiting for a connection.
+ *
+ * Usage: MatchBackfillJob [checkpoint file] [threads] [chunk size] [duty cycle 0-1]
+ */
+public class MatchBackfillJob {
+    private static final String DEFAULT_CHECKPOINT_FILE = "match-backfill.checkpoint";
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final double DEFAULT_DUTY_CYCLE = 0.5;
+    private static final long BACKOFF_MILLIS = 50;
+    // Results scored and held per chunk before they are written
+    private static final int RESULTS_PER_WRITE = 5_000;
+
+    private final DatabaseManager dbManager;
+    private final CandidateDAO candidateDAO;
+    private final JobPostingDAO jobPostingDAO;
+    private final MatchResultDAO matchResultDAO;
+    private final MatchingEngine matchingEngine;
+    private final Path checkpointFile;
+    private final int threads;
+    private final int chunkSize;
+    private final double dutyCycle;
+
+    private final AtomicLong candidatesScored = new AtomicLong();
+    private final AtomicLong resultsWritten = new AtomicLong();
+
+    public MatchBackfillJob(Path checkpointFile, int threads, int chunkSize, double dutyCycle) {
+        if (threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Threads and chunk size must be positive");
+        }
+        if (dutyCycle <= 0 || dutyCycle > 1) {
+            throw new IllegalArgumentException("Duty cycle must be greater than 0 and at most 1");
+        }
+        this.dbManager = DatabaseManager.getInstance();
+        this.candidateDAO = new CandidateDAO();
+        this.jobPostingDAO = new JobPostingDAO();
+        this.matchResultDAO = new MatchResultDAO();
+        this.matchingEngine = new MatchingEngine();
+        this.checkpointFile = checkpointFile;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.dutyCycle = dutyCycle;
+    }
+
+    public static void main(String[] args) {
+        Path checkpointFile = Paths.get(args.length > 0 ? args[0] : DEFAULT_CHECKPOINT_FILE);
+        int threads = args.length > 1 ? Integer.parseInt(args[1])
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        int chunkSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CHUNK_SIZE;
+        double dutyCycle = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_DUTY_CYCLE;
+
+        try {
+            new MatchBackfillJob(checkpointFile, threads, chunkSize, dutyCycle).run();
+        } catch (Exception e) {
+            System.err.println("Match backfill failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Run the backfill from the last checkpoint to the end of the candidates table
+     */
+    public void run() throws SQLException, IOException, InterruptedException {
+        List<JobPosting> jobs = jobPostingDAO.findActive();
+        if (jobs.isEmpty()) {
+            System.out.println("No active job postings, nothing to backfill");
+            Files.deleteIfExists(checkpointFile);
+            return;
+        }
+
+        long lastId = readCheckpoint();
+        if (lastId > 0) {
+            System.out.println("Resuming match backfill after candidate id " + lastId);
+        }
+
+        ConnectionPool pool = dbManager.getConnectionPool();
+        int poolThreads = Math.max(1, Math.min(threads, pool.getMaxActive() / 2));
+        int maxInFlight = poolThreads * 2;
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(poolThreads);
+        Deque<Future<Long>> inFlight = new ArrayDeque<>();
+
+        try {
+            List<Long> chunk = nextChunk(lastId);
+            while (!chunk.isEmpty()) {
+                if (inFlight.size() >= maxInFlight) {
+                    completeOldest(inFlight);
+                }
+                // Waiters in this process only; other processes are spared by the duty cycle
+                while (pool.getWaitingCount() > 0) {
+                    Thread.sleep(BACKOFF_MILLIS);
+                }
+
+                List<Long> ids = chunk;
+                inFlight.addLast(executor.submit(() -> processChunk(ids, jobs)));
+                chunk = nextChunk(ids.get(ids.size() - 1));
+            }
+            while (!inFlight.isEmpty()) {
+                completeOldest(inFlight);
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        Files.deleteIfExists(checkpointFile);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.printf("Match backfill complete: %d candidates x %d jobs, %d results written in %d ms%n",
+                candidatesScored.get(), jobs.size(), resultsWritten.get(), elapsedMs);
+    }
+
+    /**
+     * Wait for the oldest chunk in flight and move the checkpoint past it
+     */
+    private void completeOldest(Deque<Future<Long>> inFlight) throws SQLException, IOException, InterruptedException {
+        long completedId;
+        try {
+            completedId = inFlight.removeFirst().get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new IllegalStateException("Backfill chunk failed", cause);
+        }
+
+        writeCheckpoint(completedId);
+        System.out.printf("Backfilled up to candidate id %d (%d candidates, %d results)%n",
+                completedId, candidatesScored.get(), resultsWritten.get());
+    }
+
+    /**
+     * IDs of the next chunk of candidates after the given id
+     */
+    private List<Long> nextChunk(long afterId) throws SQLException {
+        String sql = "SELECT id FROM candidates WHERE id > ? ORDER BY id LIMIT ?";
+
+        List<Long> ids = new ArrayList<>(chunkSize);
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, afterId);
+            statement.setInt(2, chunkSize);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Score one chunk against every job, a slice of jobs at a time, store the results and pause
+     * for the throttle; returns the last candidate id of the chunk
+     */
+    private long processChunk(List<Long> ids, List<JobPosting> jobs) throws SQLException, InterruptedException {
+        long chunkStart = System.nanoTime();
+
+        List<Candidate> candidates = candidateDAO.findByIds(ids);
+        if (!candidates.isEmpty()) {
+            int jobsPerSlice = Math.max(1, RESULTS_PER_WRITE / candidates.size());
+            for (int from = 0; from < jobs.size(); from += jobsPerSlice) {
+                List<JobPosting> slice = jobs.subList(from, Math.min(from + jobsPerSlice, jobs.size()));
+                List<MatchResult> results = new ArrayList<>(candidates.size() * slice.size());
+                for (JobPosting jobPosting : slice) {
+                    for (Candidate candidate : candidates) {
+                        results.add(matchingEngine.calculateMatch(candidate, jobPosting));
+                    }
+                }
+                matchResultDAO.saveAll(results, MatchingEngine.SCORING_VERSION);
+                resultsWritten.addAndGet(results.size());
+            }
+        }
+
+        candidatesScored.addAndGet(candidates.size());
+
+        // Idle so this worker is busy for only dutyCycle of the time
+        long busyNanos = System.nanoTime() - chunkStart;
+        long pauseNanos = (long) (busyNanos * (1 - dutyCycle) / dutyCycle);
+        if (pauseNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+        }
+        return ids.get(ids.size() - 1);
+    }
+
+    /**
+     * Read the last completed candidate id, or 0 when starting fresh or the scoring version changed
+     */
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String content = Files.readString(checkpointFile, StandardCharsets.UTF_8).trim();
+        if (content.isEmpty()) {
+            return 0;
+        }
+        String[] parts = content.split(":");
+        try {
+            if (parts.length != 2) {
+                throw new NumberFormatException("expected <scoring version>:<candidate id>");
+            }
+            if (Integer.parseInt(parts[0]) != MatchingEngine.SCORING_VERSION) {
+                System.out.println("Scoring version changed since the checkpoint, starting over");
+                return 0;
+            }
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid checkpoint file " + checkpointFile + ": " + content, e);
+        }
+    }
+
+    /**
+     * Write the checkpoint through a temp file so a crash never leaves a torn checkpoint
+     */
+    private void writeCheckpoint(long lastId) throws IOException {
+        Path absolute = checkpointFile.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.writeString(temp, MatchingEngine.SCORING_VERSION + ":" + lastId, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public long getCandidatesScored() {
+        return candidatesScored.get();
+    }
+
+    public long getResultsWritten() {
+        return resultsWritten.get();
+    }
+}
@@ -0,0 +1,87 @@
+package com.recruitment.batch;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.CandidateFetchPlan;
+import com.recruitment.database.JobPostingDAO;
+import com.recruitment.engine.AllPairsMatcher;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.util.ExcelExporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Nightly match report: the best candidates for every active job and the best active jobs for
+ * every candidate, written to one Excel workbook. Both sides come from a single
+ * {@link AllPairsMatcher} sweep instead of one findBestMatches call per job.
+ *
+ * Usage: MatchReportJob [output file] [candidates per job] [jobs per candidate] [threads]
+ */
+public class MatchReportJob {
+    private static final int DEFAULT_CANDIDATES_PER_JOB = 10;
+    private static final int DEFAULT_JOBS_PER_CANDIDATE = 3;
+
+    private final CandidateDAO candidateDAO;
+    private final JobPostingDAO jobPostingDAO;
+    private final AllPairsMatcher allPairsMatcher;
+    private final File outputFile;
+    private final int candidatesPerJob;
+    private final int jobsPerCandidate;
+
+    public MatchReportJob(File outputFile, int candidatesPerJob, int jobsPerCandidate, int threads) {
+        if (outputFile == null) {
+            throw new IllegalArgumentException("Output file cannot be null");
+        }
+        if (candidatesPerJob < 1 || jobsPerCandidate < 1) {
+            throw new IllegalArgumentException("Matches per job and per candidate must be positive");
+        }
+        this.candidateDAO = new CandidateDAO();
+        this.jobPostingDAO = new JobPostingDAO();
+        this.allPairsMatcher = new AllPairsMatcher(threads);
+        this.outputFile = outputFile;
+        this.candidatesPerJob = candidatesPerJob;
+        this.jobsPerCandidate = jobsPerCandidate;
+    }
+
+    public static void main(String[] args) {
+        File outputFile = new File(args.length > 0 ? args[0]
+                : "exports/" + ExcelExporter.getDefaultMatchReportFilename());
+        int candidatesPerJob = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CANDIDATES_PER_JOB;
+        int jobsPerCandidate = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_JOBS_PER_CANDIDATE;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        try {
+            new MatchReportJob(outputFile, candidatesPerJob, jobsPerCandidate, threads).run();
+        } catch (Exception e) {
+            System.err.println("Match report failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Score all candidates against all active jobs and write the report
+     */
+    public void run() throws SQLException, IOException, InterruptedException {
+        List<JobPosting> jobs = jobPostingDAO.findActive();
+        List<Candidate> candidates = candidateDAO.findAll(CandidateFetchPlan.SKILLS);
+        if (jobs.isEmpty() || candidates.isEmpty()) {
+            System.out.println("No candidates or active job postings, nothing to report");
+            return;
+        }
+
+        AllPairsMatcher.Result result = allPairsMatcher.match(candidates, jobs, candidatesPerJob, jobsPerCandidate);
+        System.out.printf("Scored %d pairs (%d candidates x %d jobs) in %d ms%n", result.getPairsScored(),
+                candidates.size(), jobs.size(), result.getElapsedMillis());
+
+        File directory = outputFile.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create directory " + directory);
+        }
+        ExcelExporter.exportMatchReport(result.getCandidatesByJob(), result.getJobsByCandidate(), outputFile);
+        System.out.println("Match report written to " + outputFile);
+    }
+}
@@ -0,0 +1,466 @@
+package com.recruitment.batch;
+
+import com.recruitment.database.ChangeEvent;
+import com.recruitment.database.ChangeEventBus;
+import com.recruitment.database.DatabaseManager;
+import com.recruitment.database.SkillDAO;
+import com.recruitment.model.Candidate;
+import com.recruitment.parser.ResumeParser;
+import com.recruitment.util.SkillDictionary;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-runs the extractor over the resume text already stored in {@code candidates.resume_text},
+ * so that changed extraction rules or dictionary entries reach existing candidates without
+ * re-uploading their files.
+ *
+ * Rows are streamed in id order with a server-side cursor and parsed in parallel, one chunk
+ * at a time. Only education, experience and skills are re-extracted (contact details may have
+ * been corrected by hand), and only the values that actually changed are written back, with
+ * one batched row update and batched skill statements in one transaction per chunk. Skills are
+ * only added, or removed if the parser added them; links entered by hand stay. After each
+ * chunk commits, the last processed id is written to a checkpoint file, so a crashed run
+ * resumes where it stopped. Resumes that fail to parse are recorded next to the checkpoint
+ * and retried first by the next run. The checkpoint is removed once a run completes without
+ * failures.
+ *
+ * Usage: ResumeReextractionJob [checkpoint file] [threads] [chunk size]
+ */
+public class ResumeReextractionJob {
+    private static final String DEFAULT_CHECKPOINT_FILE = "reextraction.checkpoint";
+    private static final int DEFAULT_CHUNK_SIZE = 200;
+
+    private final DatabaseManager dbManager;
+    private final ResumeParser resumeParser;
+    private final Path checkpointFile;
+    private final Path failedFile;
+    private final int threads;
+    private final int chunkSize;
+
+    private int scanned;
+    private int updated;
+    private int failed;
+    // Candidates whose resume failed to parse, kept for retry
+    private final Set<Long> failedIds = new LinkedHashSet<>();
+
+    public ResumeReextractionJob(Path checkpointFile, int threads, int chunkSize) {
+        if (threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("Threads and chunk size must be positive");
+        }
+        this.dbManager = DatabaseManager.getInstance();
+        this.resumeParser = new ResumeParser();
+        this.checkpointFile = checkpointFile;
+        this.failedFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".failed");
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    public static void main(String[] args) {
+        Path checkpointFile = Paths.get(args.length > 0 ? args[0] : DEFAULT_CHECKPOINT_FILE);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int chunkSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CHUNK_SIZE;
+
+        try {
+            new ResumeReextractionJob(checkpointFile, threads, chunkSize).run();
+        } catch (Exception e) {
+            System.err.println("Re-extraction failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Run the job from the last checkpoint to the end of the candidates table
+     */
+    public void run() throws SQLException, IOException, InterruptedException {
+        long lastId = readCheckpoint();
+        if (lastId > 0) {
+            failedIds.addAll(readFailedIds());
+            System.out.println("Resuming re-extraction after candidate id " + lastId);
+        }
+
+        String sql = """
+            SELECT id, education, experience_years, resume_text
+            FROM candidates
+            WHERE id > ? AND resume_text IS NOT NULL
+            ORDER BY id
+            """;
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // The streaming result set keeps its connection busy, so writes use a second one
+        try (Connection readConnection = dbManager.getConnection();
+             Connection writeConnection = dbManager.getConnection();
+             PreparedStatement statement = readConnection.prepareStatement(sql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            retryFailed(executor, writeConnection, lastId);
+
+            // Stream rows instead of buffering the whole table
+            statement.setFetchSize(dbManager.getDialect().getStreamingFetchSize());
+            statement.setLong(1, lastId);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<StoredResume> chunk = new ArrayList<>(chunkSize);
+                while (resultSet.next()) {
+                    chunk.add(readResume(resultSet));
+
+                    if (chunk.size() == chunkSize) {
+                        lastId = advance(chunk, executor, writeConnection);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    lastId = advance(chunk, executor, writeConnection);
+                }
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.printf("Re-extraction complete: %d scanned, %d updated, %d failed in %d ms%n",
+                scanned, updated, failed, elapsedMs);
+        if (failedIds.isEmpty()) {
+            Files.deleteIfExists(checkpointFile);
+        } else {
+            // Keep the checkpoint, so the next run retries these before scanning newer rows
+            System.err.println("Warning: " + failedIds.size() + " resumes failed to re-parse; their ids are kept in "
+                    + failedFile + " for the next run");
+        }
+    }
+
+    /**
+     * Re-parse the candidates recorded as failed by an earlier run, one chunk at a time
+     */
+    private void retryFailed(ExecutorService executor, Connection connection, long lastId)
+            throws SQLException, IOException, InterruptedException {
+        if (failedIds.isEmpty()) {
+            return;
+        }
+        System.out.println("Retrying " + failedIds.size() + " resumes that failed to re-parse");
+
+        List<Long> ids = new ArrayList<>(failedIds);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            StringBuilder sql = new StringBuilder("SELECT id, education, experience_years, resume_text"
+                    + " FROM candidates WHERE resume_text IS NOT NULL AND id IN (");
+            for (int i = 0; i < batch.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(") ORDER BY id");
+
+            List<StoredResume> chunk = new ArrayList<>(batch.size());
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                for (int i = 0; i < batch.size(); i++) {
+                    statement.setLong(i + 1, batch.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        chunk.add(readResume(resultSet));
+                    }
+                }
+            }
+
+            // Candidates deleted meanwhile need no retry; the others are recorded again if they fail
+            failedIds.removeAll(batch);
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, executor, connection);
+            }
+            saveProgress(lastId);
+        }
+    }
+
+    private static StoredResume readResume(ResultSet resultSet) throws SQLException {
+        return new StoredResume(
+                resultSet.getLong("id"),
+                resultSet.getString("education"),
+                resultSet.getInt("experience_years"),
+                resultSet.getString("resume_text"));
+    }
+
+    /**
+     * Process the next chunk of the scan and move the checkpoint past it; returns its last id
+     */
+    private long advance(List<StoredResume> chunk, ExecutorService executor, Connection connection)
+            throws SQLException, IOException, InterruptedException {
+        processChunk(chunk, executor, connection);
+        long lastId = chunk.get(chunk.size() - 1).id;
+        saveProgress(lastId);
+        System.out.printf("Processed up to candidate id %d (%d scanned, %d updated)%n", lastId, scanned, updated);
+        return lastId;
+    }
+
+    /**
+     * Parse a chunk in parallel and write back the differences in one transaction
+     */
+    private void processChunk(List<StoredResume> chunk, ExecutorService executor, Connection connection)
+            throws SQLException, IOException, InterruptedException {
+        List<Callable<Candidate>> tasks = new ArrayList<>(chunk.size());
+        for (StoredResume resume : chunk) {
+            tasks.add(() -> resumeParser.parseResumeText(resume.resumeText));
+        }
+        List<Future<Candidate>> results = executor.invokeAll(tasks);
+
+        Map<Long, Map<String, Boolean>> storedSkills = loadSkills(connection, chunk);
+        SkillDictionary dictionary = SkillDictionary.current();
+
+        // One write per changed row; a column is only set when its flag is, so an unchanged
+        // value edited meanwhile is not overwritten with the one read for this chunk
+        String updateSql = """
+            UPDATE candidates
+            SET education = CASE WHEN ? THEN ? ELSE education END,
+                experience_years = CASE WHEN ? THEN ? ELSE experience_years END,
+                updated_at = ?
+            WHERE id = ?
+            """;
+        String deleteSkillSql = "DELETE FROM candidate_skills WHERE candidate_id = ?"
+                + " AND skill_id = (SELECT id FROM skills WHERE name = ?) AND extracted = TRUE";
+        String insertSkillSql = "INSERT INTO candidate_skills (candidate_id, skill_id, extracted) VALUES (?, ?, TRUE)";
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement updateStatement = connection.prepareStatement(updateSql);
+             PreparedStatement deleteSkillStatement = connection.prepareStatement(deleteSkillSql);
+             PreparedStatement insertSkillStatement = connection.prepareStatement(insertSkillSql)) {
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            List<ChangeEvent> events = new ArrayList<>();
+            // Skill links to add, bound once the whole chunk's skill ids are resolved
+            List<Long> insertOwners = new ArrayList<>();
+            List<String> insertSkills = new ArrayList<>();
+
+            for (int i = 0; i < chunk.size(); i++) {
+                StoredResume stored = chunk.get(i);
+                Candidate parsed;
+                try {
+                    parsed = results.get(i).get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    failedIds.add(stored.id);
+                    System.err.println("Warning: Failed to re-parse candidate " + stored.id + ": "
+                            + e.getCause().getMessage());
+                    continue;
+                }
+
+                boolean educationChanged = !Objects.equals(parsed.getEducation(), stored.education);
+                boolean experienceChanged = parsed.getExperienceYears() != stored.experienceYears;
+                List<String> addedSkills = new ArrayList<>();
+                List<String> removedSkills = new ArrayList<>();
+
+                // Diff skills so untouched rows are left alone; links entered by hand are never removed
+                Map<String, Boolean> oldSkills = storedSkills.getOrDefault(stored.id, Map.of());
+                List<String> newSkills = dictionary.canonicalize(parsed.getSkills());
+                // Compared by key, as a stored name may differ from the canonical one in case only
+                Set<String> oldKeys = new HashSet<>();
+                oldSkills.keySet().forEach(skill -> oldKeys.add(SkillDictionary.normalizeKey(skill)));
+                Set<String> newKeys = new HashSet<>();
+                newSkills.forEach(skill -> newKeys.add(SkillDictionary.normalizeKey(skill)));
+
+                for (Map.Entry<String, Boolean> skill : oldSkills.entrySet()) {
+                    if (skill.getValue() && !newKeys.contains(SkillDictionary.normalizeKey(skill.getKey()))) {
+                        deleteSkillStatement.setLong(1, stored.id);
+                        deleteSkillStatement.setString(2, skill.getKey());
+                        deleteSkillStatement.addBatch();
+                        removedSkills.add(skill.getKey());
+                    }
+                }
+                for (String skill : newSkills) {
+                    if (!oldKeys.contains(SkillDictionary.normalizeKey(skill))) {
+                        insertOwners.add(stored.id);
+                        insertSkills.add(skill);
+                        addedSkills.add(skill);
+                    }
+                }
+
+                boolean changed = educationChanged || experienceChanged
+                        || !addedSkills.isEmpty() || !removedSkills.isEmpty();
+                if (changed) {
+                    // Also for a skill-only change: updated_at is the version caches and stored matches use
+                    updateStatement.setBoolean(1, educationChanged);
+                    updateStatement.setString(2, parsed.getEducation());
+                    updateStatement.setBoolean(3, experienceChanged);
+                    updateStatement.setInt(4, parsed.getExperienceYears());
+                    updateStatement.setTimestamp(5, now);
+                    updateStatement.setLong(6, stored.id);
+                    updateStatement.addBatch();
+
+                    events.add(new ChangeEvent(ChangeEvent.EntityType.CANDIDATE, ChangeEvent.Type.UPDATED,
+                            stored.id, addedSkills, removedSkills));
+                }
+            }
+
+            Map<String, Integer> skillIds = SkillDAO.storeIds(connection, insertSkills);
+            for (int i = 0; i < insertSkills.size(); i++) {
+                insertSkillStatement.setLong(1, insertOwners.get(i));
+                insertSkillStatement.setInt(2, skillIds.get(insertSkills.get(i)));
+                insertSkillStatement.addBatch();
+            }
+
+            updateStatement.executeBatch();
+            deleteSkillStatement.executeBatch();
+            insertSkillStatement.executeBatch();
+            connection.commit();
+
+            scanned += chunk.size();
+            updated += events.size();
+            ChangeEventBus.getInstance().publishAll(events);
+        } catch (Exception e) {
+            // Whatever failed, undo the chunk, including skills storeIds already inserted
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Load the stored skills of every candidate in the chunk with one query, each with whether
+     * re-extraction added it
+     */
+    private Map<Long, Map<String, Boolean>> loadSkills(Connection connection, List<StoredResume> chunk) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT cs.candidate_id, s.name AS skill, cs.extracted FROM candidate_skills cs"
+                + " JOIN skills s ON s.id = cs.skill_id WHERE cs.candidate_id IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+
+        Map<Long, Map<String, Boolean>> skills = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < chunk.size(); i++) {
+                statement.setLong(i + 1, chunk.get(i).id);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    skills.computeIfAbsent(resultSet.getLong("candidate_id"), id -> new HashMap<>())
+                            .put(resultSet.getString("skill"), resultSet.getBoolean("extracted"));
+                }
+            }
+        }
+        return skills;
+    }
+
+    /**
+     * Read the last processed candidate id, or 0 when starting fresh
+     */
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String content = Files.readString(checkpointFile, StandardCharsets.UTF_8).trim();
+        try {
+            return content.isEmpty() ? 0 : Long.parseLong(content);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid checkpoint file " + checkpointFile + ": " + content, e);
+        }
+    }
+
+    /**
+     * Read the ids recorded as failed by the run being resumed
+     */
+    private List<Long> readFailedIds() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        if (!Files.exists(failedFile)) {
+            return ids;
+        }
+        for (String line : Files.readAllLines(failedFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ids.add(Long.parseLong(line.trim()));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid failed-ids file " + failedFile + ": " + line, e);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Record the failed ids, then the checkpoint, so no failure is ever left behind the checkpoint
+     */
+    private void saveProgress(long lastId) throws IOException {
+        if (failedIds.isEmpty()) {
+            Files.deleteIfExists(failedFile);
+        } else {
+            StringBuilder content = new StringBuilder();
+            failedIds.forEach(id -> content.append(id).append('\n'));
+            writeAtomically(failedFile, content.toString());
+        }
+        writeAtomically(checkpointFile, Long.toString(lastId));
+    }
+
+    /**
+     * Write a file through a temp file so a crash never leaves it torn
+     */
+    private static void writeAtomically(Path file, String content) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.writeString(temp, content, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public int getScanned() {
+        return scanned;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * Stored values of one candidate row
+     */
+    private static final class StoredResume {
+        private final long id;
+        private final String education;
+        private final int experienceYears;
+        private final String resumeText;
+
+        private StoredResume(long id, String education, int experienceYears, String resumeText) {
+            this.id = id;
+            this.education = education;
+            this.experienceYears = experienceYears;
+            this.resumeText = resumeText;
+        }
+    }
+}
@@ -1,23 +1,55 @@
 package com.recruitment.database;
 
 import com.recruitment.model.Candidate;
+import com.recruitment.model.CandidateLoader;
+import com.recruitment.model.CandidateSummary;
+import com.recruitment.model.SkillOverlap;
+import com.recruitment.util.SkillDictionary;
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Data Access Object for Candidate operations
  */
 public class CandidateDAO {
+    // Candidate ids per skill query when loading skills for a list of candidates
+    static final int SKILL_QUERY_BATCH_SIZE = 500;
+    
+    // Candidates per transaction in saveAll; 9 parameters per row keeps the maximum under MySQL's 65,535 placeholder limit
+    public static final int DEFAULT_SAVE_BATCH_SIZE = 500;
+    public static final int MAX_SAVE_BATCH_SIZE = 5_000;
+    private static final int SKILL_INSERT_ROWS = 1_000;
+    
+    // Results returned by search(String) when no limit is given
+    public static final int DEFAULT_SEARCH_LIMIT = 200;
+    
+    // Shared by all DAO instances; every committed candidate write publishes a ChangeEvent that evicts the entry
+    private static final EntityCache<Candidate> cache = createCache();
+    
     private final DatabaseManager dbManager;
+    private final ChangeEventBus eventBus;
     
     public CandidateDAO() {
         this.dbManager = DatabaseManager.getInstance();
+        this.eventBus = ChangeEventBus.getInstance();
     }
     
     /**
-     * Save a new candidate to the database
+     * Save a new candidate and its skills in one transaction
      */
     public Long save(Candidate candidate) throws SQLException {
         if (candidate == null) {
@@ -25,46 +57,188 @@ public class CandidateDAO {
         }
         
         String sql = """
-        INSERT INTO candidates (name, email, phone, education, experience_years, resume_text, created_at, updated_at)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        INSERT INTO candidates (name, email, phone, education, experience_years, resume_text, parse_status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            statement.setString(1, candidate.getName());
-            statement.setString(2, candidate.getEmail());
-            statement.setString(3, candidate.getPhone());
-            statement.setString(4, candidate.getEducation());
-            statement.setInt(5, candidate.getExperienceYears());
-            statement.setString(6, candidate.getResumeText());
-            statement.setTimestamp(7, Timestamp.valueOf(candidate.getCreatedAt()));
-            statement.setTimestamp(8, Timestamp.valueOf(candidate.getUpdatedAt()));
+        try (Connection connection = dbManager.getConnection()) {
+            connection.setAutoCommit(false);
             
-            int affectedRows = statement.executeUpdate();
-            
-            if (affectedRows == 0) {
-                throw new SQLException("Creating candidate failed, no rows affected");
-            }
-            
-            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                setCandidateParameters(statement, 1, candidate);
+                
+                int affectedRows = statement.executeUpdate();
+                
+                if (affectedRows == 0) {
+                    throw new SQLException("Creating candidate failed, no rows affected");
+                }
+                
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (!generatedKeys.next()) {
+                        throw new SQLException("Creating candidate failed, no ID obtained");
+                    }
                     Long candidateId = generatedKeys.getLong(1);
-                    candidate.setId(candidateId);
                     
                     // Save skills
-                    saveSkills(candidateId, candidate.getSkills());
+                    saveSkills(connection, candidateId, candidate.getSkills(), candidate.isSkillsExtracted());
                     
+                    connection.commit();
+                    candidate.setId(candidateId);
+                    eventBus.publish(new ChangeEvent(ChangeEvent.EntityType.CANDIDATE, ChangeEvent.Type.CREATED,
+                            candidateId, SkillDictionary.current().canonicalize(candidate.getSkills()), null));
                     return candidateId;
-                } else {
-                    throw new SQLException("Creating candidate failed, no ID obtained");
                 }
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
             }
         }
     }
     
     /**
-     * Update an existing candidate
+     * Save many candidates with the default batch size
+     */
+    public List<Long> saveAll(List<Candidate> candidates) throws SQLException {
+        return saveAll(candidates, DEFAULT_SAVE_BATCH_SIZE);
+    }
+    
+    /**
+     * Save many candidates and their skills. Each batch is written with one multi-row
+     * INSERT for candidates and multi-row INSERTs for skills, in its own transaction,
+     * so a failure rolls back only the failing batch (earlier batches stay committed).
+     * Generated ids are set on the candidates and returned in input order.
+     */
+    public List<Long> saveAll(List<Candidate> candidates, int batchSize) throws SQLException {
+        if (candidates == null) {
+            throw new IllegalArgumentException("Candidates cannot be null");
+        }
+        if (batchSize < 1 || batchSize > MAX_SAVE_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_SAVE_BATCH_SIZE);
+        }
+        
+        List<Long> ids = new ArrayList<>(candidates.size());
+        if (candidates.isEmpty()) {
+            return ids;
+        }
+        
+        try (Connection connection = dbManager.getConnection()) {
+            connection.setAutoCommit(false);
+            
+            for (int from = 0; from < candidates.size(); from += batchSize) {
+                List<Candidate> batch = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+                try {
+                    List<Long> batchIds = insertCandidates(connection, batch);
+                    insertSkills(connection, batch, batchIds);
+                    connection.commit();
+                    
+                    List<ChangeEvent> events = new ArrayList<>(batch.size());
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).setId(batchIds.get(i));
+                        events.add(ChangeEvent.candidate(ChangeEvent.Type.CREATED, batchIds.get(i)));
+                    }
+                    ids.addAll(batchIds);
+                    eventBus.publishAll(events);
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw new SQLException("Saving candidates failed in batch starting at index " + from
+                            + " (" + ids.size() + " saved before it): " + e.getMessage(), e.getSQLState(), e);
+                }
+            }
+        }
+        
+        return ids;
+    }
+    
+    /**
+     * Insert one batch of candidates with a multi-row INSERT and return their ids in order
+     */
+    private List<Long> insertCandidates(Connection connection, List<Candidate> batch) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO candidates (name, email, phone, education, experience_years, resume_text, parse_status, created_at, updated_at)
+            VALUES """);
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? " " : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+        
+        List<Long> ids = new ArrayList<>(batch.size());
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
+            int index = 1;
+            for (Candidate candidate : batch) {
+                index = setCandidateParameters(statement, index, candidate);
+            }
+            statement.executeUpdate();
+            
+            // A multi-row INSERT with a known row count gets consecutive ids, returned in row order
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                while (generatedKeys.next()) {
+                    ids.add(generatedKeys.getLong(1));
+                }
+            }
+        }
+        
+        if (ids.size() != batch.size()) {
+            throw new SQLException("Creating candidates failed, expected " + batch.size()
+                    + " generated IDs but got " + ids.size());
+        }
+        return ids;
+    }
+    
+    /**
+     * Insert the canonical skills of a batch with multi-row INSERTs
+     */
+    private void insertSkills(Connection connection, List<Candidate> batch, List<Long> ids) throws SQLException {
+        List<Long> skillOwners = new ArrayList<>();
+        List<Boolean> skillExtracted = new ArrayList<>();
+        List<String> skills = new ArrayList<>();
+        SkillDictionary dictionary = SkillDictionary.current();
+        for (int i = 0; i < batch.size(); i++) {
+            for (String skill : dictionary.canonicalize(batch.get(i).getSkills())) {
+                skillOwners.add(ids.get(i));
+                skillExtracted.add(batch.get(i).isSkillsExtracted());
+                skills.add(skill);
+            }
+        }
+        Map<String, Integer> skillIds = SkillDAO.storeIds(connection, skills);
+        
+        for (int from = 0; from < skills.size(); from += SKILL_INSERT_ROWS) {
+            int to = Math.min(from + SKILL_INSERT_ROWS, skills.size());
+            StringBuilder sql = new StringBuilder("INSERT INTO candidate_skills (candidate_id, skill_id, extracted) VALUES ");
+            for (int i = from; i < to; i++) {
+                sql.append(i == from ? "(?, ?, ?)" : ", (?, ?, ?)");
+            }
+            
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (int i = from; i < to; i++) {
+                    statement.setLong(index++, skillOwners.get(i));
+                    statement.setInt(index++, skillIds.get(skills.get(i)));
+                    statement.setBoolean(index++, skillExtracted.get(i));
+                }
+                statement.executeUpdate();
+            }
+        }
+    }
+    
+    /**
+     * Bind the nine INSERT columns of a candidate starting at the given index; returns the next index
+     */
+    private int setCandidateParameters(PreparedStatement statement, int index, Candidate candidate) throws SQLException {
+        statement.setString(index++, candidate.getName());
+        statement.setString(index++, candidate.getEmail());
+        statement.setString(index++, candidate.getPhone());
+        statement.setString(index++, candidate.getEducation());
+        statement.setInt(index++, candidate.getExperienceYears());
+        statement.setString(index++, candidate.getResumeText());
+        statement.setString(index++, candidate.getParseStatus());
+        statement.setTimestamp(index++, Timestamp.valueOf(candidate.getCreatedAt()));
+        // Microseconds, which the column keeps as given instead of rounding
+        statement.setTimestamp(index++, Timestamp.valueOf(candidate.getUpdatedAt().truncatedTo(ChronoUnit.MICROS)));
+        return index;
+    }
+    
+    /**
+     * Update an existing candidate. Skills are diffed against the stored set and only the
+     * additions and removals are written, in the same transaction as the candidate row.
      */
     public void update(Candidate candidate) throws SQLException {
         if (candidate == null || candidate.getId() == null) {
@@ -74,32 +248,49 @@ public class CandidateDAO {
         String sql = """
             UPDATE candidates 
             SET name = ?, email = ?, phone = ?, education = ?, experience_years = ?, 
-                resume_text = ?, updated_at = ?
+                resume_text = ?, parse_status = ?, updated_at = ?
             WHERE id = ?
             """;
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-            
-            statement.setString(1, candidate.getName());
-            statement.setString(2, candidate.getEmail());
-            statement.setString(3, candidate.getPhone());
-            statement.setString(4, candidate.getEducation());
-            statement.setInt(5, candidate.getExperienceYears());
-            statement.setString(6, candidate.getResumeText());
-            statement.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
-            statement.setLong(8, candidate.getId());
-            
-            int affectedRows = statement.executeUpdate();
+        SkillDiff skillDiff;
+        // Microseconds, so the version kept on the candidate equals the stored one
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        
+        try (Connection connection = dbManager.getConnection()) {
+            connection.setAutoCommit(false);
             
-            if (affectedRows == 0) {
-                throw new SQLException("Updating candidate failed, candidate not found");
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, candidate.getName());
+                statement.setString(2, candidate.getEmail());
+                statement.setString(3, candidate.getPhone());
+                statement.setString(4, candidate.getEducation());
+                statement.setInt(5, candidate.getExperienceYears());
+                statement.setString(6, candidate.getResumeText());
+                statement.setString(7, candidate.getParseStatus());
+                statement.setTimestamp(8, Timestamp.valueOf(updatedAt));
+                statement.setLong(9, candidate.getId());
+                
+                int affectedRows = statement.executeUpdate();
+                
+                if (affectedRows == 0) {
+                    throw new SQLException("Updating candidate failed, candidate not found");
+                }
+                
+                // Update skills
+                skillDiff = SkillDiff.of(findSkillsByCandidateId(connection, candidate.getId()),
+                        SkillDictionary.current().canonicalize(candidate.getSkills()));
+                applySkillDiff(connection, candidate.getId(), skillDiff, candidate.isSkillsExtracted());
+                
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
             }
-            
-            // Update skills
-            deleteSkills(candidate.getId());
-            saveSkills(candidate.getId(), candidate.getSkills());
         }
+        
+        candidate.setUpdatedAt(updatedAt);
+        eventBus.publish(new ChangeEvent(ChangeEvent.EntityType.CANDIDATE, ChangeEvent.Type.UPDATED,
+                candidate.getId(), skillDiff.getAdded(), skillDiff.getRemoved()));
     }
     
     /**
@@ -110,11 +301,17 @@ public class CandidateDAO {
             return null;
         }
         
+        Candidate cached = cache.get(id, this::findUpdatedAt);
+        if (cached != null) {
+            return cached;
+        }
+        
         String sql = """
-            SELECT id, name, email, phone, education, experience_years, resume_text, created_at, updated_at
+            SELECT id, name, email, phone, education, experience_years, resume_text, parse_status, created_at, updated_at
             FROM candidates WHERE id = ?
             """;
         
+        long stamp = cache.stamp();
         try (Connection connection = dbManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
@@ -122,8 +319,9 @@ public class CandidateDAO {
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    Candidate candidate = mapResultSetToCandidate(resultSet);
-                    candidate.setSkills(findSkillsByCandidateId(id));
+                    Candidate candidate = mapResultSetToCandidate(resultSet, CandidateFetchPlan.FULL);
+                    setLoadedSkills(candidate, findSkillsByCandidateId(connection, id));
+                    cache.put(id, candidate, stamp);
                     return candidate;
                 }
             }
@@ -132,6 +330,43 @@ public class CandidateDAO {
         return null;
     }
     
+    /**
+     * Hit and miss counts of the findById cache
+     */
+    public static EntityCache<Candidate> getCache() {
+        return cache;
+    }
+    
+    /**
+     * Current updated_at of a candidate, or null if it was deleted
+     */
+    private LocalDateTime findUpdatedAt(Long id) throws SQLException {
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT updated_at FROM candidates WHERE id = ?")) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    Timestamp updatedAt = resultSet.getTimestamp("updated_at");
+                    return updatedAt != null ? updatedAt.toLocalDateTime() : LocalDateTime.MIN;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Latest updated_at of any candidate, or LocalDateTime.MIN if there are none. Reads only the
+     * end of idx_candidates_updated_at, so it is cheap enough to run before every match lookup.
+     */
+    public LocalDateTime findLastUpdatedAt() throws SQLException {
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT MAX(updated_at) FROM candidates");
+             ResultSet resultSet = statement.executeQuery()) {
+            Timestamp updatedAt = resultSet.next() ? resultSet.getTimestamp(1) : null;
+            return updatedAt != null ? updatedAt.toLocalDateTime() : LocalDateTime.MIN;
+        }
+    }
+    
     /**
      * Find candidate by email
      */
@@ -141,7 +376,7 @@ public class CandidateDAO {
         }
         
         String sql = """
-            SELECT id, name, email, phone, education, experience_years, resume_text, created_at, updated_at
+            SELECT id, name, email, phone, education, experience_years, resume_text, parse_status, created_at, updated_at
             FROM candidates WHERE email = ?
             """;
         
@@ -152,8 +387,8 @@ public class CandidateDAO {
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    Candidate candidate = mapResultSetToCandidate(resultSet);
-                    candidate.setSkills(findSkillsByCandidateId(candidate.getId()));
+                    Candidate candidate = mapResultSetToCandidate(resultSet, CandidateFetchPlan.FULL);
+                    setLoadedSkills(candidate, findSkillsByCandidateId(connection, candidate.getId()));
                     return candidate;
                 }
             }
@@ -163,13 +398,17 @@ public class CandidateDAO {
     }
     
     /**
-     * Find all candidates
+     * Find all candidates with their skills; resume text is loaded on first access
      */
     public List<Candidate> findAll() throws SQLException {
-        String sql = """
-            SELECT id, name, email, phone, education, experience_years, resume_text, created_at, updated_at
-            FROM candidates ORDER BY created_at DESC
-            """;
+        return findAll(CandidateFetchPlan.SKILLS);
+    }
+    
+    /**
+     * Find all candidates, reading the fields in the fetch plan up front
+     */
+    public List<Candidate> findAll(CandidateFetchPlan fetchPlan) throws SQLException {
+        String sql = "SELECT " + candidateColumns(fetchPlan) + " FROM candidates ORDER BY created_at DESC";
         
         List<Candidate> candidates = new ArrayList<>();
         
@@ -178,15 +417,172 @@ public class CandidateDAO {
              ResultSet resultSet = statement.executeQuery()) {
             
             while (resultSet.next()) {
-                Candidate candidate = mapResultSetToCandidate(resultSet);
-                candidate.setSkills(findSkillsByCandidateId(candidate.getId()));
-                candidates.add(candidate);
+                candidates.add(mapResultSetToCandidate(resultSet, fetchPlan));
+            }
+            
+            completeFetch(connection, candidates, fetchPlan);
+        }
+        
+        return candidates;
+    }
+    
+    /**
+     * The limit most recently added candidates, newest first
+     */
+    private List<Candidate> findNewest(int limit) throws SQLException {
+        CandidateFetchPlan fetchPlan = CandidateFetchPlan.SKILLS;
+        String sql = "SELECT " + candidateColumns(fetchPlan) + " FROM candidates ORDER BY created_at DESC, id DESC LIMIT ?";
+        
+        List<Candidate> candidates = new ArrayList<>();
+        
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    candidates.add(mapResultSetToCandidate(resultSet, fetchPlan));
+                }
             }
+            
+            completeFetch(connection, candidates, fetchPlan);
         }
         
         return candidates;
     }
     
+    /**
+     * Stream all candidates in id order through a server-side cursor, so whole-table scans run
+     * in constant memory. Rows are mapped in chunks; with a plan that includes skills, each
+     * chunk's skills are read with one query on a second connection, since a streaming
+     * connection cannot run other statements. The stream holds both pooled connections until
+     * it is closed (or exhausted): use try-with-resources. SQL errors while reading are
+     * thrown as IllegalStateException.
+     */
+    public Stream<Candidate> stream(CandidateFetchPlan fetchPlan) throws SQLException {
+        String sql = "SELECT " + candidateColumns(fetchPlan) + " FROM candidates ORDER BY id";
+        
+        Connection connection = dbManager.getConnection();
+        CandidateCursor cursor = new CandidateCursor(connection, fetchPlan);
+        try {
+            cursor.statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            cursor.statement.setFetchSize(dbManager.getDialect().getStreamingFetchSize());
+            cursor.resultSet = cursor.statement.executeQuery();
+            if (fetchPlan.includesSkills()) {
+                cursor.skillConnection = dbManager.getConnection();
+            }
+        } catch (SQLException e) {
+            cursor.close();
+            throw e;
+        }
+        
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+    
+    /**
+     * Fetch one page of candidate summaries. Pass null for the first page and the last
+     * summary of the previous page to continue; a page shorter than the page size is the last.
+     * Only the listing columns are read (no resume text), plus one skill query for the page.
+     */
+    public List<CandidateSummary> findPage(CandidateListQuery query, CandidateSummary after) throws SQLException {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        
+        String column = "c." + query.getSortField().getColumn();
+        String direction = query.isDescending() ? "DESC" : "ASC";
+        String comparison = query.isDescending() ? "<" : ">";
+        
+        StringBuilder sql = new StringBuilder("""
+            SELECT c.id, c.name, c.email, c.phone, c.experience_years, c.parse_status, c.created_at
+            FROM candidates c
+            WHERE 1 = 1""");
+        List<Object> parameters = new ArrayList<>();
+        
+        // Prefix matches on the bare columns, so idx_candidates_name and idx_candidates_email apply
+        if (query.getNameStartsWith() != null) {
+            sql.append(" AND c.name LIKE ? ESCAPE '!'");
+            parameters.add(startsWithPattern(query.getNameStartsWith()));
+        }
+        if (query.getEmailStartsWith() != null) {
+            sql.append(" AND c.email LIKE ? ESCAPE '!'");
+            parameters.add(startsWithPattern(query.getEmailStartsWith()));
+        }
+        if (query.getMinExperience() != null) {
+            sql.append(" AND c.experience_years >= ?");
+            parameters.add(query.getMinExperience());
+        }
+        if (query.getMaxExperience() != null) {
+            sql.append(" AND c.experience_years <= ?");
+            parameters.add(query.getMaxExperience());
+        }
+        if (query.getSkill() != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM candidate_skills cs JOIN skills s ON s.id = cs.skill_id"
+                    + " WHERE cs.candidate_id = c.id AND s.name = ?)");
+            parameters.add(SkillDictionary.current().canonicalize(query.getSkill()));
+        }
+        
+        // Keyset: rows strictly after the previous page's last (sort value, id)
+        if (after != null) {
+            Object sortValue = sortValue(query.getSortField(), after);
+            sql.append(" AND (").append(column).append(' ').append(comparison).append(" ? OR (")
+                    .append(column).append(" = ? AND c.id ").append(comparison).append(" ?))");
+            parameters.add(sortValue);
+            parameters.add(sortValue);
+            parameters.add(after.getId());
+        }
+        
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction)
+                .append(", c.id ").append(direction).append(" LIMIT ?");
+        parameters.add(query.getPageSize());
+        
+        List<CandidateSummary> summaries = new ArrayList<>();
+        
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    summaries.add(mapResultSetToSummary(resultSet));
+                }
+            }
+            
+            List<Long> ids = new ArrayList<>(summaries.size());
+            for (CandidateSummary summary : summaries) {
+                ids.add(summary.getId());
+            }
+            Map<Long, List<String>> skillsById = findSkillsByCandidateIds(connection, ids);
+            for (CandidateSummary summary : summaries) {
+                summary.setSkills(skillsById.getOrDefault(summary.getId(), new ArrayList<>()));
+            }
+        }
+        
+        return summaries;
+    }
+    
+    /**
+     * Value of the sort column for a summary, used as the keyset cursor
+     */
+    private Object sortValue(CandidateListQuery.SortField sortField, CandidateSummary summary) {
+        switch (sortField) {
+            case NAME:
+                return summary.getName();
+            case EMAIL:
+                return summary.getEmail();
+            case EXPERIENCE:
+                return summary.getExperienceYears();
+            case CREATED_AT:
+            default:
+                if (summary.getCreatedAt() == null) {
+                    throw new IllegalArgumentException("Cursor summary has no creation time");
+                }
+                return Timestamp.valueOf(summary.getCreatedAt());
+        }
+    }
+    
     /**
      * Find candidates by skill
      */
@@ -197,10 +593,11 @@ public class CandidateDAO {
         
         String sql = """
             SELECT DISTINCT c.id, c.name, c.email, c.phone, c.education, c.experience_years, 
-                   c.resume_text, c.created_at, c.updated_at
+                   c.parse_status, c.created_at, c.updated_at
             FROM candidates c
             JOIN candidate_skills cs ON c.id = cs.candidate_id
-            WHERE LOWER(cs.skill_name) = LOWER(?)
+            JOIN skills s ON s.id = cs.skill_id
+            WHERE s.name = ?
             ORDER BY c.created_at DESC
             """;
         
@@ -209,15 +606,15 @@ public class CandidateDAO {
         try (Connection connection = dbManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setString(1, skill.trim());
+            statement.setString(1, SkillDictionary.current().canonicalize(skill));
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    Candidate candidate = mapResultSetToCandidate(resultSet);
-                    candidate.setSkills(findSkillsByCandidateId(candidate.getId()));
-                    candidates.add(candidate);
+                    candidates.add(mapResultSetToCandidate(resultSet, CandidateFetchPlan.SKILLS));
                 }
             }
+            
+            completeFetch(connection, candidates, CandidateFetchPlan.SKILLS);
         }
         
         return candidates;
@@ -228,7 +625,7 @@ public class CandidateDAO {
      */
     public List<Candidate> findByMinimumExperience(int minExperience) throws SQLException {
         String sql = """
-            SELECT id, name, email, phone, education, experience_years, resume_text, created_at, updated_at
+            SELECT id, name, email, phone, education, experience_years, parse_status, created_at, updated_at
             FROM candidates 
             WHERE experience_years >= ?
             ORDER BY experience_years DESC, created_at DESC
@@ -243,52 +640,256 @@ public class CandidateDAO {
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    Candidate candidate = mapResultSetToCandidate(resultSet);
-                    candidate.setSkills(findSkillsByCandidateId(candidate.getId()));
-                    candidates.add(candidate);
+                    candidates.add(mapResultSetToCandidate(resultSet, CandidateFetchPlan.SKILLS));
                 }
             }
+            
+            completeFetch(connection, candidates, CandidateFetchPlan.SKILLS);
         }
         
         return candidates;
     }
+
+    /**
+     * Count in SQL how many of a job's skills each candidate has, so only candidates that can
+     * reach a score need to be loaded. The skill names are resolved to ids first, then links are
+     * looked up through idx_candidate_skills_skill_id; candidates sharing no skill are never returned.
+     *
+     * requiredSkills maps each canonical required skill to how often the job lists it (every
+     * listing counts); preferredSkills must not repeat required skills. A candidate with p
+     * preferred skills is returned only if it has at least minRequiredByPreferred[p] required
+     * skills, so the array needs one entry per possible preferred count (0 to preferredSkills.size()).
+     */
+    public List<SkillOverlap> findSkillOverlaps(Map<String, Integer> requiredSkills, Collection<String> preferredSkills,
+                                                int[] minRequiredByPreferred) throws SQLException {
+        if (minRequiredByPreferred == null || minRequiredByPreferred.length != preferredSkills.size() + 1) {
+            throw new IllegalArgumentException("Need a minimum required count for each preferred count");
+        }
+        List<SkillOverlap> overlaps = new ArrayList<>();
+        if (requiredSkills.isEmpty() && preferredSkills.isEmpty()) {
+            return overlaps;
+        }
+
+        try (Connection connection = dbManager.getConnection()) {
+            // Skills nobody has stored cannot match, so they are left out of the query
+            List<String> names = new ArrayList<>(requiredSkills.keySet());
+            names.addAll(preferredSkills);
+            Map<String, Integer> skillIds = SkillDAO.findIds(connection, names);
+
+            Map<Integer, Integer> requiredIds = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> skill : requiredSkills.entrySet()) {
+                Integer id = skillIds.get(skill.getKey());
+                if (id != null) {
+                    requiredIds.put(id, skill.getValue());
+                }
+            }
+            List<Integer> preferredIds = new ArrayList<>();
+            for (String skill : preferredSkills) {
+                Integer id = skillIds.get(skill);
+                if (id != null) {
+                    preferredIds.add(id);
+                }
+            }
+            if (requiredIds.isEmpty() && preferredIds.isEmpty()) {
+                return overlaps;
+            }
+
+            // Required: weighted CASE over the listed skills; preferred: plain count
+            StringBuilder required = new StringBuilder();
+            if (requiredIds.isEmpty()) {
+                required.append('0');
+            } else {
+                required.append("SUM(CASE skill_id");
+                for (int weight : requiredIds.values()) {
+                    required.append(" WHEN ? THEN ").append(weight);
+                }
+                required.append(" ELSE 0 END)");
+            }
+            String preferred = preferredIds.isEmpty() ? "0"
+                    : "SUM(CASE WHEN skill_id IN (" + placeholders(preferredIds.size()) + ") THEN 1 ELSE 0 END)";
+
+            StringBuilder minRequired = new StringBuilder();
+            if (preferredIds.isEmpty()) {
+                minRequired.append(minRequiredByPreferred[0]);
+            } else {
+                minRequired.append("CASE ").append(preferred);
+                for (int p = 0; p <= preferredIds.size(); p++) {
+                    minRequired.append(" WHEN ").append(p).append(" THEN ").append(minRequiredByPreferred[p]);
+                }
+                minRequired.append(" END");
+            }
+
+            String sql = "SELECT candidate_id, " + required + " AS required_matched, " + preferred + " AS preferred_matched"
+                    + " FROM candidate_skills"
+                    + " WHERE skill_id IN (" + placeholders(requiredIds.size() + preferredIds.size()) + ")"
+                    + " GROUP BY candidate_id"
+                    + " HAVING " + required + " >= " + minRequired
+                    + " ORDER BY candidate_id";
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                index = setSkillIds(statement, index, requiredIds.keySet());
+                index = setSkillIds(statement, index, preferredIds);
+                index = setSkillIds(statement, index, requiredIds.keySet());
+                index = setSkillIds(statement, index, preferredIds);
+                index = setSkillIds(statement, index, requiredIds.keySet());
+                setSkillIds(statement, index, preferredIds);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        overlaps.add(new SkillOverlap(resultSet.getLong("candidate_id"),
+                                resultSet.getInt("required_matched"), resultSet.getInt("preferred_matched")));
+                    }
+                }
+            }
+        }
+
+        return overlaps;
+    }
+
+    /**
+     * Bind skill ids starting at the given index; returns the next index
+     */
+    private static int setSkillIds(PreparedStatement statement, int index, Collection<Integer> skillIds) throws SQLException {
+        for (int skillId : skillIds) {
+            statement.setInt(index++, skillId);
+        }
+        return index;
+    }
+
+    /**
+     * LIKE pattern for values starting with the text, escaped with '!' so its '%' and '_' match literally
+     */
+    private static String startsWithPattern(String text) {
+        return text.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
     
     /**
-     * Search candidates by name or email
+     * Search candidates by name, email or resume text, most relevant first
      */
     public List<Candidate> search(String searchTerm) throws SQLException {
+        return search(searchTerm, DEFAULT_SEARCH_LIMIT);
+    }
+    
+    /**
+     * Search candidates by name, email or resume text, returning at most limit candidates.
+     * Every word of the search term must match a word (or word prefix) in one of the fields.
+     */
+    public List<Candidate> search(String searchTerm, int limit) throws SQLException {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return findAll();
+            return findNewest(limit);
+        }
+        
+        SearchIndex searchIndex = SearchIndex.getInstance();
+        if (!searchIndex.isFullText()) {
+            return findByIds(searchIndex.searchCandidates(searchTerm, limit));
+        }
+        
+        String query = SearchIndex.booleanQuery(searchTerm);
+        if (query == null) {
+            return new ArrayList<>();
         }
         
         String sql = """
-            SELECT id, name, email, phone, education, experience_years, resume_text, created_at, updated_at
-            FROM candidates 
-            WHERE LOWER(name) LIKE LOWER(?) OR LOWER(email) LIKE LOWER(?)
-            ORDER BY created_at DESC
+            SELECT id, name, email, phone, education, experience_years, parse_status, created_at, updated_at,
+                   MATCH(name, email, resume_text) AGAINST (? IN BOOLEAN MODE) AS relevance
+            FROM candidates
+            WHERE MATCH(name, email, resume_text) AGAINST (? IN BOOLEAN MODE)
+            ORDER BY relevance DESC, id DESC
+            LIMIT ?
             """;
         
         List<Candidate> candidates = new ArrayList<>();
-        String searchPattern = "%" + searchTerm.trim() + "%";
         
         try (Connection connection = dbManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setString(1, searchPattern);
-            statement.setString(2, searchPattern);
+            statement.setString(1, query);
+            statement.setString(2, query);
+            statement.setInt(3, limit);
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    Candidate candidate = mapResultSetToCandidate(resultSet);
-                    candidate.setSkills(findSkillsByCandidateId(candidate.getId()));
+                    candidates.add(mapResultSetToCandidate(resultSet, CandidateFetchPlan.SKILLS));
+                }
+            }
+            
+            completeFetch(connection, candidates, CandidateFetchPlan.SKILLS);
+        }
+        
+        return candidates;
+    }
+    
+    /**
+     * Find candidates by ID, in the order of the given IDs; unknown IDs are skipped
+     */
+    public List<Candidate> findByIds(List<Long> ids) throws SQLException {
+        List<Candidate> candidates = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) {
+            return candidates;
+        }
+        
+        Map<Long, Candidate> byId = new HashMap<>();
+        try (Connection connection = dbManager.getConnection()) {
+            for (int from = 0; from < ids.size(); from += SKILL_QUERY_BATCH_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + SKILL_QUERY_BATCH_SIZE, ids.size()));
+                String sql = "SELECT " + candidateColumns(CandidateFetchPlan.SKILLS)
+                        + " FROM candidates WHERE id IN (" + placeholders(chunk.size()) + ")";
+                
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setLong(i + 1, chunk.get(i));
+                    }
+                    
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            Candidate candidate = mapResultSetToCandidate(resultSet, CandidateFetchPlan.SKILLS);
+                            byId.put(candidate.getId(), candidate);
+                        }
+                    }
+                }
+            }
+            
+            for (Long id : ids) {
+                Candidate candidate = byId.get(id);
+                if (candidate != null) {
                     candidates.add(candidate);
                 }
             }
+            completeFetch(connection, candidates, CandidateFetchPlan.SKILLS);
         }
         
         return candidates;
     }
     
+    /**
+     * Set only the parse status of a candidate, e.g. to record that its full parse failed
+     */
+    public void updateParseStatus(Long id, String parseStatus) throws SQLException {
+        if (id == null) {
+            throw new IllegalArgumentException("Candidate ID cannot be null");
+        }
+        
+        String sql = "UPDATE candidates SET parse_status = ?, updated_at = ? WHERE id = ?";
+        
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            
+            statement.setString(1, parseStatus);
+            statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)));
+            statement.setLong(3, id);
+            
+            if (statement.executeUpdate() == 0) {
+                throw new SQLException("Updating candidate failed, candidate not found");
+            }
+        }
+        
+        eventBus.publish(ChangeEvent.candidate(ChangeEvent.Type.UPDATED, id));
+    }
+    
     /**
      * Delete candidate by ID
      */
@@ -305,6 +906,9 @@ public class CandidateDAO {
             statement.setLong(1, id);
             
             int affectedRows = statement.executeUpdate();
+            if (affectedRows > 0) {
+                eventBus.publish(ChangeEvent.candidate(ChangeEvent.Type.DELETED, id));
+            }
             return affectedRows > 0;
         }
     }
@@ -353,24 +957,26 @@ public class CandidateDAO {
     }
     
     /**
-     * Save candidate skills
+     * Save candidate skills under their canonical names (aliases collapse into one row). Links
+     * marked extracted came from the resume parser and may be removed by re-extraction.
      */
-    private void saveSkills(Long candidateId, List<String> skills) throws SQLException {
-        if (skills == null || skills.isEmpty()) {
+    private void saveSkills(Connection connection, Long candidateId, List<String> skills, boolean extracted)
+            throws SQLException {
+        List<String> canonicalSkills = SkillDictionary.current().canonicalize(skills);
+        if (canonicalSkills.isEmpty()) {
             return;
         }
         
-        String sql = "INSERT INTO candidate_skills (candidate_id, skill) VALUES (?, ?)";
+        String sql = "INSERT INTO candidate_skills (candidate_id, skill_id, extracted) VALUES (?, ?, ?)";
+        Map<String, Integer> skillIds = SkillDAO.storeIds(connection, canonicalSkills);
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            for (String skill : skills) {
-                if (skill != null && !skill.trim().isEmpty()) {
-                    statement.setLong(1, candidateId);
-                    statement.setString(2, skill.trim());
-                    statement.addBatch();
-                }
+            for (String skill : canonicalSkills) {
+                statement.setLong(1, candidateId);
+                statement.setInt(2, skillIds.get(skill));
+                statement.setBoolean(3, extracted);
+                statement.addBatch();
             }
             
             statement.executeBatch();
@@ -378,29 +984,42 @@ public class CandidateDAO {
     }
     
     /**
-     * Delete candidate skills
+     * Remove and add candidate skills according to a diff
      */
-    private void deleteSkills(Long candidateId) throws SQLException {
-        String sql = "DELETE FROM candidate_skills WHERE candidate_id = ?";
-        
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-            
-            statement.setLong(1, candidateId);
-            statement.executeUpdate();
+    private void applySkillDiff(Connection connection, Long candidateId, SkillDiff diff, boolean extracted)
+            throws SQLException {
+        // Removals first, so a skill re-added under a different case does not hit the unique key
+        if (!diff.getRemoved().isEmpty()) {
+            String sql = "DELETE FROM candidate_skills WHERE candidate_id = ?"
+                    + " AND skill_id = (SELECT id FROM skills WHERE name = ?)";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (String skill : diff.getRemoved()) {
+                    statement.setLong(1, candidateId);
+                    statement.setString(2, skill);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
         }
+        
+        saveSkills(connection, candidateId, diff.getAdded(), extracted);
     }
     
     /**
      * Find skills by candidate ID
      */
-    private List<String> findSkillsByCandidateId(Long candidateId) throws SQLException {
-        String sql = "SELECT skill FROM candidate_skills WHERE candidate_id = ? ORDER BY skill";
+    private List<String> findSkillsByCandidateId(Connection connection, Long candidateId) throws SQLException {
+        String sql = """
+            SELECT s.name AS skill
+            FROM candidate_skills cs
+            JOIN skills s ON s.id = cs.skill_id
+            WHERE cs.candidate_id = ?
+            ORDER BY s.name
+            """;
         
         List<String> skills = new ArrayList<>();
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setLong(1, candidateId);
             
@@ -414,10 +1033,168 @@ public class CandidateDAO {
         return skills;
     }
     
+    /**
+     * Load skills for a list of candidates with one IN query per chunk of ids instead of one query per candidate
+     */
+    private void loadSkills(Connection connection, List<Candidate> candidates) throws SQLException {
+        List<Long> ids = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            ids.add(candidate.getId());
+        }
+        
+        Map<Long, List<String>> skillsById = findSkillsByCandidateIds(connection, ids);
+        for (Candidate candidate : candidates) {
+            setLoadedSkills(candidate, skillsById.getOrDefault(candidate.getId(), new ArrayList<>()));
+        }
+    }
+    
+    /**
+     * Set skills read from the database without marking the candidate as modified
+     */
+    private static void setLoadedSkills(Candidate candidate, List<String> skills) {
+        LocalDateTime updatedAt = candidate.getUpdatedAt();
+        candidate.setSkills(skills);
+        candidate.setUpdatedAt(updatedAt);
+    }
+    
+    /**
+     * Cache sized by db.cache.candidates.maxBytes (0 disables it)
+     */
+    private static EntityCache<Candidate> createCache() {
+        Properties properties = DatabaseManager.getInstance().getProperties();
+        EntityCache<Candidate> entityCache = new EntityCache<>("candidates",
+                Long.parseLong(properties.getProperty("db.cache.candidates.maxBytes", "33554432").trim()),
+                Long.parseLong(properties.getProperty("db.cache.validationInterval", "5000").trim()),
+                Candidate::copy, CandidateDAO::estimateSize, Candidate::getUpdatedAt);
+        
+        ChangeEventBus.getInstance().subscribe(event -> {
+            if (event.isCandidate()) {
+                entityCache.invalidate(event.getEntityId());
+            }
+        });
+        return entityCache;
+    }
+    
+    /**
+     * Approximate heap size of a fully loaded candidate in bytes
+     */
+    private static int estimateSize(Candidate candidate) {
+        int size = 160 + 2 * (length(candidate.getName()) + length(candidate.getEmail()) + length(candidate.getPhone())
+                + length(candidate.getEducation()) + length(candidate.getResumeText()));
+        // Skill strings are interned and shared, so only the list slots count
+        return size + 8 * candidate.getSkillCount();
+    }
+    
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+    
+    /**
+     * Load or defer the fields a fetch plan left out. Deferred fields share one loader per
+     * chunk of candidates, so first access loads the skills of the whole chunk at once.
+     */
+    private void completeFetch(Connection connection, List<Candidate> candidates, CandidateFetchPlan fetchPlan)
+            throws SQLException {
+        if (fetchPlan.includesSkills()) {
+            loadSkills(connection, candidates);
+        }
+        if (fetchPlan == CandidateFetchPlan.FULL) {
+            return;
+        }
+        
+        for (int from = 0; from < candidates.size(); from += SKILL_QUERY_BATCH_SIZE) {
+            List<Candidate> chunk = new ArrayList<>(
+                    candidates.subList(from, Math.min(from + SKILL_QUERY_BATCH_SIZE, candidates.size())));
+            LazyLoader loader = new LazyLoader(chunk);
+            for (Candidate candidate : chunk) {
+                if (!fetchPlan.includesResumeText()) {
+                    candidate.deferResumeText(loader);
+                }
+                if (!fetchPlan.includesSkills()) {
+                    candidate.deferSkills(loader);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Column list for a fetch plan
+     */
+    private static String candidateColumns(CandidateFetchPlan fetchPlan) {
+        return "id, name, email, phone, education, experience_years, "
+                + (fetchPlan.includesResumeText() ? "resume_text, " : "")
+                + "parse_status, created_at, updated_at";
+    }
+    
+    /**
+     * Find skills for many candidates, grouped by candidate ID
+     */
+    private Map<Long, List<String>> findSkillsByCandidateIds(Connection connection, List<Long> ids) throws SQLException {
+        Map<Long, List<String>> skillsById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += SKILL_QUERY_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SKILL_QUERY_BATCH_SIZE, ids.size()));
+            
+            String sql = "SELECT cs.candidate_id, s.name AS skill FROM candidate_skills cs"
+                    + " JOIN skills s ON s.id = cs.skill_id WHERE cs.candidate_id IN ("
+                    + placeholders(chunk.size()) + ") ORDER BY cs.candidate_id, s.name";
+            
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setLong(i + 1, chunk.get(i));
+                }
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        // Interned: millions of candidates share a few thousand distinct skill names
+                        skillsById.computeIfAbsent(resultSet.getLong("candidate_id"), id -> new ArrayList<>())
+                                .add(resultSet.getString("skill").intern());
+                    }
+                }
+            }
+        }
+        return skillsById;
+    }
+    
+    /**
+     * Comma-separated JDBC placeholders for an IN list
+     */
+    static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "?" : ", ?");
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * Map a listing row to a CandidateSummary
+     */
+    private CandidateSummary mapResultSetToSummary(ResultSet resultSet) throws SQLException {
+        CandidateSummary summary = new CandidateSummary();
+        
+        summary.setId(resultSet.getLong("id"));
+        summary.setName(resultSet.getString("name"));
+        summary.setEmail(resultSet.getString("email"));
+        summary.setPhone(resultSet.getString("phone"));
+        summary.setExperienceYears(resultSet.getInt("experience_years"));
+        
+        String parseStatus = resultSet.getString("parse_status");
+        if (parseStatus != null) {
+            summary.setParseStatus(parseStatus);
+        }
+        
+        Timestamp createdAt = resultSet.getTimestamp("created_at");
+        if (createdAt != null) {
+            summary.setCreatedAt(createdAt.toLocalDateTime());
+        }
+        
+        return summary;
+    }
+    
     /**
      * Map ResultSet to Candidate object
      */
-    private Candidate mapResultSetToCandidate(ResultSet resultSet) throws SQLException {
+    private Candidate mapResultSetToCandidate(ResultSet resultSet, CandidateFetchPlan fetchPlan) throws SQLException {
         Candidate candidate = new Candidate();
         
         candidate.setId(resultSet.getLong("id"));
@@ -426,7 +1203,14 @@ public class CandidateDAO {
         candidate.setPhone(resultSet.getString("phone"));
         candidate.setEducation(resultSet.getString("education"));
         candidate.setExperienceYears(resultSet.getInt("experience_years"));
-        candidate.setResumeText(resultSet.getString("resume_text"));
+        if (fetchPlan.includesResumeText()) {
+            candidate.setResumeText(resultSet.getString("resume_text"));
+        }
+        
+        String parseStatus = resultSet.getString("parse_status");
+        if (parseStatus != null) {
+            candidate.setParseStatus(parseStatus);
+        }
         
         Timestamp createdAt = resultSet.getTimestamp("created_at");
         if (createdAt != null) {
@@ -440,4 +1224,132 @@ public class CandidateDAO {
         
         return candidate;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Reads a streaming result set chunk by chunk for {@link #stream}
+     */
+    private class CandidateCursor extends Spliterators.AbstractSpliterator<Candidate> {
+        private final Connection connection;
+        private final CandidateFetchPlan fetchPlan;
+        private final Deque<Candidate> buffer = new ArrayDeque<>();
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        private Connection skillConnection;
+        private boolean closed;
+        
+        CandidateCursor(Connection connection, CandidateFetchPlan fetchPlan) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL | DISTINCT);
+            this.connection = connection;
+            this.fetchPlan = fetchPlan;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super Candidate> action) {
+            if (buffer.isEmpty() && !fill()) {
+                return false;
+            }
+            action.accept(buffer.poll());
+            return true;
+        }
+        
+        /**
+         * Read the next chunk; closes the cursor at the end of the table
+         */
+        private boolean fill() {
+            if (closed) {
+                return false;
+            }
+            try {
+                List<Candidate> chunk = new ArrayList<>(SKILL_QUERY_BATCH_SIZE);
+                while (chunk.size() < SKILL_QUERY_BATCH_SIZE && resultSet.next()) {
+                    chunk.add(mapResultSetToCandidate(resultSet, fetchPlan));
+                }
+                if (chunk.isEmpty()) {
+                    close();
+                    return false;
+                }
+                completeFetch(skillConnection, chunk, fetchPlan);
+                buffer.addAll(chunk);
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new IllegalStateException("Failed to stream candidates", e);
+            }
+        }
+        
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            closeQuietly(skillConnection);
+            closeQuietly(connection);
+        }
+        
+        private void closeQuietly(AutoCloseable resource) {
+            if (resource == null) {
+                return;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                System.err.println("Warning: Failed to close candidate stream resource: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Loads deferred fields for one chunk of candidates read by the same query
+     */
+    private class LazyLoader implements CandidateLoader {
+        private final List<Candidate> chunk;
+        
+        LazyLoader(List<Candidate> chunk) {
+            this.chunk = chunk;
+        }
+        
+        @Override
+        public String loadResumeText(Candidate candidate) {
+            String sql = "SELECT resume_text FROM candidates WHERE id = ?";
+            
+            try (Connection connection = dbManager.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(sql)) {
+                
+                statement.setLong(1, candidate.getId());
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getString("resume_text") : null;
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to load resume text for candidate " + candidate.getId(), e);
+            }
+        }
+        
+        @Override
+        public synchronized void loadSkills(Candidate candidate) {
+            if (candidate.isSkillsLoaded()) {
+                return;
+            }
+            
+            List<Candidate> pending = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+            for (Candidate member : chunk) {
+                if (!member.isSkillsLoaded()) {
+                    pending.add(member);
+                    ids.add(member.getId());
+                }
+            }
+            
+            try (Connection connection = dbManager.getConnection()) {
+                Map<Long, List<String>> skillsById = findSkillsByCandidateIds(connection, ids);
+                for (Candidate member : pending) {
+                    member.initSkills(skillsById.getOrDefault(member.getId(), new ArrayList<>()));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to load skills for candidate " + candidate.getId(), e);
+            }
+        }
+    }
+}
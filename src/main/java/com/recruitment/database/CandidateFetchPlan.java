@@ -0,0 +1,31 @@
+package com.recruitment.database;
+
+/**
+ * Which candidate fields CandidateDAO reads up front. Deferred fields are loaded on
+ * first access: resume text one candidate at a time, skills for up to 500 candidates
+ * of the same query at once.
+ */
+public enum CandidateFetchPlan {
+    /** Everything, including resume text (detail views) */
+    FULL(true, true),
+    /** Skills but not resume text (listings, matching) */
+    SKILLS(false, true),
+    /** Only the candidate row without resume text; skills are loaded when first used */
+    BASIC(false, false);
+
+    private final boolean resumeText;
+    private final boolean skills;
+
+    CandidateFetchPlan(boolean resumeText, boolean skills) {
+        this.resumeText = resumeText;
+        this.skills = skills;
+    }
+
+    public boolean includesResumeText() {
+        return resumeText;
+    }
+
+    public boolean includesSkills() {
+        return skills;
+    }
+}
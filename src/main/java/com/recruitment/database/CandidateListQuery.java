@@ -0,0 +1,133 @@
+package com.recruitment.database;
+
+/**
+ * Sort order, filters and page size for {@link CandidateDAO#findPage}.
+ * Pages are fetched with keyset pagination on (sort column, id), so each page
+ * costs the same no matter how deep into the listing it is. Text filters are prefix
+ * matches, so they can use the name and email indexes; free-text search goes through
+ * {@link CandidateDAO#search} instead.
+ */
+public class CandidateListQuery {
+
+    public enum SortField {
+        CREATED_AT("created_at"),
+        NAME("name"),
+        EMAIL("email"),
+        EXPERIENCE("experience_years");
+
+        private final String column;
+
+        SortField(String column) {
+            this.column = column;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+    }
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private SortField sortField = SortField.CREATED_AT;
+    private boolean descending = true;
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    private String nameStartsWith;
+    private String emailStartsWith;
+    private Integer minExperience;
+    private Integer maxExperience;
+    private String skill;
+
+    /**
+     * Newest candidates first, no filters
+     */
+    public static CandidateListQuery newestFirst(int pageSize) {
+        CandidateListQuery query = new CandidateListQuery();
+        query.setPageSize(pageSize);
+        return query;
+    }
+
+    // Getters and Setters
+    public SortField getSortField() {
+        return sortField;
+    }
+
+    public void setSortField(SortField sortField) {
+        if (sortField == null) {
+            throw new IllegalArgumentException("Sort field cannot be null");
+        }
+        this.sortField = sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public void setDescending(boolean descending) {
+        this.descending = descending;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        this.pageSize = pageSize;
+    }
+
+    public String getNameStartsWith() {
+        return nameStartsWith;
+    }
+
+    /**
+     * Only candidates whose name starts with this text; '%' and '_' match literally
+     */
+    public void setNameStartsWith(String nameStartsWith) {
+        this.nameStartsWith = blankToNull(nameStartsWith);
+    }
+
+    public String getEmailStartsWith() {
+        return emailStartsWith;
+    }
+
+    /**
+     * Only candidates whose email starts with this text; '%' and '_' match literally
+     */
+    public void setEmailStartsWith(String emailStartsWith) {
+        this.emailStartsWith = blankToNull(emailStartsWith);
+    }
+
+    public Integer getMinExperience() {
+        return minExperience;
+    }
+
+    public void setMinExperience(Integer minExperience) {
+        this.minExperience = minExperience;
+    }
+
+    public Integer getMaxExperience() {
+        return maxExperience;
+    }
+
+    public void setMaxExperience(Integer maxExperience) {
+        this.maxExperience = maxExperience;
+    }
+
+    public String getSkill() {
+        return skill;
+    }
+
+    /**
+     * Only candidates with this skill (matched by canonical name, so aliases work)
+     */
+    public void setSkill(String skill) {
+        this.skill = blankToNull(skill);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+}
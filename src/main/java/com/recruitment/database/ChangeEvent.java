@@ -0,0 +1,97 @@
+package com.recruitment.database;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a committed write to a candidate or job posting, published through
+ * {@link ChangeEventBus} so caches and indexes can update themselves
+ */
+public class ChangeEvent {
+
+    public enum EntityType {
+        CANDIDATE,
+        JOB_POSTING
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final EntityType entityType;
+    private final Type type;
+    private final Long entityId;
+    private final List<String> addedSkills;
+    private final List<String> removedSkills;
+    private final LocalDateTime timestamp;
+
+    public ChangeEvent(EntityType entityType, Type type, Long entityId,
+                       List<String> addedSkills, List<String> removedSkills) {
+        this.entityType = entityType;
+        this.type = type;
+        this.entityId = entityId;
+        this.addedSkills = addedSkills == null ? List.of() : Collections.unmodifiableList(addedSkills);
+        this.removedSkills = removedSkills == null ? List.of() : Collections.unmodifiableList(removedSkills);
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public static ChangeEvent candidate(Type type, Long candidateId) {
+        return new ChangeEvent(EntityType.CANDIDATE, type, candidateId, null, null);
+    }
+
+    public static ChangeEvent jobPosting(Type type, Long jobPostingId) {
+        return new ChangeEvent(EntityType.JOB_POSTING, type, jobPostingId, null, null);
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Skills stored by this write. For job postings, a skill whose importance changed
+     * is listed here and in {@link #getRemovedSkills()}.
+     */
+    public List<String> getAddedSkills() {
+        return addedSkills;
+    }
+
+    /**
+     * Skills removed by this write
+     */
+    public List<String> getRemovedSkills() {
+        return removedSkills;
+    }
+
+    public boolean isSkillsChanged() {
+        return !addedSkills.isEmpty() || !removedSkills.isEmpty();
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isCandidate() {
+        return entityType == EntityType.CANDIDATE;
+    }
+
+    public boolean isJobPosting() {
+        return entityType == EntityType.JOB_POSTING;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{" + entityType + " " + type + " id=" + entityId
+                + (isSkillsChanged() ? ", +" + addedSkills + " -" + removedSkills : "") + "}";
+    }
+}
@@ -0,0 +1,66 @@
+package com.recruitment.database;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process publisher of {@link ChangeEvent}s. The DAOs publish after a write commits;
+ * listeners run synchronously on the writing thread, so they should be quick and hand
+ * heavy work to their own executor. A failing listener does not affect the others.
+ */
+public class ChangeEventBus {
+    private static final ChangeEventBus instance = new ChangeEventBus();
+
+    private final List<Consumer<ChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    private ChangeEventBus() {
+        // Private constructor for singleton
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static ChangeEventBus getInstance() {
+        return instance;
+    }
+
+    /**
+     * Register a listener for all change events
+     */
+    public void subscribe(Consumer<ChangeEvent> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove a previously registered listener
+     */
+    public void unsubscribe(Consumer<ChangeEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Deliver an event to every listener
+     */
+    public void publish(ChangeEvent event) {
+        for (Consumer<ChangeEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                System.err.println("Warning: Change listener failed for " + event + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Publish a batch of events in order
+     */
+    public void publishAll(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            publish(event);
+        }
+    }
+}
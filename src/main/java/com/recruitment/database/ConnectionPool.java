@@ -0,0 +1,484 @@
+package com.recruitment.database;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Bounded JDBC connection pool.
+ *
+ * At most {@code maxActive} connections are handed out at a time; callers beyond that wait up
+ * to {@code maxWait} ms and then get an {@link SQLTimeoutException}. Returned connections are
+ * reset (rolled back if a transaction was left open, auto-commit restored) and kept for reuse,
+ * most recently used first. Connections idle for a while are validated before being handed out,
+ * and a background task closes connections that have been idle longer than {@code idleTimeout}
+ * (down to {@code minIdle}) or have lived longer than {@code maxLifetime}.
+ *
+ * Callers use the connection normally; {@code close()} returns it to the pool.
+ */
+public class ConnectionPool implements DataSource {
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int maxActive;
+    private final int maxIdle;
+    private final int minIdle;
+    private final long maxWaitMs;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final long validationIntervalMs;
+    private final int validationTimeoutSeconds;
+
+    // Idle connections, most recently returned at the head
+    private final LinkedBlockingDeque<PhysicalConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    // Metrics
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong closedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Create a pool from {@code db.*} properties (see database.properties)
+     */
+    public ConnectionPool(Properties properties) throws SQLException {
+        this.url = required(properties, "db.url");
+        this.username = properties.getProperty("db.username");
+        this.password = properties.getProperty("db.password");
+        this.maxActive = intProperty(properties, "db.pool.maxActive", 20);
+        this.maxIdle = Math.min(maxActive, intProperty(properties, "db.pool.maxIdle", 10));
+        this.minIdle = Math.min(maxIdle, intProperty(properties, "db.pool.minIdle", 2));
+        this.maxWaitMs = intProperty(properties, "db.pool.maxWait", 30000);
+        this.idleTimeoutMs = intProperty(properties, "db.pool.idleTimeout", 600000);
+        this.maxLifetimeMs = intProperty(properties, "db.pool.maxLifetime", 1800000);
+        this.validationIntervalMs = intProperty(properties, "db.pool.validationInterval", 5000);
+        this.validationTimeoutSeconds = intProperty(properties, "db.pool.validationTimeout", 5);
+        long evictionIntervalMs = intProperty(properties, "db.pool.evictionInterval", 30000);
+
+        if (maxActive < 1) {
+            throw new IllegalArgumentException("db.pool.maxActive must be at least 1");
+        }
+
+        String driver = properties.getProperty("db.driver");
+        if (driver != null && !driver.isBlank()) {
+            try {
+                Class.forName(driver);
+            } catch (ClassNotFoundException e) {
+                throw new SQLException("JDBC driver not found: " + driver, e);
+            }
+        }
+
+        this.permits = new Semaphore(maxActive, true);
+
+        // Open the initial connections; a database that is down only fails the first borrow
+        int initialSize = Math.min(maxIdle, intProperty(properties, "db.pool.initialSize", minIdle));
+        try {
+            for (int i = 0; i < initialSize; i++) {
+                idle.offerLast(createConnection());
+            }
+        } catch (SQLException e) {
+            System.err.println("Warning: Failed to open initial pool connections: " + e.getMessage());
+        }
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections,
+                evictionIntervalMs, evictionIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection, waiting up to maxWait ms when the pool is exhausted
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTimeoutException("Timed out after " + maxWaitMs
+                        + " ms waiting for a database connection (" + maxActive + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        recordWait(System.nanoTime() - waitStart);
+
+        try {
+            PhysicalConnection connection = takeIdleConnection();
+            if (connection == null) {
+                connection = createConnection();
+            }
+            active.incrementAndGet();
+            borrowCount.incrementAndGet();
+            return connection.borrow();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections use the configured credentials");
+    }
+
+    /**
+     * Close all idle connections and stop handing out new ones.
+     * Borrowed connections are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        PhysicalConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            destroy(connection);
+        }
+    }
+
+    /**
+     * Take a usable idle connection, discarding expired or broken ones
+     */
+    private PhysicalConnection takeIdleConnection() {
+        PhysicalConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            long now = System.currentTimeMillis();
+            if (now - connection.createdAt >= maxLifetimeMs) {
+                destroy(connection);
+                continue;
+            }
+            if (now - connection.lastUsedAt >= validationIntervalMs && !isValid(connection)) {
+                destroy(connection);
+                continue;
+            }
+            return connection;
+        }
+        return null;
+    }
+
+    /**
+     * Return a connection from its proxy's close()
+     */
+    private void release(PhysicalConnection connection) {
+        active.decrementAndGet();
+        try {
+            boolean reusable = !closed && !connection.broken
+                    && System.currentTimeMillis() - connection.createdAt < maxLifetimeMs
+                    && idle.size() < maxIdle
+                    && reset(connection);
+            if (reusable) {
+                connection.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(connection);
+            } else {
+                destroy(connection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Undo per-use state so the next borrower gets a clean connection
+     */
+    private boolean reset(PhysicalConnection connection) {
+        Connection target = connection.target;
+        try {
+            if (target.isClosed()) {
+                return false;
+            }
+            if (!target.getAutoCommit()) {
+                target.rollback();
+                target.setAutoCommit(true);
+            }
+            if (target.isReadOnly()) {
+                target.setReadOnly(false);
+            }
+            target.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Warning: Discarding pooled connection that failed to reset: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Close idle connections past idleTimeout (keeping minIdle) or maxLifetime, then top up to minIdle
+     */
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+
+        // Oldest idle connections are at the tail
+        Iterator<PhysicalConnection> iterator = idle.descendingIterator();
+        while (iterator.hasNext()) {
+            PhysicalConnection connection = iterator.next();
+            boolean expired = now - connection.createdAt >= maxLifetimeMs;
+            boolean idleTooLong = now - connection.lastUsedAt >= idleTimeoutMs && idle.size() > minIdle;
+            if ((expired || idleTooLong) && idle.remove(connection)) {
+                destroy(connection);
+            }
+        }
+
+        try {
+            while (!closed && idle.size() < minIdle && idle.size() + active.get() < maxActive) {
+                idle.offerLast(createConnection());
+            }
+        } catch (SQLException e) {
+            System.err.println("Warning: Failed to refill connection pool: " + e.getMessage());
+        }
+    }
+
+    private PhysicalConnection createConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, username, password);
+        createdCount.incrementAndGet();
+        return new PhysicalConnection(connection);
+    }
+
+    private boolean isValid(PhysicalConnection connection) {
+        try {
+            return connection.target.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void destroy(PhysicalConnection connection) {
+        try {
+            connection.target.close();
+        } catch (SQLException e) {
+            // Already unusable
+        }
+        closedCount.incrementAndGet();
+    }
+
+    private void recordWait(long nanos) {
+        totalWaitNanos.addAndGet(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    // Pool metrics
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    /**
+     * Number of callers currently waiting for a connection
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    public long getClosedCount() {
+        return closedCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public double getAverageWaitMillis() {
+        long borrows = borrowCount.get();
+        return borrows == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / borrows;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * One-line summary of the pool metrics
+     */
+    public String getStatistics() {
+        return String.format("active=%d, idle=%d, waiting=%d, borrowed=%d, created=%d, closed=%d, "
+                        + "timeouts=%d, avgWait=%.2fms, maxWait=%.2fms",
+                getActiveCount(), getIdleCount(), getWaitingCount(), getBorrowCount(), getCreatedCount(),
+                getClosedCount(), getTimeoutCount(), getAverageWaitMillis(), getMaxWaitMillis());
+    }
+
+    // DataSource boilerplate
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return DriverManager.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        DriverManager.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("java.util.logging is not used");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing database property: " + key);
+        }
+        return value.trim();
+    }
+
+    private static int intProperty(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value);
+        }
+    }
+
+    /**
+     * A real connection plus its pool bookkeeping
+     */
+    private final class PhysicalConnection {
+        private final Connection target;
+        private final long createdAt;
+        private volatile long lastUsedAt;
+        private volatile boolean broken;
+
+        private PhysicalConnection(Connection target) {
+            this.target = target;
+            this.createdAt = System.currentTimeMillis();
+            this.lastUsedAt = createdAt;
+        }
+
+        /**
+         * Wrap in a proxy whose close() returns this connection to the pool
+         */
+        private Connection borrow() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, new Handle(this));
+        }
+    }
+
+    /**
+     * Proxy handler for one borrow; unusable after close()
+     */
+    private final class Handle implements InvocationHandler {
+        private volatile PhysicalConnection connection;
+
+        private Handle(PhysicalConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            PhysicalConnection current = connection;
+            switch (method.getName()) {
+                case "close":
+                    PhysicalConnection returned;
+                    synchronized (this) {
+                        returned = connection;
+                        connection = null;
+                    }
+                    if (returned != null) {
+                        release(returned);
+                    }
+                    return null;
+                case "isClosed":
+                    return current == null || current.target.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + (current == null ? "closed" : current.target) + "]";
+                default:
+                    break;
+            }
+
+            if (current == null) {
+                throw new SQLException("Connection is closed");
+            }
+            try {
+                return method.invoke(current.target, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                // SQLState class 08 means the connection itself failed
+                if (cause instanceof SQLException) {
+                    String state = ((SQLException) cause).getSQLState();
+                    if (state != null && state.startsWith("08")) {
+                        current.broken = true;
+                    }
+                }
+                throw cause;
+            }
+        }
+    }
+}
@@ -1,23 +1,35 @@
 package com.recruitment.database;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Properties;
 
 public class DatabaseManager {
+    // System property naming an external properties file that overrides the bundled one
+    public static final String CONFIG_FILE_PROPERTY = "db.config";
+    private static final String CONFIG_RESOURCE = "database.properties";
+    // Set db.seed=true to insert the sample candidates and job postings at startup
+    public static final String SEED_PROPERTY = "db.seed";
+    private static final String SEED_RESOURCE = "database/seed.sql";
     private static final String DATABASE_NAME = "smart_recruitment";
-    private static final String DATABASE_URL = "jdbc:mysql://localhost:3306/" + DATABASE_NAME + "?useSSL=false&serverTimezone=UTC";
-    private static final String DB_USER = "root";
-    private static final String DB_PASSWORD = "root123";
+    private static final String DEFAULT_DATABASE_URL = "jdbc:mysql://localhost:3306/" + DATABASE_NAME + "?useSSL=false&serverTimezone=UTC";
     private static DatabaseManager instance;
 
+    private final Properties properties;
+    private final SqlDialect dialect;
+    private ConnectionPool connectionPool;
+
     private DatabaseManager() {
-        // Private constructor for singleton
+        this.properties = loadProperties();
+        this.dialect = SqlDialect.fromProperties(properties);
+        dialect.configure(properties);
     }
 
     /**
@@ -31,162 +43,54 @@ public class DatabaseManager {
     }
 
     /**
-     * Get database connection
+     * Borrow a pooled database connection; closing it returns it to the pool
      */
     public Connection getConnection() throws SQLException {
-        try {
-            // Load MySQL JDBC driver
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(DATABASE_URL, DB_USER, DB_PASSWORD);
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("MySQL JDBC driver not found", e);
-        }
+        return getConnectionPool().getConnection();
     }
 
     /**
-     * Initialize database with schema
+     * Get the connection pool, creating it on first use
      */
-    public void initializeDatabase() throws SQLException {
-        try (Connection connection = getConnection()) {
-            String schemaSQL = loadSchemaSQL();
-            try (Statement statement = connection.createStatement()) {
-                String[] statements = schemaSQL.split(";");
-                for (String sql : statements) {
-                    sql = sql.trim();
-                    if (!sql.isEmpty() && !sql.startsWith("--")) {
-                        statement.execute(sql);
-                    }
-                }
-            }
-            
-            // Create indexes safely
-            createIndexesSafely(connection);
-            
-            System.out.println("Database initialized successfully");
-        } catch (IOException e) {
-            throw new SQLException("Failed to load database schema", e);
+    public synchronized ConnectionPool getConnectionPool() throws SQLException {
+        if (connectionPool == null) {
+            connectionPool = new ConnectionPool(properties);
         }
+        return connectionPool;
     }
-    
+
     /**
-     * Create database indexes safely (ignore if they already exist)
+     * Database and application settings from database.properties
      */
-    private void createIndexesSafely(Connection connection) {
-        String[] indexes = {
-            "CREATE INDEX idx_candidates_email ON candidates(email)",
-            "CREATE INDEX idx_candidates_experience ON candidates(experience_years)",
-            "CREATE INDEX idx_candidate_skills_skill ON candidate_skills(skill)",
-            "CREATE INDEX idx_job_postings_status ON job_postings(status)",
-            "CREATE INDEX idx_job_skills_skill ON job_skills(skill)",
-            "CREATE INDEX idx_match_results_score ON match_results(match_score)"
-        };
-        
-        try (Statement statement = connection.createStatement()) {
-            for (String indexSQL : indexes) {
-                try {
-                    statement.execute(indexSQL);
-                } catch (SQLException e) {
-                    // Ignore duplicate index errors
-                    if (!e.getMessage().contains("Duplicate key name")) {
-                        System.err.println("Warning: Failed to create index: " + e.getMessage());
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Warning: Failed to create some indexes: " + e.getMessage());
-        }
+    public Properties getProperties() {
+        return properties;
     }
 
     /**
-     * Load schema SQL from resources or file
+     * SQL dialect of the configured database
      */
-    private String loadSchemaSQL() throws IOException {
-        // Load from resources first
-        var inputStream = getClass().getClassLoader().getResourceAsStream("database/schema.sql");
-        if (inputStream != null) {
-            return new String(inputStream.readAllBytes());
-        }
-
-        // Fallback to filesystem
-        Path schemaPath = Paths.get("src/main/resources/database/schema.sql");
-        if (Files.exists(schemaPath)) {
-            return Files.readString(schemaPath);
-        }
-
-        // Return default MySQL schema
-        return getDefaultSchema();
+    public SqlDialect getDialect() {
+        return dialect;
     }
 
     /**
-     * Default MySQL database schema
+     * Bring the schema up to date with the versioned migrations, then load the sample data
+     * if db.seed=true and tidy the stored skills. Migrating is a single query when the schema is
+     * already current, and loading the skills is a single query when no stored names need merging.
      */
-    private String getDefaultSchema() {
-        return """
-            -- Candidates table
-            CREATE TABLE IF NOT EXISTS candidates (
-                id INT AUTO_INCREMENT PRIMARY KEY,
-                name VARCHAR(255) NOT NULL,
-                email VARCHAR(255) UNIQUE NOT NULL,
-                phone VARCHAR(50),
-                education VARCHAR(255),
-                experience_years INT DEFAULT 0,
-                resume_text TEXT,
-                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
-            );
-
-            -- Job postings table
-            CREATE TABLE IF NOT EXISTS job_postings (
-                id INT AUTO_INCREMENT PRIMARY KEY,
-                title VARCHAR(255) NOT NULL,
-                description TEXT,
-                location VARCHAR(255),
-                salary_min DECIMAL(10,2),
-                salary_max DECIMAL(10,2),
-                required_experience INT DEFAULT 0,
-                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-                is_active TINYINT(1) DEFAULT 1
-            );
-
-            -- Candidate skills table
-            CREATE TABLE IF NOT EXISTS candidate_skills (
-                id INT AUTO_INCREMENT PRIMARY KEY,
-                candidate_id INT NOT NULL,
-                skill_name VARCHAR(255) NOT NULL,
-                proficiency_level VARCHAR(50) DEFAULT 'Intermediate',
-                UNIQUE(candidate_id, skill_name),
-                FOREIGN KEY (candidate_id) REFERENCES candidates(id) ON DELETE CASCADE
-            );
-
-            -- Job required skills table
-            CREATE TABLE IF NOT EXISTS job_skills (
-                id INT AUTO_INCREMENT PRIMARY KEY,
-                job_id INT NOT NULL,
-                skill_name VARCHAR(255) NOT NULL,
-                importance_level VARCHAR(50) DEFAULT 'Required',
-                UNIQUE(job_id, skill_name),
-                FOREIGN KEY (job_id) REFERENCES job_postings(id) ON DELETE CASCADE
-            );
-
-            -- Match results table
-            CREATE TABLE IF NOT EXISTS match_results (
-                id INT AUTO_INCREMENT PRIMARY KEY,
-                candidate_id INT NOT NULL,
-                job_id INT NOT NULL,
-                match_score DECIMAL(5,2) NOT NULL,
-                skill_match_count INT DEFAULT 0,
-                total_skills INT DEFAULT 0,
-                experience_match TINYINT(1) DEFAULT 0,
-                calculated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                UNIQUE(candidate_id, job_id),
-                FOREIGN KEY (candidate_id) REFERENCES candidates(id) ON DELETE CASCADE,
-                FOREIGN KEY (job_id) REFERENCES job_postings(id) ON DELETE CASCADE
-            );
-
-        """;
+    public void initializeDatabase() throws SQLException {
+        MigrationRunner migrationRunner = new MigrationRunner(this);
+        migrationRunner.migrate();
+        
+        if (Boolean.parseBoolean(properties.getProperty(SEED_PROPERTY, "false").trim())) {
+            migrationRunner.runScript(SEED_RESOURCE);
+            System.out.println("Sample data loaded");
+        }
+        
+        // Merge stored aliases the dictionary now maps to one skill
+        SkillDAO.load();
     }
-
+    
     /**
      * Test database connection
      */
@@ -216,9 +120,45 @@ public class DatabaseManager {
     }
 
     /**
-     * Shutdown / cleanup (optional)
+     * Load settings from the bundled database.properties, overridden by the file named
+     * by the db.config system property if set
+     */
+    private Properties loadProperties() {
+        Properties loaded = new Properties();
+        loaded.setProperty("db.url", DEFAULT_DATABASE_URL);
+        loaded.setProperty("db.username", "root");
+        loaded.setProperty("db.password", "root123");
+        loaded.setProperty("db.driver", "com.mysql.cj.jdbc.Driver");
+
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(CONFIG_RESOURCE)) {
+            if (inputStream != null) {
+                loaded.load(inputStream);
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Failed to read " + CONFIG_RESOURCE + ": " + e.getMessage());
+        }
+
+        String configFile = System.getProperty(CONFIG_FILE_PROPERTY);
+        if (configFile != null && !configFile.isBlank()) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(configFile), StandardCharsets.UTF_8)) {
+                loaded.load(reader);
+            } catch (IOException e) {
+                System.err.println("Warning: Failed to read database config " + configFile + ": " + e.getMessage());
+            }
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Shutdown / cleanup: closes the connection pool
      */
-    public void shutdown() {
+    public synchronized void shutdown() {
+        if (connectionPool != null) {
+            System.out.println("Connection pool: " + connectionPool.getStatistics());
+            connectionPool.close();
+            connectionPool = null;
+        }
         System.out.println("Database manager shutdown completed");
     }
 }
\ No newline at end of file
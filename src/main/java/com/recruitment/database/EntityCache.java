@@ -0,0 +1,284 @@
+package com.recruitment.database;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of entities by id, bounded by their estimated size in bytes.
+ *
+ * Eviction is segmented LRU: new entries go to a probation segment and are promoted to the
+ * protected segment (80% of the budget) when read again, so a scan through many entities
+ * read once cannot push out the ones that are read repeatedly.
+ *
+ * Entries are invalidated when the DAOs publish a {@link ChangeEvent}. Writes made by other
+ * processes are caught by a version check: an entry older than the validation interval is
+ * served only after a primary-key lookup confirms its updated_at is unchanged.
+ *
+ * Entities are mutable, so the cache stores its own copy and hands out copies.
+ */
+public class EntityCache<V> {
+    private static final double PROTECTED_SHARE = 0.8;
+
+    /**
+     * Current updated_at of an entity in the database, or null if it no longer exists
+     */
+    public interface VersionLookup {
+        LocalDateTime findUpdatedAt(Long id) throws SQLException;
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final int weight;
+        final LocalDateTime version;
+        long validatedAt;
+        boolean isProtected;
+
+        Entry(V value, int weight, LocalDateTime version, long validatedAt) {
+            this.value = value;
+            this.weight = weight;
+            this.version = version;
+            this.validatedAt = validatedAt;
+        }
+    }
+
+    private final String name;
+    private final long maxWeight;
+    private final long maxProtectedWeight;
+    private final long validationIntervalNanos;
+    private final UnaryOperator<V> copier;
+    private final ToIntFunction<V> weigher;
+    private final Function<V, LocalDateTime> versionOf;
+
+    // Insertion-ordered; an entry is moved to the end (most recent) by re-inserting it
+    private final LinkedHashMap<Long, Entry<V>> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<Long, Entry<V>> protectedEntries = new LinkedHashMap<>();
+    private long probationWeight;
+    private long protectedWeight;
+
+    // Incremented on every invalidation; a load that overlapped one is not cached
+    private long invalidationCount;
+
+    private long hitCount;
+    private long missCount;
+    private long validationCount;
+    private long staleCount;
+    private long evictionCount;
+
+    public EntityCache(String name, long maxWeight, long validationIntervalMillis, UnaryOperator<V> copier,
+                       ToIntFunction<V> weigher, Function<V, LocalDateTime> versionOf) {
+        if (maxWeight < 0 || validationIntervalMillis < 0) {
+            throw new IllegalArgumentException("Cache size and validation interval cannot be negative");
+        }
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.maxProtectedWeight = (long) (maxWeight * PROTECTED_SHARE);
+        this.validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(validationIntervalMillis);
+        this.copier = Objects.requireNonNull(copier);
+        this.weigher = Objects.requireNonNull(weigher);
+        this.versionOf = Objects.requireNonNull(versionOf);
+    }
+
+    /**
+     * Copy of the cached entity, or null on a miss. Entries due for validation are checked
+     * against the database first; the lookup runs without holding the cache lock.
+     */
+    public V get(Long id, VersionLookup versionLookup) throws SQLException {
+        Entry<V> entry;
+        long stamp;
+        synchronized (this) {
+            entry = find(id);
+            if (entry == null) {
+                missCount++;
+                return null;
+            }
+            if (System.nanoTime() - entry.validatedAt < validationIntervalNanos) {
+                hitCount++;
+                touch(id, entry);
+                return copier.apply(entry.value);
+            }
+            stamp = invalidationCount;
+        }
+
+        LocalDateTime current = versionLookup.findUpdatedAt(id);
+
+        synchronized (this) {
+            validationCount++;
+            if (current == null || !current.equals(entry.version)) {
+                staleCount++;
+                missCount++;
+                if (find(id) == entry) {
+                    remove(id);
+                    invalidationCount++;
+                }
+                return null;
+            }
+            if (stamp == invalidationCount && find(id) == entry) {
+                entry.validatedAt = System.nanoTime();
+                touch(id, entry);
+            }
+            hitCount++;
+            return copier.apply(entry.value);
+        }
+    }
+
+    /**
+     * Marker to take before loading an entity from the database, for {@link #put}
+     */
+    public synchronized long stamp() {
+        return invalidationCount;
+    }
+
+    /**
+     * Cache a copy of an entity loaded from the database. Skipped if any entry was invalidated
+     * since the stamp was taken (the load may have read data that is already stale) and never
+     * replaces a newer version of the same entity.
+     */
+    public synchronized void put(Long id, V value, long stamp) {
+        if (id == null || value == null || maxWeight == 0 || stamp != invalidationCount) {
+            return;
+        }
+
+        int weight = weigher.applyAsInt(value);
+        if (weight > maxWeight) {
+            return;
+        }
+
+        LocalDateTime version = versionOf.apply(value);
+        Entry<V> existing = find(id);
+        if (existing != null) {
+            if (existing.version != null && version != null && existing.version.isAfter(version)) {
+                return;
+            }
+            remove(id);
+        }
+
+        Entry<V> entry = new Entry<>(copier.apply(value), weight, version, System.nanoTime());
+        probation.put(id, entry);
+        probationWeight += weight;
+        evict();
+    }
+
+    /**
+     * Drop an entity after it was written or deleted
+     */
+    public synchronized void invalidate(Long id) {
+        invalidationCount++;
+        if (id != null) {
+            remove(id);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidationCount++;
+        probation.clear();
+        protectedEntries.clear();
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    public synchronized int size() {
+        return probation.size() + protectedEntries.size();
+    }
+
+    public synchronized long getWeight() {
+        return probationWeight + protectedWeight;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Share of lookups served from memory
+     */
+    public synchronized double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * One-line summary of the cache metrics
+     */
+    public synchronized String getStatistics() {
+        return String.format("%s: entries=%d, size=%dKB/%dKB, hits=%d, misses=%d, hitRate=%.1f%%, "
+                        + "validations=%d, stale=%d, evictions=%d",
+                name, size(), getWeight() / 1024, maxWeight / 1024, hitCount, missCount, getHitRate() * 100,
+                validationCount, staleCount, evictionCount);
+    }
+
+    private Entry<V> find(Long id) {
+        Entry<V> entry = protectedEntries.get(id);
+        return entry != null ? entry : probation.get(id);
+    }
+
+    /**
+     * Record a read: move the entry to the most recent end of the protected segment
+     */
+    private void touch(Long id, Entry<V> entry) {
+        if (entry.isProtected) {
+            protectedEntries.remove(id);
+            protectedEntries.put(id, entry);
+            return;
+        }
+
+        probation.remove(id);
+        probationWeight -= entry.weight;
+        entry.isProtected = true;
+        protectedEntries.put(id, entry);
+        protectedWeight += entry.weight;
+
+        // Demote the least recently read protected entries back to probation
+        Iterator<Map.Entry<Long, Entry<V>>> iterator = protectedEntries.entrySet().iterator();
+        while (protectedWeight > maxProtectedWeight && iterator.hasNext()) {
+            Map.Entry<Long, Entry<V>> oldest = iterator.next();
+            iterator.remove();
+            Entry<V> demoted = oldest.getValue();
+            demoted.isProtected = false;
+            protectedWeight -= demoted.weight;
+            probation.put(oldest.getKey(), demoted);
+            probationWeight += demoted.weight;
+        }
+        evict();
+    }
+
+    private void remove(Long id) {
+        Entry<V> entry = protectedEntries.remove(id);
+        if (entry != null) {
+            protectedWeight -= entry.weight;
+            return;
+        }
+        entry = probation.remove(id);
+        if (entry != null) {
+            probationWeight -= entry.weight;
+        }
+    }
+
+    /**
+     * Evict least recently used probation entries until the cache fits its budget
+     */
+    private void evict() {
+        Iterator<Map.Entry<Long, Entry<V>>> iterator = probation.entrySet().iterator();
+        while (probationWeight + protectedWeight > maxWeight && iterator.hasNext()) {
+            Entry<V> evicted = iterator.next().getValue();
+            iterator.remove();
+            probationWeight -= evicted.weight;
+            evictionCount++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.recruitment.database;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Embedded H2 database running in the application process, for single-node deployments,
+ * offline use and service-free benchmarks. H2 runs in MySQL compatibility mode so the DAOs'
+ * SQL (INSERT IGNORE, ENUM columns, multi-row inserts) works unchanged. It has no FULLTEXT
+ * indexes, so search uses the in-process inverted index.
+ */
+public class H2Dialect implements SqlDialect {
+    public static final String NAME = "h2";
+    private static final String DRIVER = "org.h2.Driver";
+
+    // ErrorCode.DUPLICATE_COLUMN_NAME_1 and ErrorCode.INDEX_ALREADY_EXISTS_1
+    private static final int DUPLICATE_COLUMN_NAME = 42121;
+    private static final int INDEX_ALREADY_EXISTS = 42111;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Use the H2 driver and add the compatibility settings the DAOs rely on to the URL
+     */
+    @Override
+    public void configure(Properties properties) {
+        String url = properties.getProperty("db.url", "");
+        if (!url.startsWith("jdbc:h2:")) {
+            throw new IllegalStateException("The h2 dialect needs a jdbc:h2: URL, got: " + url);
+        }
+
+        String upperUrl = url.toUpperCase(Locale.ROOT);
+        StringBuilder configured = new StringBuilder(url);
+        if (!upperUrl.contains(";MODE=")) {
+            configured.append(";MODE=MySQL");
+        }
+        if (!upperUrl.contains(";DATABASE_TO_LOWER=")) {
+            configured.append(";DATABASE_TO_LOWER=TRUE");
+        }
+        // An in-memory database would otherwise vanish whenever the pool closes its last connection
+        if (upperUrl.startsWith("JDBC:H2:MEM:") && !upperUrl.contains(";DB_CLOSE_DELAY=")) {
+            configured.append(";DB_CLOSE_DELAY=-1");
+        }
+
+        properties.setProperty("db.url", configured.toString());
+        properties.setProperty("db.driver", DRIVER);
+    }
+
+    @Override
+    public boolean supportsFullText() {
+        return false;
+    }
+
+    @Override
+    public int getStreamingFetchSize() {
+        // Embedded result sets are read in place; larger results spill to disk, not the heap
+        return 1_000;
+    }
+
+    @Override
+    public boolean isAlreadyAppliedError(SQLException e) {
+        return e.getErrorCode() == DUPLICATE_COLUMN_NAME || e.getErrorCode() == INDEX_ALREADY_EXISTS;
+    }
+}
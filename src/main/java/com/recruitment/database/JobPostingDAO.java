@@ -1,24 +1,38 @@
 package com.recruitment.database;
 
 import com.recruitment.model.JobPosting;
+import com.recruitment.util.SkillDictionary;
 import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 
 /**
  * Data Access Object for JobPosting operations
  */
 public class JobPostingDAO {
+    // Results returned by search(String) when no limit is given
+    public static final int DEFAULT_SEARCH_LIMIT = 200;
+    
+    // Shared by all DAO instances; every committed job posting write publishes a ChangeEvent that evicts the entry
+    private static final EntityCache<JobPosting> cache = createCache();
+    
     private final DatabaseManager dbManager;
+    private final ChangeEventBus eventBus;
     
     public JobPostingDAO() {
         this.dbManager = DatabaseManager.getInstance();
+        this.eventBus = ChangeEventBus.getInstance();
     }
     
     /**
-     * Save a new job posting to the database
+     * Save a new job posting and its skills in one transaction
      */
     public Long save(JobPosting jobPosting) throws SQLException {
         if (jobPosting == null) {
@@ -31,55 +45,64 @@ public class JobPostingDAO {
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            statement.setString(1, jobPosting.getTitle());
-            statement.setString(2, jobPosting.getDescription());
-            statement.setString(3, jobPosting.getLocation());
+        try (Connection connection = dbManager.getConnection()) {
+            connection.setAutoCommit(false);
             
-            if (jobPosting.getSalaryMin() != null) {
-                statement.setBigDecimal(4, jobPosting.getSalaryMin());
-            } else {
-                statement.setNull(4, Types.DECIMAL);
-            }
-            
-            if (jobPosting.getSalaryMax() != null) {
-                statement.setBigDecimal(5, jobPosting.getSalaryMax());
-            } else {
-                statement.setNull(5, Types.DECIMAL);
-            }
-            
-            statement.setInt(6, jobPosting.getRequiredExperience());
-            statement.setTimestamp(7, Timestamp.valueOf(jobPosting.getCreatedAt()));
-            statement.setTimestamp(8, Timestamp.valueOf(jobPosting.getUpdatedAt()));
-            statement.setString(9, jobPosting.isActive() ? "Active" : "Closed");
-            
-            int affectedRows = statement.executeUpdate();
-            
-            if (affectedRows == 0) {
-                throw new SQLException("Creating job posting failed, no rows affected");
-            }
-            
-            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                statement.setString(1, jobPosting.getTitle());
+                statement.setString(2, jobPosting.getDescription());
+                statement.setString(3, jobPosting.getLocation());
+                
+                if (jobPosting.getSalaryMin() != null) {
+                    statement.setBigDecimal(4, jobPosting.getSalaryMin());
+                } else {
+                    statement.setNull(4, Types.DECIMAL);
+                }
+                
+                if (jobPosting.getSalaryMax() != null) {
+                    statement.setBigDecimal(5, jobPosting.getSalaryMax());
+                } else {
+                    statement.setNull(5, Types.DECIMAL);
+                }
+                
+                statement.setInt(6, jobPosting.getRequiredExperience());
+                statement.setTimestamp(7, Timestamp.valueOf(jobPosting.getCreatedAt()));
+                // Microseconds, which the column keeps as given instead of rounding
+                statement.setTimestamp(8, Timestamp.valueOf(jobPosting.getUpdatedAt().truncatedTo(ChronoUnit.MICROS)));
+                statement.setString(9, jobPosting.isActive() ? "Active" : "Closed");
+                
+                int affectedRows = statement.executeUpdate();
+                
+                if (affectedRows == 0) {
+                    throw new SQLException("Creating job posting failed, no rows affected");
+                }
+                
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (!generatedKeys.next()) {
+                        throw new SQLException("Creating job posting failed, no ID obtained");
+                    }
                     Long jobId = generatedKeys.getLong(1);
-                    jobPosting.setId(jobId);
                     
                     // Save skills
-                    saveRequiredSkills(jobId, jobPosting.getRequiredSkills());
-                    savePreferredSkills(jobId, jobPosting.getPreferredSkills());
+                    Map<String, String> skills = canonicalSkills(jobPosting);
+                    insertSkills(connection, jobId, skills);
                     
+                    connection.commit();
+                    jobPosting.setId(jobId);
+                    eventBus.publish(new ChangeEvent(ChangeEvent.EntityType.JOB_POSTING, ChangeEvent.Type.CREATED,
+                            jobId, new ArrayList<>(skills.keySet()), null));
                     return jobId;
-                } else {
-                    throw new SQLException("Creating job posting failed, no ID obtained");
                 }
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
             }
         }
     }
     
     /**
-     * Update an existing job posting
+     * Update an existing job posting. Skills are diffed against the stored set and only
+     * additions, removals and importance changes are written, in the same transaction.
      */
     public void update(JobPosting jobPosting) throws SQLException {
         if (jobPosting == null || jobPosting.getId() == null) {
@@ -93,41 +116,60 @@ public class JobPostingDAO {
             WHERE id = ?
             """;
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-            
-            statement.setString(1, jobPosting.getTitle());
-            statement.setString(2, jobPosting.getDescription());
-            statement.setString(3, jobPosting.getLocation());
-            
-            if (jobPosting.getSalaryMin() != null) {
-                statement.setBigDecimal(4, jobPosting.getSalaryMin());
-            } else {
-                statement.setNull(4, Types.DECIMAL);
-            }
-            
-            if (jobPosting.getSalaryMax() != null) {
-                statement.setBigDecimal(5, jobPosting.getSalaryMax());
-            } else {
-                statement.setNull(5, Types.DECIMAL);
-            }
-            
-            statement.setInt(6, jobPosting.getRequiredExperience());
-            statement.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
-            statement.setString(8, jobPosting.isActive() ? "Active" : "Closed");
-            statement.setLong(9, jobPosting.getId());
-            
-            int affectedRows = statement.executeUpdate();
+        SkillDiff skillDiff;
+        // Microseconds, so the version kept on the job posting equals the stored one
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        
+        try (Connection connection = dbManager.getConnection()) {
+            connection.setAutoCommit(false);
             
-            if (affectedRows == 0) {
-                throw new SQLException("Updating job posting failed, job posting not found");
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, jobPosting.getTitle());
+                statement.setString(2, jobPosting.getDescription());
+                statement.setString(3, jobPosting.getLocation());
+                
+                if (jobPosting.getSalaryMin() != null) {
+                    statement.setBigDecimal(4, jobPosting.getSalaryMin());
+                } else {
+                    statement.setNull(4, Types.DECIMAL);
+                }
+                
+                if (jobPosting.getSalaryMax() != null) {
+                    statement.setBigDecimal(5, jobPosting.getSalaryMax());
+                } else {
+                    statement.setNull(5, Types.DECIMAL);
+                }
+                
+                statement.setInt(6, jobPosting.getRequiredExperience());
+                statement.setTimestamp(7, Timestamp.valueOf(updatedAt));
+                statement.setString(8, jobPosting.isActive() ? "Active" : "Closed");
+                statement.setLong(9, jobPosting.getId());
+                
+                int affectedRows = statement.executeUpdate();
+                
+                if (affectedRows == 0) {
+                    throw new SQLException("Updating job posting failed, job posting not found");
+                }
+                
+                // Update skills
+                skillDiff = SkillDiff.of(findSkillImportance(connection, jobPosting.getId()), canonicalSkills(jobPosting));
+                applySkillDiff(connection, jobPosting.getId(), skillDiff);
+                
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
             }
-            
-            // Update skills
-            deleteSkills(jobPosting.getId());
-            saveRequiredSkills(jobPosting.getId(), jobPosting.getRequiredSkills());
-            savePreferredSkills(jobPosting.getId(), jobPosting.getPreferredSkills());
         }
+        
+        jobPosting.setUpdatedAt(updatedAt);
+        
+        List<String> added = new ArrayList<>(skillDiff.getAdded());
+        List<String> removed = new ArrayList<>(skillDiff.getRemoved());
+        added.addAll(skillDiff.getChanged().keySet());
+        removed.addAll(skillDiff.getChanged().keySet());
+        eventBus.publish(new ChangeEvent(ChangeEvent.EntityType.JOB_POSTING, ChangeEvent.Type.UPDATED,
+                jobPosting.getId(), added, removed));
     }
     
     /**
@@ -138,12 +180,18 @@ public class JobPostingDAO {
             return null;
         }
         
+        JobPosting cached = cache.get(id, this::findUpdatedAt);
+        if (cached != null) {
+            return cached;
+        }
+        
         String sql = """
             SELECT id, title, description, location, salary_min, salary_max, required_experience,
                    created_at, updated_at, status
             FROM job_postings WHERE id = ?
             """;
         
+        long stamp = cache.stamp();
         try (Connection connection = dbManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
@@ -152,7 +200,8 @@ public class JobPostingDAO {
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
                     JobPosting jobPosting = mapResultSetToJobPosting(resultSet);
-                    loadSkills(jobPosting);
+                    loadSkills(connection, jobPosting);
+                    cache.put(id, jobPosting, stamp);
                     return jobPosting;
                 }
             }
@@ -161,6 +210,30 @@ public class JobPostingDAO {
         return null;
     }
     
+    /**
+     * Hit and miss counts of the findById cache
+     */
+    public static EntityCache<JobPosting> getCache() {
+        return cache;
+    }
+    
+    /**
+     * Current updated_at of a job posting, or null if it was deleted
+     */
+    private LocalDateTime findUpdatedAt(Long id) throws SQLException {
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT updated_at FROM job_postings WHERE id = ?")) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    Timestamp updatedAt = resultSet.getTimestamp("updated_at");
+                    return updatedAt != null ? updatedAt.toLocalDateTime() : LocalDateTime.MIN;
+                }
+            }
+        }
+        return null;
+    }
+    
     /**
      * Find all job postings
      */
@@ -178,10 +251,10 @@ public class JobPostingDAO {
              ResultSet resultSet = statement.executeQuery()) {
             
             while (resultSet.next()) {
-                JobPosting jobPosting = mapResultSetToJobPosting(resultSet);
-                loadSkills(jobPosting);
-                jobPostings.add(jobPosting);
+                jobPostings.add(mapResultSetToJobPosting(resultSet));
             }
+            
+            loadSkills(connection, jobPostings);
         }
         
         return jobPostings;
@@ -204,10 +277,37 @@ public class JobPostingDAO {
              ResultSet resultSet = statement.executeQuery()) {
             
             while (resultSet.next()) {
-                JobPosting jobPosting = mapResultSetToJobPosting(resultSet);
-                loadSkills(jobPosting);
-                jobPostings.add(jobPosting);
+                jobPostings.add(mapResultSetToJobPosting(resultSet));
             }
+            
+            loadSkills(connection, jobPostings);
+        }
+        
+        return jobPostings;
+    }
+    
+    /**
+     * The limit most recently created active job postings, newest first
+     */
+    private List<JobPosting> findNewestActive(int limit) throws SQLException {
+        String sql = """
+            SELECT id, title, description, location, salary_min, salary_max, required_experience,
+                   created_at, updated_at, status
+            FROM job_postings WHERE status = 'Active' ORDER BY created_at DESC, id DESC LIMIT ?
+            """;
+        
+        List<JobPosting> jobPostings = new ArrayList<>();
+        
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    jobPostings.add(mapResultSetToJobPosting(resultSet));
+                }
+            }
+            
+            loadSkills(connection, jobPostings);
         }
         
         return jobPostings;
@@ -239,11 +339,11 @@ public class JobPostingDAO {
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    JobPosting jobPosting = mapResultSetToJobPosting(resultSet);
-                    loadSkills(jobPosting);
-                    jobPostings.add(jobPosting);
+                    jobPostings.add(mapResultSetToJobPosting(resultSet));
                 }
             }
+            
+            loadSkills(connection, jobPostings);
         }
         
         return jobPostings;
@@ -262,7 +362,8 @@ public class JobPostingDAO {
                    j.required_experience, j.created_at, j.updated_at, j.status
             FROM job_postings j
             JOIN job_skills js ON j.id = js.job_posting_id
-            WHERE LOWER(js.skill) = LOWER(?) AND j.status = 'Active'
+            JOIN skills s ON s.id = js.skill_id
+            WHERE s.name = ? AND j.status = 'Active'
             ORDER BY j.created_at DESC
             """;
         
@@ -271,15 +372,15 @@ public class JobPostingDAO {
         try (Connection connection = dbManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setString(1, skill.trim());
+            statement.setString(1, SkillDictionary.current().canonicalize(skill));
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    JobPosting jobPosting = mapResultSetToJobPosting(resultSet);
-                    loadSkills(jobPosting);
-                    jobPostings.add(jobPosting);
+                    jobPostings.add(mapResultSetToJobPosting(resultSet));
                 }
             }
+            
+            loadSkills(connection, jobPostings);
         }
         
         return jobPostings;
@@ -310,48 +411,116 @@ public class JobPostingDAO {
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    JobPosting jobPosting = mapResultSetToJobPosting(resultSet);
-                    loadSkills(jobPosting);
-                    jobPostings.add(jobPosting);
+                    jobPostings.add(mapResultSetToJobPosting(resultSet));
                 }
             }
+            
+            loadSkills(connection, jobPostings);
         }
         
         return jobPostings;
     }
     
     /**
-     * Search job postings by title or description
+     * Search active job postings by title or description, most relevant first
      */
     public List<JobPosting> search(String searchTerm) throws SQLException {
+        return search(searchTerm, DEFAULT_SEARCH_LIMIT);
+    }
+    
+    /**
+     * Search active job postings by title or description, returning at most limit postings.
+     * Every word of the search term must match a word (or word prefix) in one of the fields.
+     */
+    public List<JobPosting> search(String searchTerm, int limit) throws SQLException {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return findActive();
+            return findNewestActive(limit);
+        }
+        
+        SearchIndex searchIndex = SearchIndex.getInstance();
+        if (!searchIndex.isFullText()) {
+            return findByIds(searchIndex.searchJobPostings(searchTerm, limit));
+        }
+        
+        String query = SearchIndex.booleanQuery(searchTerm);
+        if (query == null) {
+            return new ArrayList<>();
         }
         
         String sql = """
             SELECT id, title, description, location, salary_min, salary_max, required_experience,
-                   created_at, updated_at, status
-            FROM job_postings 
-            WHERE (LOWER(title) LIKE LOWER(?) OR LOWER(description) LIKE LOWER(?)) AND status = 'Active'
-            ORDER BY created_at DESC
+                   created_at, updated_at, status,
+                   MATCH(title, description) AGAINST (? IN BOOLEAN MODE) AS relevance
+            FROM job_postings
+            WHERE MATCH(title, description) AGAINST (? IN BOOLEAN MODE) AND status = 'Active'
+            ORDER BY relevance DESC, id DESC
+            LIMIT ?
             """;
         
         List<JobPosting> jobPostings = new ArrayList<>();
-        String searchPattern = "%" + searchTerm.trim() + "%";
         
         try (Connection connection = dbManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setString(1, searchPattern);
-            statement.setString(2, searchPattern);
+            statement.setString(1, query);
+            statement.setString(2, query);
+            statement.setInt(3, limit);
             
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    JobPosting jobPosting = mapResultSetToJobPosting(resultSet);
-                    loadSkills(jobPosting);
+                    jobPostings.add(mapResultSetToJobPosting(resultSet));
+                }
+            }
+            
+            loadSkills(connection, jobPostings);
+        }
+        
+        return jobPostings;
+    }
+    
+    /**
+     * Find job postings by ID, in the order of the given IDs; unknown IDs are skipped
+     */
+    public List<JobPosting> findByIds(List<Long> ids) throws SQLException {
+        List<JobPosting> jobPostings = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) {
+            return jobPostings;
+        }
+        
+        Map<Long, JobPosting> byId = new HashMap<>();
+        try (Connection connection = dbManager.getConnection()) {
+            for (int from = 0; from < ids.size(); from += CandidateDAO.SKILL_QUERY_BATCH_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + CandidateDAO.SKILL_QUERY_BATCH_SIZE, ids.size()));
+                String sql = """
+                    SELECT id, title, description, location, salary_min, salary_max, required_experience,
+                           created_at, updated_at, status
+                    FROM job_postings WHERE id IN (%s)
+                    """.formatted(CandidateDAO.placeholders(chunk.size()));
+                
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setLong(i + 1, chunk.get(i));
+                    }
+                    
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            JobPosting jobPosting = mapResultSetToJobPosting(resultSet);
+                            byId.put(jobPosting.getId(), jobPosting);
+                        }
+                    }
+                }
+            }
+            
+            for (Long id : ids) {
+                JobPosting jobPosting = byId.get(id);
+                if (jobPosting != null) {
                     jobPostings.add(jobPosting);
                 }
             }
+            loadSkills(connection, jobPostings);
         }
         
         return jobPostings;
@@ -370,7 +539,7 @@ public class JobPostingDAO {
         try (Connection connection = dbManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)));
             statement.setLong(2, id);
             
             int affectedRows = statement.executeUpdate();
@@ -379,6 +548,8 @@ public class JobPostingDAO {
                 throw new SQLException("Deactivating job posting failed, job posting not found");
             }
         }
+        
+        eventBus.publish(ChangeEvent.jobPosting(ChangeEvent.Type.UPDATED, id));
     }
     
     /**
@@ -394,7 +565,7 @@ public class JobPostingDAO {
         try (Connection connection = dbManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)));
             statement.setLong(2, id);
             
             int affectedRows = statement.executeUpdate();
@@ -403,6 +574,8 @@ public class JobPostingDAO {
                 throw new SQLException("Activating job posting failed, job posting not found");
             }
         }
+        
+        eventBus.publish(ChangeEvent.jobPosting(ChangeEvent.Type.UPDATED, id));
     }
     
     /**
@@ -421,6 +594,9 @@ public class JobPostingDAO {
             statement.setLong(1, id);
             
             int affectedRows = statement.executeUpdate();
+            if (affectedRows > 0) {
+                eventBus.publish(ChangeEvent.jobPosting(ChangeEvent.Type.DELETED, id));
+            }
             return affectedRows > 0;
         }
     }
@@ -462,75 +638,161 @@ public class JobPostingDAO {
     }
     
     /**
-     * Save required skills for job posting
+     * Canonical skill names of a job posting mapped to their importance level.
+     * A skill listed as both required and preferred is kept once, as required.
      */
-    private void saveRequiredSkills(Long jobId, List<String> skills) throws SQLException {
-        saveSkills(jobId, skills, "Required");
-    }
-    
-    /**
-     * Save preferred skills for job posting
-     */
-    private void savePreferredSkills(Long jobId, List<String> skills) throws SQLException {
-        saveSkills(jobId, skills, "Preferred");
+    private Map<String, String> canonicalSkills(JobPosting jobPosting) {
+        SkillDictionary dictionary = SkillDictionary.current();
+        Map<String, String> skills = new LinkedHashMap<>();
+        for (String skill : dictionary.canonicalize(jobPosting.getRequiredSkills())) {
+            skills.put(skill, "Required");
+        }
+        for (String skill : dictionary.canonicalize(jobPosting.getPreferredSkills())) {
+            skills.putIfAbsent(skill, "Preferred");
+        }
+        return skills;
     }
     
     /**
-     * Save skills for job posting
+     * Insert skills with their importance levels (names must already be canonical)
      */
-    private void saveSkills(Long jobId, List<String> skills, String importanceLevel) throws SQLException {
-        if (skills == null || skills.isEmpty()) {
+    private void insertSkills(Connection connection, Long jobId, Map<String, String> skills) throws SQLException {
+        if (skills.isEmpty()) {
             return;
         }
         
-        String sql = "INSERT INTO job_skills (job_posting_id, skill, importance) VALUES (?, ?, ?)";
+        String sql = "INSERT INTO job_skills (job_posting_id, skill_id, importance) VALUES (?, ?, ?)";
+        Map<String, Integer> skillIds = SkillDAO.storeIds(connection, skills.keySet());
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Map.Entry<String, String> skill : skills.entrySet()) {
+                statement.setLong(1, jobId);
+                statement.setInt(2, skillIds.get(skill.getKey()));
+                statement.setString(3, skill.getValue());
+                statement.addBatch();
+            }
             
-            for (String skill : skills) {
-                if (skill != null && !skill.trim().isEmpty()) {
+            statement.executeBatch();
+        }
+    }
+    
+    /**
+     * Remove, add and re-rank job skills according to a diff
+     */
+    private void applySkillDiff(Connection connection, Long jobId, SkillDiff diff) throws SQLException {
+        // Removals first, so a skill re-added under a different case does not hit the unique key
+        if (!diff.getRemoved().isEmpty()) {
+            String sql = "DELETE FROM job_skills WHERE job_posting_id = ?"
+                    + " AND skill_id = (SELECT id FROM skills WHERE name = ?)";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (String skill : diff.getRemoved()) {
                     statement.setLong(1, jobId);
-                    statement.setString(2, skill.trim());
-                    statement.setString(3, importanceLevel);
+                    statement.setString(2, skill);
                     statement.addBatch();
                 }
+                statement.executeBatch();
             }
+        }
+        
+        if (!diff.getChanged().isEmpty()) {
+            String sql = "UPDATE job_skills SET importance = ? WHERE job_posting_id = ?"
+                    + " AND skill_id = (SELECT id FROM skills WHERE name = ?)";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (Map.Entry<String, String> skill : diff.getChanged().entrySet()) {
+                    statement.setString(1, skill.getValue());
+                    statement.setLong(2, jobId);
+                    statement.setString(3, skill.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        
+        insertSkills(connection, jobId, diff.getAddedValues());
+    }
+    
+    /**
+     * Stored skills of a job posting mapped to their importance level
+     */
+    private Map<String, String> findSkillImportance(Connection connection, Long jobId) throws SQLException {
+        String sql = """
+            SELECT s.name AS skill, js.importance
+            FROM job_skills js
+            JOIN skills s ON s.id = js.skill_id
+            WHERE js.job_posting_id = ?
+            """;
+        
+        Map<String, String> skills = new LinkedHashMap<>();
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, jobId);
             
-            statement.executeBatch();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    skills.put(resultSet.getString("skill"), resultSet.getString("importance"));
+                }
+            }
         }
+        
+        return skills;
     }
     
     /**
-     * Delete all skills for job posting
+     * Load skills for a list of job postings with one IN query per chunk of ids
      */
-    private void deleteSkills(Long jobId) throws SQLException {
-        String sql = "DELETE FROM job_skills WHERE job_posting_id = ?";
+    private void loadSkills(Connection connection, List<JobPosting> jobPostings) throws SQLException {
+        if (jobPostings.isEmpty()) {
+            return;
+        }
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
+        Map<Long, List<String>> requiredById = new HashMap<>();
+        Map<Long, List<String>> preferredById = new HashMap<>();
+        for (int from = 0; from < jobPostings.size(); from += CandidateDAO.SKILL_QUERY_BATCH_SIZE) {
+            List<JobPosting> chunk = jobPostings.subList(from,
+                    Math.min(from + CandidateDAO.SKILL_QUERY_BATCH_SIZE, jobPostings.size()));
             
-            statement.setLong(1, jobId);
-            statement.executeUpdate();
+            String sql = "SELECT js.job_posting_id, s.name AS skill, js.importance FROM job_skills js"
+                    + " JOIN skills s ON s.id = js.skill_id WHERE js.job_posting_id IN ("
+                    + CandidateDAO.placeholders(chunk.size()) + ") ORDER BY js.job_posting_id, js.importance, s.name";
+            
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setLong(i + 1, chunk.get(i).getId());
+                }
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        Map<Long, List<String>> target = "Required".equals(resultSet.getString("importance"))
+                                ? requiredById : preferredById;
+                        target.computeIfAbsent(resultSet.getLong("job_posting_id"), id -> new ArrayList<>())
+                                .add(resultSet.getString("skill"));
+                    }
+                }
+            }
+        }
+        
+        for (JobPosting jobPosting : jobPostings) {
+            setLoadedSkills(jobPosting, requiredById.getOrDefault(jobPosting.getId(), new ArrayList<>()),
+                    preferredById.getOrDefault(jobPosting.getId(), new ArrayList<>()));
         }
     }
     
     /**
      * Load skills for job posting
      */
-    private void loadSkills(JobPosting jobPosting) throws SQLException {
+    private void loadSkills(Connection connection, JobPosting jobPosting) throws SQLException {
         String sql = """
-            SELECT skill, importance 
-            FROM job_skills 
-            WHERE job_posting_id = ? 
-            ORDER BY importance, skill
+            SELECT s.name AS skill, js.importance
+            FROM job_skills js
+            JOIN skills s ON s.id = js.skill_id
+            WHERE js.job_posting_id = ?
+            ORDER BY js.importance, s.name
             """;
         
         List<String> requiredSkills = new ArrayList<>();
         List<String> preferredSkills = new ArrayList<>();
         
-        try (Connection connection = dbManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setLong(1, jobPosting.getId());
             
@@ -548,8 +810,47 @@ public class JobPostingDAO {
             }
         }
         
+        setLoadedSkills(jobPosting, requiredSkills, preferredSkills);
+    }
+    
+    /**
+     * Set skills read from the database without marking the job posting as modified
+     */
+    private static void setLoadedSkills(JobPosting jobPosting, List<String> requiredSkills, List<String> preferredSkills) {
+        LocalDateTime updatedAt = jobPosting.getUpdatedAt();
         jobPosting.setRequiredSkills(requiredSkills);
         jobPosting.setPreferredSkills(preferredSkills);
+        jobPosting.setUpdatedAt(updatedAt);
+    }
+    
+    /**
+     * Cache sized by db.cache.jobPostings.maxBytes (0 disables it)
+     */
+    private static EntityCache<JobPosting> createCache() {
+        Properties properties = DatabaseManager.getInstance().getProperties();
+        EntityCache<JobPosting> entityCache = new EntityCache<>("jobPostings",
+                Long.parseLong(properties.getProperty("db.cache.jobPostings.maxBytes", "8388608").trim()),
+                Long.parseLong(properties.getProperty("db.cache.validationInterval", "5000").trim()),
+                JobPosting::copy, JobPostingDAO::estimateSize, JobPosting::getUpdatedAt);
+        
+        ChangeEventBus.getInstance().subscribe(event -> {
+            if (event.isJobPosting()) {
+                entityCache.invalidate(event.getEntityId());
+            }
+        });
+        return entityCache;
+    }
+    
+    /**
+     * Approximate heap size of a job posting in bytes
+     */
+    private static int estimateSize(JobPosting jobPosting) {
+        int text = length(jobPosting.getTitle()) + length(jobPosting.getDescription()) + length(jobPosting.getLocation());
+        return 200 + 2 * text + 8 * (jobPosting.getRequiredSkills().size() + jobPosting.getPreferredSkills().size());
+    }
+    
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
     }
     
     /**
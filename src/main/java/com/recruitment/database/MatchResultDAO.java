@@ -0,0 +1,268 @@
+package com.recruitment.database;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object for stored match results. Each row records the versions (updated_at)
+ * of the candidate and job posting it was calculated from and the scoring version, so
+ * callers can tell which stored scores are still valid.
+ */
+public class MatchResultDAO {
+    // Results per INSERT statement; 8 parameters per row
+    private static final int UPSERT_BATCH_SIZE = 500;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DatabaseManager dbManager;
+
+    public MatchResultDAO() {
+        this.dbManager = DatabaseManager.getInstance();
+    }
+
+    /**
+     * Insert or replace the stored results for the given candidate/job pairs in one transaction.
+     * Every result must carry the Candidate and JobPosting it was calculated from.
+     */
+    public int saveAll(List<MatchResult> results, int scoringVersion) throws SQLException {
+        if (results == null || results.isEmpty()) {
+            return 0;
+        }
+
+        try (Connection connection = dbManager.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                int saved = 0;
+                for (int from = 0; from < results.size(); from += UPSERT_BATCH_SIZE) {
+                    List<MatchResult> batch = results.subList(from, Math.min(from + UPSERT_BATCH_SIZE, results.size()));
+                    saved += upsert(connection, batch, scoringVersion);
+                }
+                connection.commit();
+                return saved;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private int upsert(Connection connection, List<MatchResult> batch, int scoringVersion) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO match_results (candidate_id, job_posting_id, match_score, skill_match_details,
+                                       candidate_updated_at, job_updated_at, scoring_version, calculated_at)
+            VALUES
+            """);
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+        sql.append("""
+
+            ON DUPLICATE KEY UPDATE match_score = VALUES(match_score),
+                skill_match_details = VALUES(skill_match_details),
+                candidate_updated_at = VALUES(candidate_updated_at),
+                job_updated_at = VALUES(job_updated_at),
+                scoring_version = VALUES(scoring_version),
+                calculated_at = VALUES(calculated_at)
+            """);
+
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (MatchResult result : batch) {
+                if (result.getCandidate() == null || result.getJobPosting() == null) {
+                    throw new IllegalArgumentException("Match result must include its candidate and job posting");
+                }
+                statement.setLong(index++, result.getCandidateId());
+                statement.setLong(index++, result.getJobId());
+                statement.setDouble(index++, result.getMatchScore());
+                statement.setString(index++, toJson(result));
+                statement.setTimestamp(index++, toVersion(result.getCandidate().getUpdatedAt()));
+                statement.setTimestamp(index++, toVersion(result.getJobPosting().getUpdatedAt()));
+                statement.setInt(index++, scoringVersion);
+                statement.setTimestamp(index++, toTimestamp(result.getCalculatedAt()));
+            }
+            statement.executeUpdate();
+        }
+        return batch.size();
+    }
+
+    /**
+     * Highest-scoring stored results for a job, read in index order from
+     * (job_posting_id, match_score DESC, candidate_id), equal scores by candidate id. Candidates are not
+     * loaded, only their IDs.
+     */
+    public List<MatchResult> findTopByJob(Long jobId, int limit) throws SQLException {
+        return findTopByJob(jobId, limit, null, null);
+    }
+
+    /**
+     * Highest-scoring stored results for a job whose candidate's experience lies in the range
+     * (null bounds are open). The filter is applied in the same index-ordered read.
+     */
+    public List<MatchResult> findTopByJob(Long jobId, int limit, Integer minExperience, Integer maxExperience)
+            throws SQLException {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        StringBuilder sql = new StringBuilder("""
+            SELECT mr.id, mr.candidate_id, mr.job_posting_id, mr.match_score, mr.skill_match_details, mr.calculated_at
+            FROM match_results mr
+            """);
+        if (minExperience != null || maxExperience != null) {
+            sql.append("JOIN candidates c ON c.id = mr.candidate_id\n");
+        }
+        sql.append("WHERE mr.job_posting_id = ?\n");
+        if (minExperience != null) {
+            sql.append("  AND c.experience_years >= ?\n");
+        }
+        if (maxExperience != null) {
+            sql.append("  AND c.experience_years <= ?\n");
+        }
+        // Ties in candidate id order, as when scoring all candidates
+        sql.append("ORDER BY mr.match_score DESC, mr.candidate_id\nLIMIT ?");
+
+        List<MatchResult> results = new ArrayList<>();
+
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+
+            int index = 1;
+            statement.setLong(index++, jobId);
+            if (minExperience != null) {
+                statement.setInt(index++, minExperience);
+            }
+            if (maxExperience != null) {
+                statement.setInt(index++, maxExperience);
+            }
+            statement.setInt(index, limit);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    results.add(mapResultSetToMatchResult(resultSet));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * IDs of candidates whose stored result for the job is missing or was calculated from an
+     * older version of the candidate, the job posting or the scoring code
+     */
+    public List<Long> findStaleCandidateIds(JobPosting jobPosting, int scoringVersion) throws SQLException {
+        String sql = """
+            SELECT c.id
+            FROM candidates c
+            LEFT JOIN match_results mr ON mr.candidate_id = c.id AND mr.job_posting_id = ?
+            WHERE mr.id IS NULL
+               OR mr.scoring_version <> ?
+               OR mr.job_updated_at IS NULL OR mr.job_updated_at <> ?
+               OR mr.candidate_updated_at IS NULL OR mr.candidate_updated_at <> c.updated_at
+            ORDER BY c.id
+            """;
+
+        List<Long> ids = new ArrayList<>();
+
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            statement.setLong(1, jobPosting.getId());
+            statement.setInt(2, scoringVersion);
+            statement.setTimestamp(3, toVersion(jobPosting.getUpdatedAt()));
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+        }
+
+        return ids;
+    }
+
+    /**
+     * Delete all stored results for a job posting
+     */
+    public int deleteByJob(Long jobId) throws SQLException {
+        try (Connection connection = dbManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement("DELETE FROM match_results WHERE job_posting_id = ?")) {
+            statement.setLong(1, jobId);
+            return statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Skill breakdown stored in skill_match_details
+     */
+    private static String toJson(MatchResult result) {
+        ObjectNode details = objectMapper.createObjectNode();
+        details.put("skillMatchCount", result.getSkillMatchCount());
+        details.put("totalSkills", result.getTotalSkills());
+        details.put("experienceMatch", result.isExperienceMatch());
+        ArrayNode matched = details.putArray("matchedSkills");
+        result.getMatchedSkills().forEach(matched::add);
+        ArrayNode missing = details.putArray("missingSkills");
+        result.getMissingSkills().forEach(missing::add);
+        return details.toString();
+    }
+
+    private MatchResult mapResultSetToMatchResult(ResultSet resultSet) throws SQLException {
+        MatchResult result = new MatchResult();
+        result.setId(resultSet.getLong("id"));
+        result.setCandidateId(resultSet.getLong("candidate_id"));
+        result.setJobId(resultSet.getLong("job_posting_id"));
+        result.setMatchScore(resultSet.getDouble("match_score"));
+
+        Timestamp calculatedAt = resultSet.getTimestamp("calculated_at");
+        if (calculatedAt != null) {
+            result.setCalculatedAt(calculatedAt.toLocalDateTime());
+        }
+
+        String json = resultSet.getString("skill_match_details");
+        if (json != null) {
+            try {
+                JsonNode details = objectMapper.readTree(json);
+                result.setSkillMatchCount(details.path("skillMatchCount").asInt());
+                result.setTotalSkills(details.path("totalSkills").asInt());
+                result.setExperienceMatch(details.path("experienceMatch").asBoolean());
+                result.setMatchedSkills(toList(details.path("matchedSkills")));
+                result.setMissingSkills(toList(details.path("missingSkills")));
+            } catch (JsonProcessingException e) {
+                throw new SQLException("Invalid skill_match_details for match result " + result.getId(), e);
+            }
+        }
+
+        result.generateSummary();
+        return result;
+    }
+
+    private static List<String> toList(JsonNode array) {
+        List<String> values = new ArrayList<>();
+        for (JsonNode value : array) {
+            values.add(value.asText());
+        }
+        return values;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    /**
+     * An updated_at version as stored: the columns keep microseconds, while versions set in
+     * memory (new or just-edited entities) may carry nanoseconds
+     */
+    private static Timestamp toVersion(LocalDateTime updatedAt) {
+        return updatedAt != null ? Timestamp.valueOf(updatedAt.truncatedTo(ChronoUnit.MICROS)) : null;
+    }
+}
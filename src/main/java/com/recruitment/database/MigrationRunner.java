@@ -0,0 +1,271 @@
+package com.recruitment.database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Applies the versioned SQL migrations listed in database/migrations/index.list and records
+ * each one, with a checksum of its file, in the schema_version table. When the database is
+ * current, migrate() runs a single query.
+ *
+ * Migration files are named V&lt;version&gt;__&lt;description&gt;.sql. A file may have a variant for
+ * one dialect, V&lt;version&gt;__&lt;description&gt;.&lt;dialect&gt;.sql, used instead of it on that engine.
+ * Once applied, a file must not change: a checksum mismatch stops startup rather than leaving
+ * the schema in an unknown state.
+ */
+public class MigrationRunner {
+    private static final String MIGRATION_DIRECTORY = "database/migrations/";
+    private static final String INDEX_FILE = MIGRATION_DIRECTORY + "index.list";
+    private static final String VERSION_TABLE = "schema_version";
+
+    private final DatabaseManager dbManager;
+
+    public MigrationRunner(DatabaseManager dbManager) {
+        this.dbManager = dbManager;
+    }
+
+    /**
+     * A migration file from the index
+     */
+    private static class Migration {
+        private final int version;
+        private final String description;
+        private final String resource;
+        private final String sql;
+        private final String checksum;
+
+        Migration(int version, String description, String resource, String sql) {
+            this.version = version;
+            this.description = description;
+            this.resource = resource;
+            this.sql = sql;
+            this.checksum = sha256(sql);
+        }
+    }
+
+    /**
+     * Bring the schema up to date; returns the number of migrations applied
+     */
+    public int migrate() throws SQLException {
+        List<Migration> migrations = loadMigrations();
+
+        try (Connection connection = dbManager.getConnection()) {
+            Map<Integer, String> applied = findAppliedChecksums(connection);
+            if (applied == null) {
+                createVersionTable(connection);
+                applied = new HashMap<>();
+            }
+
+            int count = 0;
+            for (Migration migration : migrations) {
+                String checksum = applied.get(migration.version);
+                if (checksum == null) {
+                    apply(connection, migration);
+                    count++;
+                } else if (!checksum.equals(migration.checksum)) {
+                    throw new SQLException("Migration " + migration.resource
+                            + " was modified after it was applied (checksum mismatch)");
+                }
+            }
+
+            if (count > 0) {
+                System.out.println("Applied " + count + " schema migration(s); schema is at version "
+                        + migrations.get(migrations.size() - 1).version);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Run a SQL script from the classpath, statement by statement
+     */
+    public void runScript(String resource) throws SQLException {
+        String sql = readResource(resource);
+        try (Connection connection = dbManager.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sqlStatement : splitStatements(sql)) {
+                statement.execute(sqlStatement);
+            }
+        }
+    }
+
+    /**
+     * Checksums of applied migrations by version, or null if schema_version does not exist yet.
+     * Any other failure to read it is thrown, so a lost connection never looks like a new database.
+     */
+    private Map<Integer, String> findAppliedChecksums(Connection connection) throws SQLException {
+        if (!versionTableExists(connection)) {
+            return null;
+        }
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (resultSet.next()) {
+                applied.put(resultSet.getInt("version"), resultSet.getString("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Whether schema_version exists in the connection's database, looked up in the JDBC metadata
+     */
+    private boolean versionTableExists(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String table = metaData.storesUpperCaseIdentifiers() ? VERSION_TABLE.toUpperCase(Locale.ROOT) : VERSION_TABLE;
+        // '_' is a wildcard in metadata patterns
+        String pattern = table.replace("_", metaData.getSearchStringEscape() + "_");
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), pattern,
+                new String[] {"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    private void createVersionTable(Connection connection) throws SQLException {
+        String sql = """
+            CREATE TABLE IF NOT EXISTS schema_version (
+                version INT PRIMARY KEY,
+                description VARCHAR(255) NOT NULL,
+                checksum CHAR(64) NOT NULL,
+                applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+            """;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Run one migration and record it. DDL commits implicitly in MySQL, so a migration that
+     * fails part-way is not rolled back and is run again from the top on the next start.
+     * Statements failing only because they already ran (see
+     * {@link SqlDialect#isAlreadyAppliedError}) are skipped; beyond that, a migration must be
+     * written so every statement can run twice, e.g. by leaving a drop of data a later statement
+     * reads to the next migration.
+     */
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        System.out.println("Applying migration " + migration.resource);
+
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : splitStatements(migration.sql)) {
+                try {
+                    statement.execute(sql);
+                } catch (SQLException e) {
+                    if (!dbManager.getDialect().isAlreadyAppliedError(e)) {
+                        throw new SQLException("Migration " + migration.resource + " failed: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO schema_version (version, description, checksum) VALUES (?, ?, ?)")) {
+            statement.setInt(1, migration.version);
+            statement.setString(2, migration.description);
+            statement.setString(3, migration.checksum);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Read the migration index and the files it lists
+     */
+    private List<Migration> loadMigrations() throws SQLException {
+        List<Migration> migrations = new ArrayList<>();
+        int previousVersion = 0;
+
+        for (String line : readResource(INDEX_FILE).split("\\R")) {
+            String fileName = line.trim();
+            if (fileName.isEmpty() || fileName.startsWith("#")) {
+                continue;
+            }
+
+            int separator = fileName.indexOf("__");
+            if (!fileName.startsWith("V") || separator < 2 || !fileName.endsWith(".sql")) {
+                throw new SQLException("Invalid migration file name: " + fileName);
+            }
+
+            int version;
+            try {
+                version = Integer.parseInt(fileName.substring(1, separator));
+            } catch (NumberFormatException e) {
+                throw new SQLException("Invalid migration version: " + fileName, e);
+            }
+            if (version <= previousVersion) {
+                throw new SQLException("Migration versions must increase: " + fileName);
+            }
+            previousVersion = version;
+
+            String description = fileName.substring(separator + 2, fileName.length() - 4).replace('_', ' ');
+            String resource = dialectVariant(MIGRATION_DIRECTORY + fileName);
+            migrations.add(new Migration(version, description, resource, readResource(resource)));
+        }
+
+        return migrations;
+    }
+
+    /**
+     * The dialect's own version of a migration (V4__name.h2.sql for V4__name.sql) if there is one
+     */
+    private String dialectVariant(String resource) {
+        String variant = resource.substring(0, resource.length() - 4) + "." + dbManager.getDialect().getName() + ".sql";
+        return getClass().getClassLoader().getResource(variant) != null ? variant : resource;
+    }
+
+    /**
+     * Split a script into statements, dropping "--" comment lines
+     */
+    static List<String> splitStatements(String script) {
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (String sql : withoutComments.toString().split(";")) {
+            sql = sql.trim();
+            if (!sql.isEmpty()) {
+                statements.add(sql);
+            }
+        }
+        return statements;
+    }
+
+    private String readResource(String resource) throws SQLException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new SQLException("Missing database resource: " + resource);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("Failed to read " + resource, e);
+        }
+    }
+
+    private static String sha256(String text) {
+        try {
+            // Normalize line endings so a checkout with CRLF does not look like a modified migration
+            byte[] bytes = text.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.recruitment.database;
+
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * MySQL server (the default)
+ */
+public class MySqlDialect implements SqlDialect {
+    public static final String NAME = "mysql";
+
+    // Duplicate column name / duplicate key name / duplicate foreign key name / nothing to drop
+    private static final int ER_DUP_FIELDNAME = 1060;
+    private static final int ER_DUP_KEYNAME = 1061;
+    private static final int ER_FK_DUP_NAME = 1826;
+    private static final int ER_CANT_DROP_FIELD_OR_KEY = 1091;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void configure(Properties properties) {
+        // Settings are used as configured
+    }
+
+    @Override
+    public boolean supportsFullText() {
+        return true;
+    }
+
+    @Override
+    public int getStreamingFetchSize() {
+        // Connector/J streams rows one at a time only for this fetch size
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public boolean isAlreadyAppliedError(SQLException e) {
+        int code = e.getErrorCode();
+        return code == ER_DUP_FIELDNAME || code == ER_DUP_KEYNAME || code == ER_FK_DUP_NAME
+                || code == ER_CANT_DROP_FIELD_OR_KEY;
+    }
+}
@@ -0,0 +1,271 @@
+package com.recruitment.database;
+
+import com.recruitment.util.InvertedIndex;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-text search over candidates (name, email, resume text) and active job postings
+ * (title, description). With search.mode=fulltext the DAOs query the MySQL FULLTEXT indexes;
+ * with search.mode=index they use in-process inverted indexes built here on first search
+ * and kept current from {@link ChangeEvent}s. The default depends on the SQL dialect:
+ * engines without FULLTEXT support (H2) always use the in-process index.
+ *
+ * Changed ids are only queued on the publishing thread; a background thread reloads them in
+ * batches, so a burst of writes costs one query per batch and never waits on this index.
+ */
+public class SearchIndex {
+    public static final String MODE_PROPERTY = "search.mode";
+    public static final String MODE_FULLTEXT = "fulltext";
+    public static final String MODE_INDEX = "index";
+
+    // Changed rows reloaded per query
+    private static final int REINDEX_BATCH_SIZE = 500;
+    // Pause before re-indexing again after a failed reload
+    private static final long RETRY_DELAY_SECONDS = 5;
+
+    private static SearchIndex instance;
+
+    private final DatabaseManager dbManager;
+    private final boolean fullText;
+    private InvertedIndex candidateIndex;
+    private InvertedIndex jobPostingIndex;
+    private boolean subscribed;
+    private ScheduledExecutorService writer;
+
+    // Guarded by this
+    private final Set<Long> pendingCandidates = new LinkedHashSet<>();
+    private final Set<Long> pendingJobPostings = new LinkedHashSet<>();
+    private boolean drainScheduled;
+
+    private SearchIndex() {
+        this.dbManager = DatabaseManager.getInstance();
+        boolean dialectFullText = dbManager.getDialect().supportsFullText();
+        String mode = dbManager.getProperties()
+                .getProperty(MODE_PROPERTY, dialectFullText ? MODE_FULLTEXT : MODE_INDEX).trim().toLowerCase(Locale.ROOT);
+        if (!mode.equals(MODE_FULLTEXT) && !mode.equals(MODE_INDEX)) {
+            throw new IllegalStateException("Unknown " + MODE_PROPERTY + ": " + mode);
+        }
+        if (mode.equals(MODE_FULLTEXT) && !dialectFullText) {
+            System.err.println("Warning: " + dbManager.getDialect().getName()
+                    + " has no FULLTEXT indexes; using the in-process search index");
+            mode = MODE_INDEX;
+        }
+        this.fullText = mode.equals(MODE_FULLTEXT);
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static synchronized SearchIndex getInstance() {
+        if (instance == null) {
+            instance = new SearchIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Whether searches should use the database's FULLTEXT indexes
+     */
+    public boolean isFullText() {
+        return fullText;
+    }
+
+    /**
+     * Convert user input into a MySQL boolean-mode query requiring every word as a prefix,
+     * e.g. "java dev" becomes "+java* +dev*". Returns null if the input has no searchable words.
+     */
+    public static String booleanQuery(String searchTerm) {
+        List<String> words = InvertedIndex.tokenize(searchTerm);
+        if (words.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String word : words) {
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('+').append(word).append('*');
+        }
+        return query.toString();
+    }
+
+    /**
+     * Ids of the candidates best matching the search term, most relevant first
+     */
+    public List<Long> searchCandidates(String searchTerm, int limit) throws SQLException {
+        return candidateIndex().search(searchTerm, limit);
+    }
+
+    /**
+     * Ids of the active job postings best matching the search term, most relevant first
+     */
+    public List<Long> searchJobPostings(String searchTerm, int limit) throws SQLException {
+        return jobPostingIndex().search(searchTerm, limit);
+    }
+
+    private synchronized InvertedIndex candidateIndex() throws SQLException {
+        if (candidateIndex == null) {
+            // Subscribe first: a change committed while building is re-indexed once this lock is released
+            subscribe();
+            InvertedIndex index = new InvertedIndex();
+            try (Connection connection = dbManager.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(
+                         "SELECT id, name, email, resume_text FROM candidates")) {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        index.put(resultSet.getLong("id"), resultSet.getString("name"),
+                                resultSet.getString("email"), resultSet.getString("resume_text"));
+                    }
+                }
+            }
+            candidateIndex = index;
+            System.out.println("Indexed " + index.size() + " candidates for search");
+        }
+        return candidateIndex;
+    }
+
+    private synchronized InvertedIndex jobPostingIndex() throws SQLException {
+        if (jobPostingIndex == null) {
+            // Subscribe first: a change committed while building is re-indexed once this lock is released
+            subscribe();
+            InvertedIndex index = new InvertedIndex();
+            try (Connection connection = dbManager.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(
+                         "SELECT id, title, description FROM job_postings WHERE status = 'Active'")) {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        index.put(resultSet.getLong("id"), resultSet.getString("title"),
+                                resultSet.getString("description"));
+                    }
+                }
+            }
+            jobPostingIndex = index;
+            System.out.println("Indexed " + index.size() + " job postings for search");
+        }
+        return jobPostingIndex;
+    }
+
+    private void subscribe() {
+        if (!subscribed) {
+            writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "search-index-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ChangeEventBus.getInstance().subscribe(this::onChange);
+            subscribed = true;
+        }
+    }
+
+    /**
+     * Queue the changed row for re-indexing; deleted rows (and closed job postings) are dropped
+     * when the reload no longer finds them
+     */
+    private void onChange(ChangeEvent event) {
+        synchronized (this) {
+            if (event.isCandidate()) {
+                pendingCandidates.add(event.getEntityId());
+            } else {
+                pendingJobPostings.add(event.getEntityId());
+            }
+            if (!drainScheduled) {
+                drainScheduled = true;
+                writer.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * Re-index queued rows in batches until the queues are empty
+     */
+    private void drain() {
+        while (true) {
+            List<Long> candidateIds;
+            List<Long> jobPostingIds;
+            InvertedIndex candidates;
+            InvertedIndex jobPostings;
+            // Waits for an index still being built, which then already holds older changes
+            synchronized (this) {
+                if (pendingCandidates.isEmpty() && pendingJobPostings.isEmpty()) {
+                    drainScheduled = false;
+                    return;
+                }
+                candidateIds = new ArrayList<>(pendingCandidates);
+                jobPostingIds = new ArrayList<>(pendingJobPostings);
+                pendingCandidates.clear();
+                pendingJobPostings.clear();
+                candidates = candidateIndex;
+                jobPostings = jobPostingIndex;
+            }
+
+            try {
+                // An index not built yet loads the current rows when it is
+                if (candidates != null) {
+                    reindex(candidates, candidateIds,
+                            "SELECT id, name, email, resume_text FROM candidates WHERE id IN (%s)");
+                }
+                if (jobPostings != null) {
+                    reindex(jobPostings, jobPostingIds,
+                            "SELECT id, title, description FROM job_postings WHERE id IN (%s) AND status = 'Active'");
+                }
+            } catch (SQLException e) {
+                // Requeue and retry after a pause rather than drop these; the drain stays scheduled meanwhile
+                System.err.println("Warning: Failed to update search index, retrying in " + RETRY_DELAY_SECONDS
+                        + " s: " + e.getMessage());
+                synchronized (this) {
+                    pendingCandidates.addAll(candidateIds);
+                    pendingJobPostings.addAll(jobPostingIds);
+                }
+                writer.schedule(this::drain, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reload the given rows into the index with one query per batch; rows the query does not
+     * return are removed. Columns after the id are the indexed fields.
+     */
+    private void reindex(InvertedIndex index, List<Long> ids, String sqlTemplate) throws SQLException {
+        try (Connection connection = dbManager.getConnection()) {
+            for (int from = 0; from < ids.size(); from += REINDEX_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + REINDEX_BATCH_SIZE, ids.size()));
+                Set<Long> missing = new HashSet<>(batch);
+                try (PreparedStatement statement = connection.prepareStatement(
+                        sqlTemplate.formatted(CandidateDAO.placeholders(batch.size())))) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        statement.setLong(i + 1, batch.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        int columns = resultSet.getMetaData().getColumnCount();
+                        while (resultSet.next()) {
+                            long id = resultSet.getLong(1);
+                            String[] fields = new String[columns - 1];
+                            for (int i = 0; i < fields.length; i++) {
+                                fields[i] = resultSet.getString(i + 2);
+                            }
+                            index.put(id, fields);
+                            missing.remove(id);
+                        }
+                    }
+                }
+                for (Long id : missing) {
+                    index.remove(id);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.recruitment.database;
+
+import com.recruitment.util.SkillDictionary;
+import com.recruitment.util.SkillRegistry;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Data Access Object for the skills table, which holds each skill name once and gives it
+ * the integer id used by candidate_skills and job_skills.
+ *
+ * Ids are resolved by name on the caller's connection, inside its transaction, so a link and
+ * the skill row it needs commit or roll back together and no second connection is borrowed.
+ * Only the write paths add skills; reads and in-memory matching never do.
+ */
+public class SkillDAO {
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
+    // Link tables with the column that owns each link
+    private static final String[][] LINK_TABLES = {
+        {"candidate_skills", "candidate_id"},
+        {"job_skills", "job_posting_id"}
+    };
+
+    private final DatabaseManager dbManager;
+
+    public SkillDAO() {
+        this.dbManager = DatabaseManager.getInstance();
+    }
+
+    /**
+     * Merge stored aliases of one skill into its canonical row, then register the stored names
+     * with the {@link SkillRegistry}. Run at startup, after the migrations. When every stored
+     * name is already canonical and distinct, this is a single read of the skills table.
+     */
+    public static synchronized void load() throws SQLException {
+        SkillDAO skillDAO = new SkillDAO();
+        Map<Integer, String> names = skillDAO.findAll();
+        int merged = 0;
+        if (needsConsolidation(names.values())) {
+            merged = skillDAO.consolidate();
+            names = skillDAO.findAll();
+        }
+
+        int count = 0;
+        for (String name : names.values()) {
+            SkillRegistry.idOf(name);
+            count++;
+        }
+        System.out.println("Loaded " + count + " skills" + (merged > 0 ? " (" + merged + " aliases merged)" : ""));
+    }
+
+    /**
+     * All stored skill names by id, in id order
+     */
+    public Map<Integer, String> findAll() throws SQLException {
+        try (Connection connection = dbManager.getConnection()) {
+            return findAll(connection);
+        }
+    }
+
+    /**
+     * Merge rows whose names canonicalize to the same skill ("spring-boot" and "Spring Boot",
+     * or "JS" once it became an alias of "JavaScript"): links move to one row, which is renamed
+     * to the canonical name, and the others are deleted. Returns the number of rows merged.
+     */
+    public int consolidate() throws SQLException {
+        SkillDictionary dictionary = SkillDictionary.current();
+
+        try (Connection connection = dbManager.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try {
+                Map<String, List<Integer>> idsByKey = new LinkedHashMap<>();
+                Map<Integer, String> names = findAll(connection);
+                for (Map.Entry<Integer, String> skill : names.entrySet()) {
+                    String key = SkillDictionary.normalizeKey(dictionary.canonicalize(skill.getValue()));
+                    idsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(skill.getKey());
+                }
+
+                int merged = 0;
+                for (List<Integer> ids : idsByKey.values()) {
+                    // Keep the first row already under its canonical name, else the oldest
+                    int keep = ids.get(0);
+                    for (int id : ids) {
+                        if (names.get(id).equals(dictionary.canonicalize(names.get(id)))) {
+                            keep = id;
+                            break;
+                        }
+                    }
+
+                    for (int id : ids) {
+                        if (id != keep) {
+                            merge(connection, id, keep);
+                            merged++;
+                        }
+                    }
+
+                    String canonicalName = dictionary.canonicalize(names.get(keep));
+                    if (!canonicalName.equals(names.get(keep))) {
+                        try (PreparedStatement statement = connection.prepareStatement(
+                                "UPDATE skills SET name = ? WHERE id = ?")) {
+                            statement.setString(1, canonicalName);
+                            statement.setInt(2, keep);
+                            statement.executeUpdate();
+                        }
+                    }
+                }
+
+                connection.commit();
+                return merged;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Whether any stored name is not canonical or canonicalizes to the same skill as another
+     */
+    private static boolean needsConsolidation(Collection<String> names) {
+        SkillDictionary dictionary = SkillDictionary.current();
+        Set<String> keys = new HashSet<>();
+        for (String name : names) {
+            String canonicalName = dictionary.canonicalize(name);
+            if (!canonicalName.equals(name) || !keys.add(SkillDictionary.normalizeKey(canonicalName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ids of the stored skills among the given canonical names; names not stored are left out
+     */
+    public static Map<String, Integer> findIds(Connection connection, Collection<String> canonicalNames) throws SQLException {
+        List<String> names = new ArrayList<>(new LinkedHashSet<>(canonicalNames));
+        Map<String, Integer> idsByKey = new HashMap<>();
+
+        for (int from = 0; from < names.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, names.size()));
+            StringBuilder sql = new StringBuilder("SELECT id, name FROM skills WHERE name IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(") ORDER BY id");
+
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setString(i + 1, chunk.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        // Keyed like the registry, as MySQL may return the name in another case
+                        idsByKey.putIfAbsent(SkillDictionary.normalizeKey(resultSet.getString("name")),
+                                resultSet.getInt("id"));
+                    }
+                }
+            }
+        }
+
+        Map<String, Integer> ids = new HashMap<>();
+        for (String name : names) {
+            Integer id = idsByKey.get(SkillDictionary.normalizeKey(name));
+            if (id != null) {
+                ids.put(name, id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Ids of the given canonical names, adding the skills not stored yet. The inserts run on the
+     * caller's connection and are undone with its transaction.
+     */
+    public static Map<String, Integer> storeIds(Connection connection, Collection<String> canonicalNames) throws SQLException {
+        Map<String, Integer> ids = findIds(connection, canonicalNames);
+
+        // Sorted, so concurrent writers take the unique-key locks in the same order
+        TreeSet<String> missing = new TreeSet<>(canonicalNames);
+        missing.removeAll(ids.keySet());
+        if (missing.isEmpty()) {
+            return ids;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("INSERT IGNORE INTO skills (name) VALUES (?)")) {
+            for (String name : missing) {
+                statement.setString(1, name);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        ids.putAll(findIds(connection, missing));
+        for (String name : missing) {
+            if (!ids.containsKey(name)) {
+                throw new SQLException("Skill was not stored: " + name);
+            }
+        }
+        return ids;
+    }
+
+    private static Map<Integer, String> findAll(Connection connection) throws SQLException {
+        Map<Integer, String> skills = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id, name FROM skills ORDER BY id");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                skills.put(resultSet.getInt("id"), resultSet.getString("name"));
+            }
+        }
+        return skills;
+    }
+
+    /**
+     * Point the links of one skill row at another and delete it. Links the owner already has
+     * to the kept row are dropped, as the unique keys allow one link per skill.
+     */
+    private static void merge(Connection connection, int fromId, int toId) throws SQLException {
+        for (String[] linkTable : LINK_TABLES) {
+            String table = linkTable[0];
+            String owner = linkTable[1];
+
+            // The derived table lets MySQL read the table it deletes from
+            String deleteSql = "DELETE FROM " + table + " WHERE skill_id = ? AND " + owner + " IN"
+                    + " (SELECT " + owner + " FROM (SELECT " + owner + " FROM " + table + " WHERE skill_id = ?) kept)";
+            try (PreparedStatement statement = connection.prepareStatement(deleteSql)) {
+                statement.setInt(1, fromId);
+                statement.setInt(2, toId);
+                statement.executeUpdate();
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE " + table + " SET skill_id = ? WHERE skill_id = ?")) {
+                statement.setInt(1, toId);
+                statement.setInt(2, fromId);
+                statement.executeUpdate();
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM skills WHERE id = ?")) {
+            statement.setInt(1, fromId);
+            statement.executeUpdate();
+        }
+    }
+}
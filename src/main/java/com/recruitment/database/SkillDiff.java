@@ -0,0 +1,78 @@
+package com.recruitment.database;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Difference between the stored and the desired skills of one entity. Skills are compared
+ * by exact name, so a stored alias or differently-cased name is replaced by its canonical form.
+ * Each skill may carry a value (the job importance level); a changed value is an update.
+ */
+class SkillDiff {
+    private final Map<String, String> added = new LinkedHashMap<>();
+    private final List<String> removed = new ArrayList<>();
+    private final Map<String, String> changed = new LinkedHashMap<>();
+
+    private SkillDiff() {
+    }
+
+    /**
+     * Diff two skill lists without values
+     */
+    static SkillDiff of(List<String> current, List<String> desired) {
+        Map<String, String> currentMap = new LinkedHashMap<>();
+        current.forEach(skill -> currentMap.put(skill, ""));
+        Map<String, String> desiredMap = new LinkedHashMap<>();
+        desired.forEach(skill -> desiredMap.put(skill, ""));
+        return of(currentMap, desiredMap);
+    }
+
+    /**
+     * Diff two skill-to-value maps
+     */
+    static SkillDiff of(Map<String, String> current, Map<String, String> desired) {
+        SkillDiff diff = new SkillDiff();
+        for (String skill : current.keySet()) {
+            if (!desired.containsKey(skill)) {
+                diff.removed.add(skill);
+            }
+        }
+        for (Map.Entry<String, String> entry : desired.entrySet()) {
+            String currentValue = current.get(entry.getKey());
+            if (currentValue == null) {
+                diff.added.put(entry.getKey(), entry.getValue());
+            } else if (!currentValue.equals(entry.getValue())) {
+                diff.changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return diff;
+    }
+
+    List<String> getAdded() {
+        return new ArrayList<>(added.keySet());
+    }
+
+    /**
+     * Added skills with their values
+     */
+    Map<String, String> getAddedValues() {
+        return added;
+    }
+
+    List<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Skills kept but with a new value
+     */
+    Map<String, String> getChanged() {
+        return changed;
+    }
+
+    boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package com.recruitment.database;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Differences between the supported database engines. The DAOs write MySQL-flavoured SQL;
+ * a dialect covers what cannot be shared: connection settings, schema migrations that only
+ * one engine understands, full-text search and result streaming.
+ *
+ * The dialect is chosen with db.dialect (mysql or h2), or from the db.url prefix if unset.
+ */
+public interface SqlDialect {
+    String DIALECT_PROPERTY = "db.dialect";
+
+    /**
+     * Short name, also used to pick engine-specific migration files (V4__name.h2.sql)
+     */
+    String getName();
+
+    /**
+     * Adjust connection settings before the pool is created
+     */
+    void configure(Properties properties);
+
+    /**
+     * Whether MATCH ... AGAINST queries over FULLTEXT indexes are available
+     */
+    boolean supportsFullText();
+
+    /**
+     * JDBC fetch size that streams a large result set instead of buffering it
+     */
+    int getStreamingFetchSize();
+
+    /**
+     * Whether a DDL error only means the statement has already run: the column, index or
+     * constraint it creates exists, or the one it drops is gone
+     */
+    boolean isAlreadyAppliedError(SQLException e);
+
+    /**
+     * Dialect for the db.dialect setting, falling back to the JDBC URL
+     */
+    static SqlDialect fromProperties(Properties properties) {
+        String name = properties.getProperty(DIALECT_PROPERTY, "").trim().toLowerCase(Locale.ROOT);
+        if (name.isEmpty()) {
+            String url = properties.getProperty("db.url", "");
+            name = url.startsWith("jdbc:h2:") ? H2Dialect.NAME : MySqlDialect.NAME;
+        }
+
+        switch (name) {
+            case MySqlDialect.NAME:
+                return new MySqlDialect();
+            case H2Dialect.NAME:
+                return new H2Dialect();
+            default:
+                throw new IllegalStateException("Unknown " + DIALECT_PROPERTY + ": " + name);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.recruitment.engine;
+
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Scores every candidate against every job in one sweep and keeps both the best candidates
+ * per job and the best jobs per candidate, for reports that need the whole matrix.
+ *
+ * Skills are encoded as bitsets over skill ids, so a pair's matched required and preferred
+ * counts are a few AND + popcount operations. The matrix is swept in tiles of candidates x
+ * jobs small enough to stay in cache, with one block of candidates per task on a fixed pool.
+ * No scores are stored: each task keeps bounded top-K heaps (its candidates' own, plus one per
+ * job that are merged at the end), so memory grows with (candidates + jobs x threads) x K and
+ * never with the size of the matrix. Full {@link MatchResult}s are built for the winners only.
+ *
+ * Scores and order are the same as {@link MatchingEngine#findBestMatches} and
+ * {@link MatchingEngine#findSuitableJobs} (equal scores keep input order).
+ */
+public class AllPairsMatcher {
+    // Candidates per task, and jobs per tile within a task
+    private static final int CANDIDATE_BLOCK_SIZE = 256;
+    private static final int JOB_TILE_SIZE = 512;
+
+    private final MatchingEngine matchingEngine;
+    private final int threads;
+
+    public AllPairsMatcher() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public AllPairsMatcher(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        this.matchingEngine = new MatchingEngine();
+        this.threads = threads;
+    }
+
+    /**
+     * Best candidates for every job and best jobs for every candidate. A K that is not
+     * positive skips that side.
+     */
+    public Result match(List<Candidate> candidates, List<JobPosting> jobPostings,
+                        int candidatesPerJob, int jobsPerCandidate) throws InterruptedException {
+        return match(candidates, jobPostings, candidatesPerJob, jobsPerCandidate, MatchQuery.any());
+    }
+
+    /**
+     * As {@link #match(List, List, int, int)}, over the candidates and jobs passing the query's
+     * filters; the rest are dropped before encoding and never scored
+     */
+    public Result match(List<Candidate> allCandidates, List<JobPosting> allJobPostings,
+                        int candidatesPerJob, int jobsPerCandidate, MatchQuery query) throws InterruptedException {
+        if (allCandidates == null || allJobPostings == null) {
+            throw new IllegalArgumentException("Candidates and job postings cannot be null");
+        }
+        List<Candidate> candidates = query.hasCandidateFilter()
+                ? allCandidates.stream().filter(query::matches).collect(Collectors.toList()) : allCandidates;
+        List<JobPosting> jobPostings = query.hasJobFilter()
+                ? allJobPostings.stream().filter(query::matches).collect(Collectors.toList()) : allJobPostings;
+
+        int jobK = Math.max(0, Math.min(candidatesPerJob, candidates.size()));
+        int candidateK = Math.max(0, Math.min(jobsPerCandidate, jobPostings.size()));
+        Result result = new Result();
+        if (candidates.isEmpty() || jobPostings.isEmpty() || (jobK == 0 && candidateK == 0)) {
+            return result;
+        }
+
+        long start = System.nanoTime();
+        EncodedJobs jobs = new EncodedJobs(jobPostings);
+
+        int blocks = (candidates.size() + CANDIDATE_BLOCK_SIZE - 1) / CANDIDATE_BLOCK_SIZE;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, blocks));
+        List<Future<TopK[]>> jobHeapsPerTask = new ArrayList<>();
+        TopK[] candidateHeaps = new TopK[candidates.size()];
+
+        try {
+            // One task per worker; each pulls candidate blocks round-robin and keeps its own job heaps
+            int tasks = Math.min(threads, blocks);
+            for (int task = 0; task < tasks; task++) {
+                int first = task;
+                jobHeapsPerTask.add(executor.submit(() -> {
+                    TopK[] jobHeaps = jobK > 0 ? TopK.array(jobs.size, jobK) : null;
+                    for (int block = first; block < blocks; block += tasks) {
+                        int from = block * CANDIDATE_BLOCK_SIZE;
+                        int to = Math.min(from + CANDIDATE_BLOCK_SIZE, candidates.size());
+                        sweep(candidates, from, to, jobs, jobHeaps, candidateHeaps, candidateK);
+                    }
+                    return jobHeaps;
+                }));
+            }
+
+            TopK[] jobHeaps = null;
+            for (Future<TopK[]> future : jobHeapsPerTask) {
+                TopK[] taskHeaps = future.get();
+                if (taskHeaps == null) {
+                    continue;
+                }
+                if (jobHeaps == null) {
+                    jobHeaps = taskHeaps;
+                } else {
+                    for (int j = 0; j < jobHeaps.length; j++) {
+                        jobHeaps[j].mergeFrom(taskHeaps[j]);
+                    }
+                }
+            }
+
+            if (jobHeaps != null) {
+                for (int j = 0; j < jobHeaps.length; j++) {
+                    List<MatchResult> matches = new ArrayList<>(jobK);
+                    for (int c : jobHeaps[j].sortedIds()) {
+                        matches.add(matchingEngine.calculateMatch(candidates.get(c), jobPostings.get(j)));
+                    }
+                    result.candidatesByJob.put(jobPostings.get(j).getId(), matches);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("All-pairs matching failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (candidateK > 0) {
+            for (int c = 0; c < candidateHeaps.length; c++) {
+                List<MatchResult> matches = new ArrayList<>(candidateK);
+                for (int j : candidateHeaps[c].sortedIds()) {
+                    matches.add(matchingEngine.calculateMatch(candidates.get(c), jobPostings.get(j)));
+                }
+                result.jobsByCandidate.put(candidates.get(c).getId(), matches);
+            }
+        }
+
+        result.pairsScored = (long) candidates.size() * jobPostings.size();
+        result.elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return result;
+    }
+
+    /**
+     * Score candidates [from, to) against every job, one job tile at a time
+     */
+    private static void sweep(List<Candidate> candidates, int from, int to, EncodedJobs jobs,
+                              TopK[] jobHeaps, TopK[] candidateHeaps, int candidateK) {
+        int words = jobs.words;
+        int count = to - from;
+        long[] skillBits = new long[count * words];
+        int[] experience = new int[count];
+        for (int i = 0; i < count; i++) {
+            Candidate candidate = candidates.get(from + i);
+            encode(candidate.getSkillIds(), skillBits, i * words, words);
+            experience[i] = candidate.getExperienceYears();
+            if (candidateK > 0) {
+                candidateHeaps[from + i] = new TopK(candidateK);
+            }
+        }
+
+        for (int tileStart = 0; tileStart < jobs.size; tileStart += JOB_TILE_SIZE) {
+            int tileEnd = Math.min(tileStart + JOB_TILE_SIZE, jobs.size);
+            for (int i = 0; i < count; i++) {
+                int candidateOffset = i * words;
+                TopK candidateHeap = candidateK > 0 ? candidateHeaps[from + i] : null;
+                for (int j = tileStart; j < tileEnd; j++) {
+                    int jobOffset = j * words;
+                    int requiredMatched = 0;
+                    int preferredMatched = 0;
+                    for (int w = 0; w < words; w++) {
+                        long bits = skillBits[candidateOffset + w];
+                        requiredMatched += Long.bitCount(bits & jobs.requiredBits[jobOffset + w]);
+                        preferredMatched += Long.bitCount(bits & jobs.preferredBits[jobOffset + w]);
+                    }
+                    int[] duplicates = jobs.duplicateRequired[j];
+                    if (duplicates != null) {
+                        for (int skillId : duplicates) {
+                            if (hasBit(skillBits, candidateOffset, skillId)) {
+                                requiredMatched++;
+                            }
+                        }
+                    }
+
+                    double score = jobs.compiled[j].score(requiredMatched, preferredMatched, experience[i]);
+                    if (jobHeaps != null) {
+                        jobHeaps[j].offer(score, from + i);
+                    }
+                    if (candidateHeap != null) {
+                        candidateHeap.offer(score, j);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void encode(int[] skillIds, long[] bits, int offset, int words) {
+        for (int skillId : skillIds) {
+            if (skillId > 0 && skillId < words * 64) {
+                bits[offset + (skillId >>> 6)] |= 1L << skillId;
+            }
+        }
+    }
+
+    private static boolean hasBit(long[] bits, int offset, int skillId) {
+        return (bits[offset + (skillId >>> 6)] & (1L << skillId)) != 0;
+    }
+
+    /**
+     * Skill bitsets of all jobs in flat arrays, with the compiled jobs for scoring
+     */
+    private static final class EncodedJobs {
+        private final int size;
+        private final int words;
+        private final long[] requiredBits;
+        // Preferred skills that are not also required (those count once, as required)
+        private final long[] preferredBits;
+        // Extra occurrences of required skills listed more than once; null for most jobs
+        private final int[][] duplicateRequired;
+        private final CompiledJob[] compiled;
+
+        private EncodedJobs(List<JobPosting> jobPostings) {
+            this.size = jobPostings.size();
+            this.compiled = new CompiledJob[size];
+            int maxSkillId = 0;
+            for (int j = 0; j < size; j++) {
+                compiled[j] = new CompiledJob(jobPostings.get(j));
+                for (int id : compiled[j].getRequiredIds()) {
+                    maxSkillId = Math.max(maxSkillId, id);
+                }
+                for (int id : compiled[j].getPreferredOnlyIds()) {
+                    maxSkillId = Math.max(maxSkillId, id);
+                }
+            }
+            // Candidate skills no job asks for cannot score, so the jobs decide the width
+            this.words = maxSkillId / 64 + 1;
+            this.requiredBits = new long[size * words];
+            this.preferredBits = new long[size * words];
+            this.duplicateRequired = new int[size][];
+
+            for (int j = 0; j < size; j++) {
+                int offset = j * words;
+                int[] required = compiled[j].getRequiredIds();
+
+                int[] duplicates = new int[required.length];
+                int duplicateCount = 0;
+                for (int id : required) {
+                    if (id == 0) {
+                        continue;
+                    }
+                    if (hasBit(requiredBits, offset, id)) {
+                        duplicates[duplicateCount++] = id;
+                    }
+                    requiredBits[offset + (id >>> 6)] |= 1L << id;
+                }
+                if (duplicateCount > 0) {
+                    duplicateRequired[j] = Arrays.copyOf(duplicates, duplicateCount);
+                }
+                for (int id : compiled[j].getPreferredOnlyIds()) {
+                    if (id != 0) {
+                        preferredBits[offset + (id >>> 6)] |= 1L << id;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Bounded min-heap of (score, index); on equal scores the lower index ranks higher
+     */
+    private static final class TopK {
+        private final double[] scores;
+        private final int[] ids;
+        private int size;
+
+        private TopK(int capacity) {
+            this.scores = new double[capacity];
+            this.ids = new int[capacity];
+        }
+
+        private static TopK[] array(int length, int capacity) {
+            TopK[] heaps = new TopK[length];
+            for (int i = 0; i < length; i++) {
+                heaps[i] = new TopK(capacity);
+            }
+            return heaps;
+        }
+
+        private void offer(double score, int id) {
+            if (size < scores.length) {
+                scores[size] = score;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (better(score, id, scores[0], ids[0])) {
+                scores[0] = score;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        private void mergeFrom(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.scores[i], other.ids[i]);
+            }
+        }
+
+        /**
+         * Indexes best first
+         */
+        private int[] sortedIds() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> better(scores[a], ids[a], scores[b], ids[b]) ? -1
+                    : better(scores[b], ids[b], scores[a], ids[a]) ? 1 : 0);
+            int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = ids[order[i]];
+            }
+            return sorted;
+        }
+
+        private static boolean better(double score, int id, double otherScore, int otherId) {
+            return score > otherScore || (score == otherScore && id < otherId);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!better(scores[parent], ids[parent], scores[i], ids[i])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int worst = i;
+                if (left < size && better(scores[worst], ids[worst], scores[left], ids[left])) {
+                    worst = left;
+                }
+                if (right < size && better(scores[worst], ids[worst], scores[right], ids[right])) {
+                    worst = right;
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            int id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+        }
+    }
+
+    /**
+     * Top matches from both sides of the matrix, keyed by job and candidate id in input order
+     */
+    public static class Result {
+        private final Map<Long, List<MatchResult>> candidatesByJob = new LinkedHashMap<>();
+        private final Map<Long, List<MatchResult>> jobsByCandidate = new LinkedHashMap<>();
+        private long pairsScored;
+        private long elapsedMillis;
+
+        public Map<Long, List<MatchResult>> getCandidatesByJob() {
+            return candidatesByJob;
+        }
+
+        public Map<Long, List<MatchResult>> getJobsByCandidate() {
+            return jobsByCandidate;
+        }
+
+        public long getPairsScored() {
+            return pairsScored;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
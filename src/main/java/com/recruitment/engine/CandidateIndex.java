@@ -0,0 +1,699 @@
+package com.recruitment.engine;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.CandidateFetchPlan;
+import com.recruitment.database.ChangeEvent;
+import com.recruitment.database.ChangeEventBus;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+import com.recruitment.util.SkillDictionary;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of all candidates for matching one job against them while ingestion
+ * keeps changing the candidate set.
+ *
+ * The index is a list of immutable segments, each with skill posting lists and its entries
+ * ordered by experience. A write never touches a published segment: it builds a new segment
+ * for the added or updated candidates, copies the live-entry bitsets of the older segments
+ * that held previous versions, and publishes the result as the next epoch with a single
+ * volatile write. Readers take the current snapshot once and run without locks against that
+ * consistent view, however many writes land meanwhile. Writers are serialized with each other.
+ *
+ * Like an LSM store, many small segments accumulate under write load; a background merger
+ * compacts segments of the same size tier (and segments that are mostly dead) into one.
+ *
+ * Kept current from candidate {@link ChangeEvent}s once started: changed ids are coalesced
+ * and applied in batches on a writer thread. Segments hold skill ids, so after a skill
+ * dictionary reload the next query rewrites the segments built under the old dictionary.
+ */
+public class CandidateIndex {
+    // Candidates per segment when ingesting changes
+    private static final int MAX_BATCH_SIZE = 10_000;
+    // Segments of one size tier (powers of 4 live entries) that trigger a merge
+    private static final int MERGE_FACTOR = 4;
+    // A segment with more dead entries than this share is rewritten
+    private static final double MAX_DEAD_SHARE = 0.5;
+    // Pause before reloading again after a failed reload
+    private static final long RETRY_DELAY_SECONDS = 5;
+
+    private static CandidateIndex instance;
+
+    private final CandidateDAO candidateDAO;
+    private final MatchingEngine matchingEngine;
+    private final Consumer<ChangeEvent> listener = this::onChange;
+
+    // The published epoch; replaced as a whole, never modified
+    private volatile Snapshot current = Snapshot.EMPTY;
+    private final Object writeLock = new Object();
+
+    // Guarded by this
+    private final Set<Long> pendingIds = new LinkedHashSet<>();
+    private boolean drainScheduled;
+    private boolean mergeScheduled;
+    private boolean running;
+    // Set while start() applies the initial load; changes are only queued meanwhile
+    private boolean loading;
+    private ScheduledThreadPoolExecutor writer;
+    private ExecutorService merger;
+
+    private CandidateIndex() {
+        this.candidateDAO = new CandidateDAO();
+        this.matchingEngine = new MatchingEngine();
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static synchronized CandidateIndex getInstance() {
+        if (instance == null) {
+            instance = new CandidateIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Load all candidates and follow candidate changes from then on
+     */
+    public void start() throws SQLException {
+        synchronized (this) {
+            if (running) {
+                return;
+            }
+            writer = new ScheduledThreadPoolExecutor(1, daemon("candidate-index-writer"));
+            // A retry still waiting when the index stops is dropped; start() reloads everything
+            writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            drainScheduled = false;
+            merger = Executors.newSingleThreadExecutor(daemon("candidate-index-merger"));
+            running = true;
+            loading = true;
+            // Subscribe first: changes committed during the load are queued and applied once it is published
+            ChangeEventBus.getInstance().subscribe(listener);
+        }
+
+        long start = System.nanoTime();
+        List<Candidate> candidates;
+        try {
+            candidates = candidateDAO.findAll(CandidateFetchPlan.SKILLS);
+        } catch (SQLException e) {
+            stop();
+            throw e;
+        }
+        for (int from = 0; from < candidates.size(); from += MAX_BATCH_SIZE) {
+            apply(candidates.subList(from, Math.min(from + MAX_BATCH_SIZE, candidates.size())), List.of());
+        }
+
+        // Only now may the writer reload changed candidates, so no loaded row overwrites a newer one
+        synchronized (this) {
+            loading = false;
+            scheduleDrain();
+        }
+        System.out.printf("Indexed %d candidates for matching in %d ms%n", candidates.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Stop following changes; the last snapshot stays readable
+     */
+    public void stop() {
+        ExecutorService stoppingWriter;
+        ExecutorService stoppingMerger;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            loading = false;
+            ChangeEventBus.getInstance().unsubscribe(listener);
+            stoppingWriter = writer;
+            stoppingMerger = merger;
+        }
+        stoppingWriter.shutdown();
+        stoppingMerger.shutdown();
+        try {
+            stoppingWriter.awaitTermination(30, TimeUnit.SECONDS);
+            stoppingMerger.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Add or replace candidates and remove others, published as one new epoch
+     */
+    public void apply(Collection<Candidate> upserts, Collection<Long> deletes) {
+        // Built before taking the lock; only publishing is serialized
+        Segment added = upserts.isEmpty() ? null : new Segment(upserts);
+        synchronized (writeLock) {
+            Snapshot base = current;
+
+            Set<Long> replaced = new HashSet<>(deletes);
+            if (added != null) {
+                for (long id : added.ids) {
+                    replaced.add(id);
+                }
+            }
+
+            int segmentCount = base.segments.length + (added != null ? 1 : 0);
+            Segment[] segments = Arrays.copyOf(base.segments, segmentCount);
+            long[][] live = Arrays.copyOf(base.live, segmentCount);
+            int size = base.size;
+
+            // Copy-on-write: only the bitsets of segments holding a replaced id are copied
+            for (int s = 0; s < base.segments.length; s++) {
+                boolean copied = false;
+                for (Long id : replaced) {
+                    int position = Arrays.binarySearch(base.segments[s].ids, id);
+                    if (position >= 0 && isLive(live[s], position)) {
+                        if (!copied) {
+                            live[s] = live[s].clone();
+                            copied = true;
+                        }
+                        live[s][position >>> 6] &= ~(1L << position);
+                        size--;
+                    }
+                }
+            }
+            if (added != null) {
+                segments[segmentCount - 1] = added;
+                live[segmentCount - 1] = allLive(added.ids.length);
+                size += added.ids.length;
+            }
+
+            current = new Snapshot(base.epoch + 1, segments, live, size);
+        }
+        scheduleMerge();
+    }
+
+    /**
+     * Best-matching candidates for a job among those passing the query's filters, highest
+     * score first; equal scores rank the newer (higher id) candidate first
+     */
+    public List<MatchResult> findBestMatches(JobPosting jobPosting, int maxResults, MatchQuery query) {
+        if (jobPosting == null) {
+            throw new IllegalArgumentException("Job posting cannot be null");
+        }
+
+        Snapshot snapshot = currentFor(SkillDictionary.generation());
+        int k = maxResults > 0 ? Math.min(maxResults, snapshot.size) : snapshot.size;
+        List<MatchResult> results = new ArrayList<>(k);
+        if (k == 0 || !query.matches(jobPosting)) {
+            return results;
+        }
+
+        CompiledJob job = new CompiledJob(jobPosting);
+        PriorityQueue<Scored> top = new PriorityQueue<>(k + 1, Scored.WORST_FIRST);
+        for (int s = 0; s < snapshot.segments.length; s++) {
+            searchSegment(snapshot.segments[s], snapshot.live[s], job, query, top, k);
+        }
+
+        List<Scored> best = new ArrayList<>(top);
+        best.sort(Scored.WORST_FIRST.reversed());
+        for (Scored scored : best) {
+            results.add(matchingEngine.calculateMatch(scored.candidate, jobPosting));
+        }
+        return results;
+    }
+
+    /**
+     * The current snapshot, first rewriting any segment whose skill ids predate the given
+     * dictionary generation. Segments keep their candidates, so liveness and size carry over.
+     */
+    private Snapshot currentFor(int generation) {
+        Snapshot snapshot = current;
+        if (!snapshot.isStale(generation)) {
+            return snapshot;
+        }
+        synchronized (writeLock) {
+            Snapshot base = current;
+            if (!base.isStale(generation)) {
+                return base;
+            }
+            Segment[] segments = base.segments.clone();
+            long[][] live = base.live.clone();
+            for (int s = 0; s < segments.length; s++) {
+                if (segments[s].generation != generation) {
+                    List<Candidate> liveCandidates = new ArrayList<>();
+                    for (int position = 0; position < segments[s].ids.length; position++) {
+                        if (isLive(base.live[s], position)) {
+                            liveCandidates.add(segments[s].candidates[position]);
+                        }
+                    }
+                    segments[s] = new Segment(liveCandidates);
+                    live[s] = allLive(segments[s].ids.length);
+                }
+            }
+            current = new Snapshot(base.epoch + 1, segments, live, base.size);
+            System.out.println("Re-indexed candidate skills after a skill dictionary reload");
+            return current;
+        }
+    }
+
+    /**
+     * Whether the index is started and following candidate changes
+     */
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Epoch of the current snapshot; incremented by every write and merge
+     */
+    public long getEpoch() {
+        return current.epoch;
+    }
+
+    /**
+     * Number of live candidates in the current snapshot
+     */
+    public int size() {
+        return current.size;
+    }
+
+    public int getSegmentCount() {
+        return current.segments.length;
+    }
+
+    private void searchSegment(Segment segment, long[] live, CompiledJob job, MatchQuery query,
+                               PriorityQueue<Scored> top, int k) {
+        int n = segment.ids.length;
+        int[] requiredHits = new int[n];
+        int[] preferredHits = new int[n];
+        boolean[] touched = new boolean[n];
+        int[] touchedPositions = new int[n];
+        int touchedCount = 0;
+
+        for (int skillId : job.getRequiredIds()) {
+            int[] postings = segment.postings.get(skillId);
+            if (postings != null) {
+                for (int position : postings) {
+                    requiredHits[position]++;
+                    if (!touched[position]) {
+                        touched[position] = true;
+                        touchedPositions[touchedCount++] = position;
+                    }
+                }
+            }
+        }
+        for (int skillId : job.getPreferredOnlyIds()) {
+            int[] postings = segment.postings.get(skillId);
+            if (postings != null) {
+                for (int position : postings) {
+                    preferredHits[position]++;
+                    if (!touched[position]) {
+                        touched[position] = true;
+                        touchedPositions[touchedCount++] = position;
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < touchedCount; i++) {
+            int position = touchedPositions[i];
+            if (!isLive(live, position) || !query.matchesExperience(segment.experience[position])) {
+                continue;
+            }
+            double score = job.score(requiredHits[position], preferredHits[position], segment.experience[position]);
+            offer(top, k, new Scored(segment.candidates[position], score));
+        }
+
+        // Without shared skills the score only grows with experience, so walk from the most experienced
+        int from = 0;
+        if (query.getMaxExperience() != null) {
+            from = segment.firstWithExperienceAtMost(query.getMaxExperience());
+        }
+        for (int i = from; i < n; i++) {
+            int position = segment.byExperience[i];
+            int experience = segment.experience[position];
+            if (query.getMinExperience() != null && experience < query.getMinExperience()) {
+                break;
+            }
+            if (touched[position] || !isLive(live, position)) {
+                continue;
+            }
+            double score = job.score(0, 0, experience);
+            if (top.size() == k && score < top.peek().score) {
+                break;
+            }
+            offer(top, k, new Scored(segment.candidates[position], score));
+        }
+    }
+
+    private static void offer(PriorityQueue<Scored> top, int k, Scored scored) {
+        if (top.size() < k) {
+            top.add(scored);
+        } else if (Scored.WORST_FIRST.compare(scored, top.peek()) > 0) {
+            top.poll();
+            top.add(scored);
+        }
+    }
+
+    private void onChange(ChangeEvent event) {
+        if (!event.isCandidate()) {
+            return;
+        }
+        synchronized (this) {
+            pendingIds.add(event.getEntityId());
+            scheduleDrain();
+        }
+    }
+
+    // Guarded by this
+    private void scheduleDrain() {
+        if (running && !loading && !drainScheduled && !pendingIds.isEmpty()) {
+            drainScheduled = true;
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Apply queued changes in batches: reload the changed candidates, missing ones were deleted
+     */
+    private void drain() {
+        while (true) {
+            List<Long> ids;
+            synchronized (this) {
+                if (pendingIds.isEmpty()) {
+                    drainScheduled = false;
+                    return;
+                }
+                ids = new ArrayList<>(pendingIds);
+                pendingIds.clear();
+            }
+
+            for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + MAX_BATCH_SIZE, ids.size()));
+                try {
+                    List<Candidate> found = candidateDAO.findByIds(batch);
+                    Set<Long> deleted = new HashSet<>(batch);
+                    for (Candidate candidate : found) {
+                        deleted.remove(candidate.getId());
+                    }
+                    apply(found, deleted);
+                } catch (SQLException e) {
+                    // Requeue this and the remaining batches and retry after a pause rather than drop them
+                    System.err.println("Warning: Failed to update candidate index, retrying in " + RETRY_DELAY_SECONDS
+                            + " s: " + e.getMessage());
+                    synchronized (this) {
+                        pendingIds.addAll(ids.subList(from, ids.size()));
+                        if (running) {
+                            writer.schedule(this::drain, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+                        } else {
+                            drainScheduled = false;
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    private synchronized void scheduleMerge() {
+        if (running && !mergeScheduled && findMergeCandidates(current) != null) {
+            mergeScheduled = true;
+            merger.execute(this::merge);
+        }
+    }
+
+    /**
+     * Merge segments until no tier is over the merge factor
+     */
+    private void merge() {
+        try {
+            while (true) {
+                Snapshot base = current;
+                List<Integer> chosen = findMergeCandidates(base);
+                if (chosen == null) {
+                    break;
+                }
+                mergeSegments(base, chosen);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Candidate index merge failed: " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                mergeScheduled = false;
+            }
+        }
+        // Writes that arrived while the last merge was publishing may need another round
+        scheduleMerge();
+    }
+
+    /**
+     * Indexes of the segments to merge next, or null: the smallest tier holding MERGE_FACTOR
+     * segments, else a single segment that is mostly dead entries
+     */
+    private static List<Integer> findMergeCandidates(Snapshot snapshot) {
+        Map<Integer, List<Integer>> tiers = new HashMap<>();
+        for (int s = 0; s < snapshot.segments.length; s++) {
+            int liveCount = liveCount(snapshot.live[s]);
+            tiers.computeIfAbsent(tier(liveCount), key -> new ArrayList<>()).add(s);
+        }
+        int smallest = Integer.MAX_VALUE;
+        for (Map.Entry<Integer, List<Integer>> entry : tiers.entrySet()) {
+            if (entry.getValue().size() >= MERGE_FACTOR && entry.getKey() < smallest) {
+                smallest = entry.getKey();
+            }
+        }
+        if (smallest != Integer.MAX_VALUE) {
+            return tiers.get(smallest);
+        }
+
+        for (int s = 0; s < snapshot.segments.length; s++) {
+            int total = snapshot.segments[s].ids.length;
+            if (total - liveCount(snapshot.live[s]) > total * MAX_DEAD_SHARE) {
+                return List.of(s);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Build one segment from the live entries of the chosen segments, then publish it in place
+     * of them. Entries replaced or deleted while merging stay dead in the merged segment.
+     */
+    private void mergeSegments(Snapshot base, List<Integer> chosen) {
+        Map<Long, Candidate> merged = new LinkedHashMap<>();
+        for (int s : chosen) {
+            Segment segment = base.segments[s];
+            for (int position = 0; position < segment.ids.length; position++) {
+                if (isLive(base.live[s], position)) {
+                    merged.put(segment.ids[position], segment.candidates[position]);
+                }
+            }
+        }
+        Segment mergedSegment = new Segment(merged.values());
+
+        synchronized (writeLock) {
+            Snapshot latest = current;
+            Set<Segment> sources = new HashSet<>();
+            for (int s : chosen) {
+                sources.add(base.segments[s]);
+            }
+            // A dictionary reload rewrote a source meanwhile; the caller picks again from the latest
+            if (!Arrays.asList(latest.segments).containsAll(sources)) {
+                return;
+            }
+
+            List<Segment> segments = new ArrayList<>();
+            List<long[]> live = new ArrayList<>();
+            long[] mergedLive = new long[(mergedSegment.ids.length + 63) >>> 6];
+            for (int s = 0; s < latest.segments.length; s++) {
+                Segment segment = latest.segments[s];
+                if (!sources.contains(segment)) {
+                    segments.add(segment);
+                    live.add(latest.live[s]);
+                    continue;
+                }
+                // Carry over the current liveness of every merged entry
+                for (int position = 0; position < segment.ids.length; position++) {
+                    if (isLive(latest.live[s], position)) {
+                        int target = Arrays.binarySearch(mergedSegment.ids, segment.ids[position]);
+                        if (target >= 0 && mergedSegment.candidates[target] == segment.candidates[position]) {
+                            mergedLive[target >>> 6] |= 1L << target;
+                        }
+                    }
+                }
+            }
+            segments.add(mergedSegment);
+            live.add(mergedLive);
+
+            current = new Snapshot(latest.epoch + 1, segments.toArray(new Segment[0]),
+                    live.toArray(new long[0][]), latest.size);
+        }
+    }
+
+    private static int tier(int liveCount) {
+        int tier = 0;
+        while (liveCount >= 4) {
+            liveCount >>>= 2;
+            tier++;
+        }
+        return tier;
+    }
+
+    private static boolean isLive(long[] live, int position) {
+        return (live[position >>> 6] & (1L << position)) != 0;
+    }
+
+    private static long[] allLive(int count) {
+        long[] live = new long[(count + 63) >>> 6];
+        Arrays.fill(live, -1L);
+        if ((count & 63) != 0) {
+            live[live.length - 1] = (1L << count) - 1;
+        }
+        return live;
+    }
+
+    private static int liveCount(long[] live) {
+        int count = 0;
+        for (long word : live) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One published epoch: segments, oldest first, with the live entries of each
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(0, new Segment[0], new long[0][], 0);
+
+        private final long epoch;
+        private final Segment[] segments;
+        private final long[][] live;
+        private final int size;
+
+        private Snapshot(long epoch, Segment[] segments, long[][] live, int size) {
+            this.epoch = epoch;
+            this.segments = segments;
+            this.live = live;
+            this.size = size;
+        }
+
+        /**
+         * Whether any segment was built under another dictionary generation
+         */
+        private boolean isStale(int generation) {
+            for (Segment segment : segments) {
+                if (segment.generation != generation) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Immutable block of candidates, sorted by id, with skill posting lists and an experience order
+     */
+    private static final class Segment {
+        // Skill dictionary generation the posting lists were built under
+        private final int generation;
+        private final long[] ids;
+        private final Candidate[] candidates;
+        private final int[] experience;
+        private final Map<Integer, int[]> postings;
+        // Positions by experience, highest first
+        private final int[] byExperience;
+
+        private Segment(Collection<Candidate> source) {
+            // Read first: the ids below reflect at least this dictionary
+            this.generation = SkillDictionary.generation();
+            // Last version of each id wins
+            Map<Long, Candidate> byId = new HashMap<>();
+            for (Candidate candidate : source) {
+                if (candidate.getId() == null) {
+                    throw new IllegalArgumentException("Candidates must be saved before indexing");
+                }
+                byId.put(candidate.getId(), candidate);
+            }
+            this.ids = byId.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            this.candidates = new Candidate[ids.length];
+            this.experience = new int[ids.length];
+
+            Map<Integer, List<Integer>> lists = new HashMap<>();
+            for (int position = 0; position < ids.length; position++) {
+                Candidate candidate = byId.get(ids[position]);
+                candidates[position] = candidate;
+                experience[position] = candidate.getExperienceYears();
+                for (int skillId : candidate.getSkillIds()) {
+                    lists.computeIfAbsent(skillId, key -> new ArrayList<>()).add(position);
+                }
+            }
+            this.postings = new HashMap<>(lists.size() * 2);
+            for (Map.Entry<Integer, List<Integer>> entry : lists.entrySet()) {
+                postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            // Higher ids first on equal experience, matching the tie order of results
+            Arrays.sort(order, Comparator.comparingInt((Integer position) -> -experience[position])
+                    .thenComparing(position -> -position));
+            this.byExperience = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * First index in byExperience whose experience is at most the given years
+         */
+        private int firstWithExperienceAtMost(int years) {
+            int low = 0;
+            int high = byExperience.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (experience[byExperience[mid]] > years) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * A candidate's score during a query; on equal scores the higher id ranks higher
+     */
+    private static final class Scored {
+        private static final Comparator<Scored> WORST_FIRST = Comparator.comparingDouble((Scored s) -> s.score)
+                .thenComparingLong(s -> s.candidate.getId());
+
+        private final Candidate candidate;
+        private final double score;
+
+        private Scored(Candidate candidate, double score) {
+            this.candidate = candidate;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.recruitment.engine;
+
+import com.recruitment.model.JobPosting;
+
+import java.util.Arrays;
+
+/**
+ * A job posting reduced to the skill ids and counts {@link MatchingEngine#score} works on, so
+ * indexes and matchers can count a candidate's skill hits by id. Shared by {@link JobIndex},
+ * {@link CandidateIndex} and {@link AllPairsMatcher}.
+ *
+ * Skill ids follow the dictionary generation of the posting's cached ids at compile time; a
+ * holder compiled before a dictionary reload must compile the posting again.
+ */
+final class CompiledJob {
+    private final JobPosting jobPosting;
+    // Required skill ids, one entry per occurrence (duplicates count twice, as in calculateMatch)
+    private final int[] requiredIds;
+    // Distinct preferred skill ids that are not also required
+    private final int[] preferredOnlyIds;
+    private final int totalRequired;
+    private final int totalPreferred;
+    private final int requiredExperience;
+
+    CompiledJob(JobPosting jobPosting) {
+        this.jobPosting = jobPosting;
+        int[] required = jobPosting.getRequiredSkillIds();
+        int[] preferred = jobPosting.getPreferredSkillIds();
+        this.requiredIds = required;
+        this.totalRequired = required.length;
+        this.totalPreferred = preferred.length;
+        this.requiredExperience = jobPosting.getRequiredExperience();
+
+        int[] sortedRequired = required.clone();
+        Arrays.sort(sortedRequired);
+        int[] preferredOnly = new int[preferred.length];
+        int count = 0;
+        for (int id : preferred) {
+            if (Arrays.binarySearch(sortedRequired, id) < 0 && !contains(preferredOnly, count, id)) {
+                preferredOnly[count++] = id;
+            }
+        }
+        this.preferredOnlyIds = Arrays.copyOf(preferredOnly, count);
+    }
+
+    /**
+     * Score of a candidate matching the given number of required ids (counting duplicates)
+     * and preferred-only ids
+     */
+    double score(int requiredHits, int preferredHits, int experienceYears) {
+        return MatchingEngine.score(requiredHits, totalRequired, preferredHits, totalPreferred,
+                experienceYears, requiredExperience);
+    }
+
+    JobPosting getJobPosting() {
+        return jobPosting;
+    }
+
+    /**
+     * Required skill ids, one entry per occurrence; shared, callers must not modify the array
+     */
+    int[] getRequiredIds() {
+        return requiredIds;
+    }
+
+    /**
+     * Distinct preferred skill ids that are not also required; shared, callers must not modify the array
+     */
+    int[] getPreferredOnlyIds() {
+        return preferredOnlyIds;
+    }
+
+    int getTotalRequired() {
+        return totalRequired;
+    }
+
+    int getTotalPreferred() {
+        return totalPreferred;
+    }
+
+    int getRequiredExperience() {
+        return requiredExperience;
+    }
+
+    private static boolean contains(int[] ids, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
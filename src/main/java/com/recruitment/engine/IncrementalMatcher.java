@@ -0,0 +1,286 @@
+package com.recruitment.engine;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.ChangeEvent;
+import com.recruitment.database.ChangeEventBus;
+import com.recruitment.database.JobPostingDAO;
+import com.recruitment.database.MatchResultDAO;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the match_results table current as candidates and job postings change, so interactive
+ * queries can read top matches from the index without first checking every candidate.
+ *
+ * A saved or updated candidate is scored against every active job (one row of the
+ * candidate x job matrix); a changed job posting has only its own column rescored. Work runs
+ * on a single background thread; events arriving while it is busy are coalesced by id.
+ *
+ * Events only come from this process. Batch jobs run as separate programs and change candidates
+ * without them, so a job's column counts as current only while the latest candidate updated_at
+ * is no newer than when the column was last brought up to date.
+ */
+public class IncrementalMatcher {
+    // Candidates loaded and scored per round
+    private static final int CANDIDATE_CHUNK_SIZE = 500;
+    // A column is rechecked at least this often, in case another process commits a change
+    // stamped before the last probe
+    private static final long MAX_CURRENT_AGE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static IncrementalMatcher instance;
+
+    private final MatchingEngine matchingEngine;
+    private final MatchService matchService;
+    private final CandidateDAO candidateDAO;
+    private final JobPostingDAO jobPostingDAO;
+    private final MatchResultDAO matchResultDAO;
+    private final Consumer<ChangeEvent> listener = this::onChange;
+
+    // Guarded by this
+    private final Set<Long> pendingCandidates = new LinkedHashSet<>();
+    private final Set<Long> pendingJobs = new LinkedHashSet<>();
+    private boolean drainScheduled;
+    private boolean running;
+    private ExecutorService executor;
+    private List<JobPosting> activeJobs;
+    private long jobChangeCount;
+
+    // Jobs whose stored column is complete, with the latest candidate change it includes
+    private final Map<Long, Watermark> currentJobs = new ConcurrentHashMap<>();
+
+    private IncrementalMatcher() {
+        this.matchingEngine = new MatchingEngine();
+        this.candidateDAO = new CandidateDAO();
+        this.jobPostingDAO = new JobPostingDAO();
+        this.matchResultDAO = new MatchResultDAO();
+        this.matchService = new MatchService(matchingEngine, candidateDAO, matchResultDAO, null);
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static synchronized IncrementalMatcher getInstance() {
+        if (instance == null) {
+            instance = new IncrementalMatcher();
+        }
+        return instance;
+    }
+
+    /**
+     * Subscribe to change events and bring the columns of all active jobs up to date in the background
+     */
+    public synchronized void start() throws SQLException {
+        if (running) {
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "incremental-matcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        ChangeEventBus.getInstance().subscribe(listener);
+
+        for (JobPosting jobPosting : jobPostingDAO.findActive()) {
+            pendingJobs.add(jobPosting.getId());
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Stop listening and finish the work already queued
+     */
+    public void stop() {
+        ExecutorService stopping;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            ChangeEventBus.getInstance().unsubscribe(listener);
+            stopping = executor;
+        }
+        currentJobs.clear();
+        stopping.shutdown();
+        try {
+            stopping.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Whether the stored results for a job are complete, no change is waiting to be applied and
+     * no candidate changed after lastCandidateChange (from {@link CandidateDAO#findLastUpdatedAt})
+     */
+    public boolean isCurrent(Long jobId, LocalDateTime lastCandidateChange) {
+        synchronized (this) {
+            if (!running || drainScheduled) {
+                return false;
+            }
+        }
+        Watermark watermark = currentJobs.get(jobId);
+        return watermark != null && watermark.includes(lastCandidateChange);
+    }
+
+    /**
+     * Record that a job's column was brought up to date elsewhere (by MatchService), including
+     * every candidate change up to lastCandidateChange, read before the refresh
+     */
+    void markCurrent(Long jobId, LocalDateTime lastCandidateChange) {
+        if (isRunning()) {
+            currentJobs.put(jobId, new Watermark(lastCandidateChange));
+        }
+    }
+
+    private void onChange(ChangeEvent event) {
+        synchronized (this) {
+            if (event.isCandidate()) {
+                // Deleted candidates' results go with them (ON DELETE CASCADE)
+                if (event.getType() != ChangeEvent.Type.DELETED) {
+                    pendingCandidates.add(event.getEntityId());
+                }
+            } else {
+                currentJobs.remove(event.getEntityId());
+                activeJobs = null;
+                jobChangeCount++;
+                if (event.getType() != ChangeEvent.Type.DELETED) {
+                    pendingJobs.add(event.getEntityId());
+                }
+            }
+            scheduleDrain();
+        }
+    }
+
+    private synchronized void scheduleDrain() {
+        if (running && !drainScheduled && (!pendingJobs.isEmpty() || !pendingCandidates.isEmpty())) {
+            drainScheduled = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Apply all queued changes, jobs first so candidates are scored against the current job list
+     */
+    private void drain() {
+        while (true) {
+            List<Long> jobIds;
+            List<Long> candidateIds;
+            synchronized (this) {
+                if (pendingJobs.isEmpty() && pendingCandidates.isEmpty()) {
+                    drainScheduled = false;
+                    return;
+                }
+                jobIds = new ArrayList<>(pendingJobs);
+                candidateIds = new ArrayList<>(pendingCandidates);
+                pendingJobs.clear();
+                pendingCandidates.clear();
+            }
+
+            try {
+                for (Long jobId : jobIds) {
+                    rescoreJob(jobId);
+                }
+                if (!candidateIds.isEmpty()) {
+                    rescoreCandidates(candidateIds);
+                }
+            } catch (SQLException | RuntimeException e) {
+                // Leave the affected jobs non-current; MatchService then refreshes them on demand
+                System.err.println("Warning: Incremental matching failed: " + e.getMessage());
+                currentJobs.clear();
+            }
+        }
+    }
+
+    /**
+     * Rescore the stale part of one job's column
+     */
+    private void rescoreJob(Long jobId) throws SQLException {
+        JobPosting jobPosting = jobPostingDAO.findById(jobId);
+        if (jobPosting == null || !jobPosting.isActive()) {
+            currentJobs.remove(jobId);
+            return;
+        }
+        LocalDateTime lastCandidateChange = candidateDAO.findLastUpdatedAt();
+        int rescored = matchService.refresh(jobPosting);
+        currentJobs.put(jobId, new Watermark(lastCandidateChange));
+        if (rescored > 0) {
+            System.out.println("Rescored " + rescored + " candidate(s) for job " + jobId);
+        }
+    }
+
+    /**
+     * Score changed candidates against every active job
+     */
+    private void rescoreCandidates(List<Long> candidateIds) throws SQLException {
+        List<JobPosting> jobs = getActiveJobs();
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < candidateIds.size(); from += CANDIDATE_CHUNK_SIZE) {
+            List<Long> chunk = candidateIds.subList(from, Math.min(from + CANDIDATE_CHUNK_SIZE, candidateIds.size()));
+            List<MatchResult> results = new ArrayList<>(chunk.size() * jobs.size());
+            for (Candidate candidate : candidateDAO.findByIds(chunk)) {
+                for (JobPosting jobPosting : jobs) {
+                    results.add(matchingEngine.calculateMatch(candidate, jobPosting));
+                }
+            }
+            matchResultDAO.saveAll(results, MatchingEngine.SCORING_VERSION);
+        }
+    }
+
+    /**
+     * Active jobs, reloaded after any job posting change
+     */
+    private List<JobPosting> getActiveJobs() throws SQLException {
+        long changeCount;
+        synchronized (this) {
+            if (activeJobs != null) {
+                return activeJobs;
+            }
+            changeCount = jobChangeCount;
+        }
+        List<JobPosting> loaded = jobPostingDAO.findActive();
+        synchronized (this) {
+            // A job changed while loading: use the list once but do not keep it
+            if (changeCount == jobChangeCount) {
+                activeJobs = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Latest candidate change included in a job's column, and when the column was brought up to date
+     */
+    private static final class Watermark {
+        private final LocalDateTime lastCandidateChange;
+        private final long markedAt = System.nanoTime();
+
+        private Watermark(LocalDateTime lastCandidateChange) {
+            this.lastCandidateChange = lastCandidateChange;
+        }
+
+        private boolean includes(LocalDateTime candidateChange) {
+            return !candidateChange.isAfter(lastCandidateChange) && System.nanoTime() - markedAt < MAX_CURRENT_AGE_NANOS;
+        }
+    }
+}
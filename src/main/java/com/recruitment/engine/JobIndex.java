@@ -0,0 +1,388 @@
+package com.recruitment.engine;
+
+import com.recruitment.database.ChangeEvent;
+import com.recruitment.database.ChangeEventBus;
+import com.recruitment.database.JobPostingDAO;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+import com.recruitment.util.SkillDictionary;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index over the active job postings for matching one candidate against all of them.
+ *
+ * Each job is compiled once into a plan of skill ids and counts. Posting lists map a skill id to
+ * the jobs that require or prefer it, so a candidate's skills touch only the jobs they can score
+ * on. Jobs sharing no skill with the candidate score on experience alone; they are kept in
+ * buckets by required experience, ordered by their zero-overlap score, so only the best of each
+ * bucket is looked at. Full {@link MatchResult}s are built for the final top matches only.
+ *
+ * The index is loaded on first use and kept current from job posting {@link ChangeEvent}s
+ * (including activate and deactivate). A change only marks its job dirty; the next query reloads
+ * the dirty jobs in one batch and rebuilds the lookup structures. Plans hold skill ids, so a
+ * skill dictionary reload re-plans every job on the next query.
+ */
+public class JobIndex {
+    private static JobIndex instance;
+
+    private static final Comparator<CompiledJob> NEWEST_FIRST = Comparator
+            .comparing((CompiledJob plan) -> plan.getJobPosting().getCreatedAt(),
+                    Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(plan -> plan.getJobPosting().getId(), Comparator.reverseOrder());
+
+    private final JobPostingDAO jobPostingDAO;
+    private final MatchingEngine matchingEngine;
+
+    // Compiled plans of the active jobs by id; guarded by this
+    private final Map<Long, CompiledJob> plans = new LinkedHashMap<>();
+    private boolean loaded;
+    private boolean subscribed;
+
+    // Jobs changed since the last snapshot, reloaded by the next query
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+
+    // Lookup structures over plans; null until the first query
+    private volatile Snapshot snapshot;
+
+    private JobIndex() {
+        this.jobPostingDAO = new JobPostingDAO();
+        this.matchingEngine = new MatchingEngine();
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static synchronized JobIndex getInstance() {
+        if (instance == null) {
+            instance = new JobIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Best-matching active jobs for a candidate, highest score first; all of them if maxResults is not positive.
+     * Results are identical to scoring every active job with {@link MatchingEngine#calculateMatch}.
+     */
+    public List<MatchResult> findSuitableJobs(Candidate candidate, int maxResults) throws SQLException {
+        return findSuitableJobs(candidate, maxResults, MatchQuery.any());
+    }
+
+    /**
+     * Best-matching active jobs passing the query's filters. Location and salary are checked
+     * before any scoring, through the dictionary-encoded locations of the snapshot.
+     */
+    public List<MatchResult> findSuitableJobs(Candidate candidate, int maxResults, MatchQuery query) throws SQLException {
+        if (candidate == null) {
+            throw new IllegalArgumentException("Candidate cannot be null");
+        }
+
+        Snapshot current = snapshot();
+        int n = current.jobs.length;
+        int k = maxResults > 0 ? Math.min(maxResults, n) : n;
+        List<MatchResult> results = new ArrayList<>(k);
+        if (k == 0 || !query.matches(candidate)) {
+            return results;
+        }
+        boolean[] excluded = current.excludedBy(query);
+
+        int experience = candidate.getExperienceYears();
+        int[] requiredHits = new int[n];
+        int[] preferredHits = new int[n];
+        boolean[] touched = new boolean[n];
+        int[] touchedJobs = new int[n];
+        int touchedCount = 0;
+
+        for (int skillId : candidate.getSkillIds()) {
+            int[] required = current.requiredPostings.get(skillId);
+            if (required != null) {
+                for (int job : required) {
+                    requiredHits[job]++;
+                    if (!touched[job]) {
+                        touched[job] = true;
+                        touchedJobs[touchedCount++] = job;
+                    }
+                }
+            }
+            int[] preferred = current.preferredPostings.get(skillId);
+            if (preferred != null) {
+                for (int job : preferred) {
+                    preferredHits[job]++;
+                    if (!touched[job]) {
+                        touched[job] = true;
+                        touchedJobs[touchedCount++] = job;
+                    }
+                }
+            }
+        }
+
+        // Min-heap of the best k so far: lowest score first, later job first on ties
+        PriorityQueue<Scored> top = new PriorityQueue<>(k + 1, Scored.WORST_FIRST);
+
+        for (int i = 0; i < touchedCount; i++) {
+            int job = touchedJobs[i];
+            if (excluded != null && excluded[job]) {
+                continue;
+            }
+            offer(top, k, new Scored(job, current.jobs[job].score(requiredHits[job], preferredHits[job], experience)));
+        }
+
+        for (int b = 0; b < current.bucketExperience.length; b++) {
+            for (int job : current.buckets[b]) {
+                if (touched[job] || (excluded != null && excluded[job])) {
+                    continue;
+                }
+                double score = current.jobs[job].score(0, 0, experience);
+                // The rest of the bucket scores no higher
+                if (top.size() == k && score < top.peek().score) {
+                    break;
+                }
+                offer(top, k, new Scored(job, score));
+            }
+        }
+
+        List<Scored> best = new ArrayList<>(top);
+        best.sort(Scored.WORST_FIRST.reversed());
+        for (Scored scored : best) {
+            results.add(matchingEngine.calculateMatch(candidate, current.jobs[scored.job].getJobPosting()));
+        }
+        return results;
+    }
+
+    /**
+     * Number of active jobs in the index
+     */
+    public int size() throws SQLException {
+        return snapshot().jobs.length;
+    }
+
+    private static void offer(PriorityQueue<Scored> top, int k, Scored scored) {
+        if (top.size() < k) {
+            top.add(scored);
+        } else if (Scored.WORST_FIRST.compare(scored, top.peek()) > 0) {
+            top.poll();
+            top.add(scored);
+        }
+    }
+
+    private Snapshot snapshot() throws SQLException {
+        Snapshot current = snapshot;
+        if (current != null && dirtyIds.isEmpty() && current.generation == SkillDictionary.generation()) {
+            return current;
+        }
+        synchronized (this) {
+            // Read first: plans compiled from here on reflect at least this dictionary
+            int generation = SkillDictionary.generation();
+            if (snapshot == null || !dirtyIds.isEmpty() || snapshot.generation != generation) {
+                load();
+                reloadDirty();
+                if (snapshot != null && snapshot.generation != generation) {
+                    // Aliases may now map to other ids; the postings' own cached ids recompute
+                    plans.replaceAll((id, plan) -> new CompiledJob(plan.getJobPosting()));
+                }
+                List<CompiledJob> ordered = new ArrayList<>(plans.values());
+                // Newest first, as findActive lists them, so equal scores rank as in a full scan
+                ordered.sort(NEWEST_FIRST);
+                snapshot = new Snapshot(ordered, generation);
+            }
+            return snapshot;
+        }
+    }
+
+    private synchronized void load() throws SQLException {
+        if (loaded) {
+            return;
+        }
+        // Subscribe first: a change committed while loading is reloaded before the snapshot is built
+        if (!subscribed) {
+            ChangeEventBus.getInstance().subscribe(this::onChange);
+            subscribed = true;
+        }
+        for (JobPosting jobPosting : jobPostingDAO.findActive()) {
+            plans.put(jobPosting.getId(), new CompiledJob(jobPosting));
+        }
+        loaded = true;
+        System.out.println("Indexed " + plans.size() + " active job postings for matching");
+    }
+
+    /**
+     * Re-plan the dirty jobs, dropping those deleted or closed. Ids marked while this runs stay
+     * dirty for the next query.
+     */
+    private synchronized void reloadDirty() throws SQLException {
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(dirtyIds);
+        dirtyIds.removeAll(ids);
+        try {
+            Map<Long, JobPosting> reloaded = new HashMap<>();
+            for (JobPosting jobPosting : jobPostingDAO.findByIds(ids)) {
+                reloaded.put(jobPosting.getId(), jobPosting);
+            }
+            for (Long id : ids) {
+                JobPosting jobPosting = reloaded.get(id);
+                if (jobPosting != null && jobPosting.isActive()) {
+                    plans.put(id, new CompiledJob(jobPosting));
+                } else {
+                    plans.remove(id);
+                }
+            }
+        } catch (SQLException e) {
+            // Keep them dirty, so the next query retries rather than serve a stale plan
+            dirtyIds.addAll(ids);
+            throw e;
+        }
+    }
+
+    /**
+     * Mark a changed job posting for reloading. Runs on the publishing thread, so it takes no lock
+     * and reads nothing.
+     */
+    private void onChange(ChangeEvent event) {
+        if (event.isJobPosting()) {
+            dirtyIds.add(event.getEntityId());
+        }
+    }
+
+    /**
+     * Immutable lookup structures over one set of plans
+     */
+    private static final class Snapshot {
+        // Skill dictionary generation the plans were compiled under
+        private final int generation;
+        private final CompiledJob[] jobs;
+        private final Map<Integer, int[]> requiredPostings;
+        private final Map<Integer, int[]> preferredPostings;
+        // Distinct required experience values and, per value, jobs by zero-overlap score descending
+        private final int[] bucketExperience;
+        private final int[][] buckets;
+        // Locations in MatchQuery form, encoded as small ints, and the jobs at each
+        private final Map<String, Integer> locationCodes;
+        private final int[][] jobsByLocation;
+
+        private Snapshot(List<CompiledJob> plans, int generation) {
+            this.generation = generation;
+            this.jobs = plans.toArray(new CompiledJob[0]);
+
+            Map<Integer, List<Integer>> required = new HashMap<>();
+            Map<Integer, List<Integer>> preferred = new HashMap<>();
+            TreeMap<Integer, List<Integer>> byExperience = new TreeMap<>();
+            for (int job = 0; job < jobs.length; job++) {
+                for (int id : jobs[job].getRequiredIds()) {
+                    // Blank skills map to 0, which no candidate has
+                    if (id != 0) {
+                        required.computeIfAbsent(id, key -> new ArrayList<>()).add(job);
+                    }
+                }
+                for (int id : jobs[job].getPreferredOnlyIds()) {
+                    if (id != 0) {
+                        preferred.computeIfAbsent(id, key -> new ArrayList<>()).add(job);
+                    }
+                }
+                byExperience.computeIfAbsent(jobs[job].getRequiredExperience(), key -> new ArrayList<>()).add(job);
+            }
+            Map<String, Integer> codes = new HashMap<>();
+            List<List<Integer>> byLocation = new ArrayList<>();
+            for (int job = 0; job < jobs.length; job++) {
+                String location = MatchQuery.normalizeLocation(jobs[job].getJobPosting().getLocation());
+                if (location != null) {
+                    int code = codes.computeIfAbsent(location, key -> codes.size());
+                    if (code == byLocation.size()) {
+                        byLocation.add(new ArrayList<>());
+                    }
+                    byLocation.get(code).add(job);
+                }
+            }
+            this.locationCodes = codes;
+            this.jobsByLocation = new int[byLocation.size()][];
+            for (int code = 0; code < jobsByLocation.length; code++) {
+                jobsByLocation[code] = byLocation.get(code).stream().mapToInt(Integer::intValue).toArray();
+            }
+
+            this.requiredPostings = toArrays(required);
+            this.preferredPostings = toArrays(preferred);
+
+            this.bucketExperience = new int[byExperience.size()];
+            this.buckets = new int[byExperience.size()][];
+            int b = 0;
+            for (Map.Entry<Integer, List<Integer>> entry : byExperience.entrySet()) {
+                int requiredExperience = entry.getKey();
+                List<Integer> bucket = entry.getValue();
+                // Within a bucket the experience part is equal, so any fixed experience orders the jobs
+                bucket.sort(Comparator.comparingDouble((Integer job) -> -jobs[job].score(0, 0, requiredExperience))
+                        .thenComparingInt(job -> job));
+                bucketExperience[b] = requiredExperience;
+                buckets[b] = bucket.stream().mapToInt(Integer::intValue).toArray();
+                b++;
+            }
+        }
+
+        /**
+         * Jobs failing the query's job filters, or null if it has none
+         */
+        private boolean[] excludedBy(MatchQuery query) {
+            if (!query.hasJobFilter()) {
+                return null;
+            }
+            boolean[] excluded = new boolean[jobs.length];
+            if (query.getLocations() == null) {
+                for (int job = 0; job < jobs.length; job++) {
+                    excluded[job] = !matchesSalary(query, job);
+                }
+                return excluded;
+            }
+
+            Arrays.fill(excluded, true);
+            for (String location : query.getLocations()) {
+                Integer code = locationCodes.get(location);
+                if (code != null) {
+                    for (int job : jobsByLocation[code]) {
+                        excluded[job] = !matchesSalary(query, job);
+                    }
+                }
+            }
+            return excluded;
+        }
+
+        private boolean matchesSalary(MatchQuery query, int job) {
+            JobPosting jobPosting = jobs[job].getJobPosting();
+            return query.matchesSalary(jobPosting.getSalaryMin(), jobPosting.getSalaryMax());
+        }
+
+        private static Map<Integer, int[]> toArrays(Map<Integer, List<Integer>> lists) {
+            Map<Integer, int[]> arrays = new HashMap<>(lists.size() * 2);
+            for (Map.Entry<Integer, List<Integer>> entry : lists.entrySet()) {
+                arrays.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+            return arrays;
+        }
+    }
+
+    /**
+     * A job's score during a query; on equal scores the earlier job ranks higher
+     */
+    private static final class Scored {
+        private static final Comparator<Scored> WORST_FIRST = Comparator.comparingDouble((Scored s) -> s.score)
+                .thenComparing(Comparator.comparingInt((Scored s) -> s.job).reversed());
+
+        private final int job;
+        private final double score;
+
+        private Scored(int job, double score) {
+            this.job = job;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.recruitment.engine;
+
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Filters applied before scoring by the find* methods of {@link MatchingEngine},
+ * {@link MatchService} and {@link JobIndex}, so excluded pairs are never scored.
+ *
+ * Job filters: location (any of a set, case-insensitive) and a salary band that the job's
+ * range must overlap; jobs without salary information never match a salary band.
+ * Candidate filters: an experience range in years. Unset filters match everything.
+ */
+public class MatchQuery {
+    private Set<String> locations;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private Integer minExperience;
+    private Integer maxExperience;
+
+    /**
+     * No filters
+     */
+    public static MatchQuery any() {
+        return new MatchQuery();
+    }
+
+    /**
+     * Whether any job filter is set
+     */
+    public boolean hasJobFilter() {
+        return locations != null || minSalary != null || maxSalary != null;
+    }
+
+    /**
+     * Whether any candidate filter is set
+     */
+    public boolean hasCandidateFilter() {
+        return minExperience != null || maxExperience != null;
+    }
+
+    public boolean matches(Candidate candidate) {
+        return matchesExperience(candidate.getExperienceYears());
+    }
+
+    public boolean matches(JobPosting jobPosting) {
+        if (locations != null && !locations.contains(normalizeLocation(jobPosting.getLocation()))) {
+            return false;
+        }
+        return matchesSalary(jobPosting.getSalaryMin(), jobPosting.getSalaryMax());
+    }
+
+    boolean matchesExperience(int experienceYears) {
+        return (minExperience == null || experienceYears >= minExperience)
+                && (maxExperience == null || experienceYears <= maxExperience);
+    }
+
+    boolean matchesSalary(BigDecimal salaryMin, BigDecimal salaryMax) {
+        if (minSalary == null && maxSalary == null) {
+            return true;
+        }
+        if (salaryMin == null && salaryMax == null) {
+            return false;
+        }
+        BigDecimal low = salaryMin != null ? salaryMin : salaryMax;
+        BigDecimal high = salaryMax != null ? salaryMax : salaryMin;
+        return (minSalary == null || high.compareTo(minSalary) >= 0)
+                && (maxSalary == null || low.compareTo(maxSalary) <= 0);
+    }
+
+    /**
+     * Form in which locations are compared; null for a missing location
+     */
+    static String normalizeLocation(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            return null;
+        }
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Getters and Setters
+    public Set<String> getLocations() {
+        return locations;
+    }
+
+    /**
+     * Only jobs in one of these locations; null or empty removes the filter
+     */
+    public void setLocations(Collection<String> locations) {
+        if (locations == null || locations.isEmpty()) {
+            this.locations = null;
+            return;
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String location : locations) {
+            String value = normalizeLocation(location);
+            if (value != null) {
+                normalized.add(value);
+            }
+        }
+        this.locations = normalized.isEmpty() ? null : normalized;
+    }
+
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+
+    public Integer getMinExperience() {
+        return minExperience;
+    }
+
+    public void setMinExperience(Integer minExperience) {
+        this.minExperience = minExperience;
+    }
+
+    public Integer getMaxExperience() {
+        return maxExperience;
+    }
+
+    public void setMaxExperience(Integer maxExperience) {
+        this.maxExperience = maxExperience;
+    }
+}
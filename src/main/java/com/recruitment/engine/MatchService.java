@@ -0,0 +1,239 @@
+package com.recruitment.engine;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.CandidateFetchPlan;
+import com.recruitment.database.MatchResultDAO;
+import com.recruitment.model.Candidate;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.MatchResult;
+import com.recruitment.model.SkillOverlap;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Serves match results from the match_results table. Before reading, only the candidate/job
+ * pairs whose stored result is missing or stale are recalculated, so repeat lookups for a job
+ * cost one index read instead of scoring every candidate. Jobs kept current by a running
+ * {@link IncrementalMatcher} skip the per-candidate staleness check while no candidate has
+ * changed since, which one MAX(updated_at) probe tells.
+ */
+public class MatchService {
+    // Candidates loaded and scored per round when refreshing stale results
+    private static final int REFRESH_CHUNK_SIZE = 1_000;
+
+    private static final Comparator<MatchResult> BY_SCORE_THEN_ID = Comparator
+            .comparingDouble((MatchResult result) -> -result.getMatchScore())
+            .thenComparing(result -> result.getCandidate().getId());
+
+    private final MatchingEngine matchingEngine;
+    private final CandidateDAO candidateDAO;
+    private final MatchResultDAO matchResultDAO;
+    private final IncrementalMatcher incrementalMatcher;
+
+    public MatchService() {
+        this(new MatchingEngine(), new CandidateDAO(), new MatchResultDAO());
+    }
+
+    public MatchService(MatchingEngine matchingEngine, CandidateDAO candidateDAO, MatchResultDAO matchResultDAO) {
+        this(matchingEngine, candidateDAO, matchResultDAO, IncrementalMatcher.getInstance());
+    }
+
+    /**
+     * With an incremental matcher (may be null), jobs it keeps current are read without a staleness check
+     */
+    MatchService(MatchingEngine matchingEngine, CandidateDAO candidateDAO, MatchResultDAO matchResultDAO,
+                 IncrementalMatcher incrementalMatcher) {
+        this.matchingEngine = matchingEngine;
+        this.candidateDAO = candidateDAO;
+        this.matchResultDAO = matchResultDAO;
+        this.incrementalMatcher = incrementalMatcher;
+    }
+
+    /**
+     * Best-matching candidates for a job, highest score first, with their candidates loaded.
+     * If stored results cannot be refreshed, a running {@link CandidateIndex} answers from memory;
+     * otherwise candidates are scored directly, loading only those whose skill overlap (counted
+     * in SQL) can still place them in the top results.
+     */
+    public List<MatchResult> findBestMatches(JobPosting jobPosting, int maxResults) throws SQLException {
+        return findBestMatches(jobPosting, maxResults, MatchQuery.any());
+    }
+
+    /**
+     * Best-matching candidates for a job among those passing the query's filters. The experience
+     * range is pushed down into the top-K read, so filtered-out candidates are never loaded.
+     */
+    public List<MatchResult> findBestMatches(JobPosting jobPosting, int maxResults, MatchQuery query) throws SQLException {
+        if (jobPosting == null || jobPosting.getId() == null) {
+            throw new IllegalArgumentException("Job posting must be saved before matching");
+        }
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("maxResults must be positive");
+        }
+        if (!query.matches(jobPosting)) {
+            return new ArrayList<>();
+        }
+
+        try {
+            if (incrementalMatcher == null) {
+                refresh(jobPosting);
+            } else {
+                // Read before refreshing, so a change committed meanwhile is not marked as included
+                LocalDateTime lastCandidateChange = candidateDAO.findLastUpdatedAt();
+                if (!incrementalMatcher.isCurrent(jobPosting.getId(), lastCandidateChange)) {
+                    refresh(jobPosting);
+                    incrementalMatcher.markCurrent(jobPosting.getId(), lastCandidateChange);
+                }
+            }
+        } catch (SQLException e) {
+            CandidateIndex index = CandidateIndex.getInstance();
+            if (index.isRunning()) {
+                System.err.println("Warning: Failed to refresh stored matches for job " + jobPosting.getId()
+                        + ", matching against the candidate index: " + e.getMessage());
+                return index.findBestMatches(jobPosting, maxResults, query);
+            }
+            System.err.println("Warning: Failed to refresh stored matches for job " + jobPosting.getId()
+                    + ", scoring all candidates: " + e.getMessage());
+            return scoreBestMatches(jobPosting, maxResults, query);
+        }
+
+        List<MatchResult> stored = matchResultDAO.findTopByJob(jobPosting.getId(), maxResults,
+                query.getMinExperience(), query.getMaxExperience());
+        return attachCandidates(stored, jobPosting);
+    }
+
+    /**
+     * Candidates scoring at least minScore for a job among those passing the query's filters,
+     * highest score first. Skill overlap is counted in SQL first, so only candidates that can
+     * still reach minScore are loaded and scored; a threshold low enough to admit candidates
+     * sharing no skill with the job needs a scan of all candidates instead.
+     */
+    public List<MatchResult> findMatchesAboveThreshold(JobPosting jobPosting, double minScore, MatchQuery query)
+            throws SQLException {
+        if (jobPosting == null) {
+            throw new IllegalArgumentException("Job posting cannot be null");
+        }
+        if (!query.matches(jobPosting)) {
+            return new ArrayList<>();
+        }
+
+        SkillPrefilter prefilter = new SkillPrefilter(jobPosting);
+        if (prefilter.maxScore(0, 0) >= minScore) {
+            try (Stream<Candidate> candidates = candidateDAO.stream(CandidateFetchPlan.SKILLS)) {
+                return matchingEngine.findMatchesAboveThreshold(jobPosting, candidates, minScore, query);
+            }
+        }
+
+        List<SkillOverlap> overlaps = candidateDAO.findSkillOverlaps(prefilter.getRequiredSkills(),
+                prefilter.getPreferredSkills(), prefilter.minRequiredByPreferred(minScore));
+
+        List<MatchResult> matches = new ArrayList<>();
+        for (int from = 0; from < overlaps.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Candidate> candidates = candidateDAO.findByIds(
+                    candidateIds(overlaps.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, overlaps.size()))));
+            matches.addAll(matchingEngine.findMatchesAboveThreshold(jobPosting, candidates, minScore, query));
+        }
+        Collections.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Score the best matches for a job without stored results. Candidates sharing skills with the
+     * job are loaded in order of their best possible score until no remaining one can beat the
+     * current top results; if candidates sharing no skill could still make the top results, all
+     * candidates are scored. Equal scores are ordered by candidate id, as in a scan of all candidates.
+     */
+    private List<MatchResult> scoreBestMatches(JobPosting jobPosting, int maxResults, MatchQuery query)
+            throws SQLException {
+        SkillPrefilter prefilter = new SkillPrefilter(jobPosting);
+        double noOverlapScore = prefilter.maxScore(0, 0);
+
+        List<SkillOverlap> overlaps = new ArrayList<>(candidateDAO.findSkillOverlaps(prefilter.getRequiredSkills(),
+                prefilter.getPreferredSkills(), prefilter.minRequiredByPreferred(noOverlapScore)));
+        overlaps.sort(Comparator.comparingDouble((SkillOverlap overlap) -> -prefilter.maxScore(overlap)));
+
+        List<MatchResult> matches = new ArrayList<>();
+        int from = 0;
+        while (from < overlaps.size()
+                && (matches.size() < maxResults || prefilter.maxScore(overlaps.get(from)) >= kthScore(matches, maxResults))) {
+            List<SkillOverlap> chunk = overlaps.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, overlaps.size()));
+            matches.addAll(matchingEngine.findMatchesAboveThreshold(jobPosting, candidateDAO.findByIds(candidateIds(chunk)),
+                    0, query));
+            matches.sort(BY_SCORE_THEN_ID);
+            from += chunk.size();
+        }
+
+        if (matches.size() < maxResults || kthScore(matches, maxResults) <= noOverlapScore) {
+            try (Stream<Candidate> candidates = candidateDAO.stream(CandidateFetchPlan.SKILLS)) {
+                return matchingEngine.findBestMatches(jobPosting, candidates, maxResults, query);
+            }
+        }
+        return new ArrayList<>(matches.subList(0, maxResults));
+    }
+
+    /**
+     * Score of the k-th best of the sorted matches
+     */
+    private static double kthScore(List<MatchResult> matches, int k) {
+        return matches.get(k - 1).getMatchScore();
+    }
+
+    private static List<Long> candidateIds(List<SkillOverlap> overlaps) {
+        List<Long> ids = new ArrayList<>(overlaps.size());
+        for (SkillOverlap overlap : overlaps) {
+            ids.add(overlap.getCandidateId());
+        }
+        return ids;
+    }
+
+    /**
+     * Recalculate and store the results that are missing or stale for a job; returns how many
+     */
+    public int refresh(JobPosting jobPosting) throws SQLException {
+        List<Long> staleIds = matchResultDAO.findStaleCandidateIds(jobPosting, MatchingEngine.SCORING_VERSION);
+
+        for (int from = 0; from < staleIds.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = staleIds.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, staleIds.size()));
+            List<MatchResult> results = new ArrayList<>(chunk.size());
+            for (Candidate candidate : candidateDAO.findByIds(chunk)) {
+                results.add(matchingEngine.calculateMatch(candidate, jobPosting));
+            }
+            matchResultDAO.saveAll(results, MatchingEngine.SCORING_VERSION);
+        }
+
+        return staleIds.size();
+    }
+
+    /**
+     * Load the candidates of stored results; results whose candidate was deleted meanwhile are dropped
+     */
+    private List<MatchResult> attachCandidates(List<MatchResult> stored, JobPosting jobPosting) throws SQLException {
+        List<Long> candidateIds = new ArrayList<>(stored.size());
+        for (MatchResult result : stored) {
+            candidateIds.add(result.getCandidateId());
+        }
+
+        Map<Long, Candidate> candidates = new HashMap<>();
+        for (Candidate candidate : candidateDAO.findByIds(candidateIds)) {
+            candidates.put(candidate.getId(), candidate);
+        }
+
+        List<MatchResult> results = new ArrayList<>(stored.size());
+        for (MatchResult result : stored) {
+            Candidate candidate = candidates.get(result.getCandidateId());
+            if (candidate != null) {
+                result.setCandidate(candidate);
+                result.setJobPosting(jobPosting);
+                results.add(result);
+            }
+        }
+        return results;
+    }
+}
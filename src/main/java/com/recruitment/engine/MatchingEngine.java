@@ -3,16 +3,24 @@ package com.recruitment.engine;
 import com.recruitment.model.Candidate;
 import com.recruitment.model.JobPosting;
 import com.recruitment.model.MatchResult;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Engine for matching candidates to job postings based on skills and experience
  */
 public class MatchingEngine {
     
+    // Stored match results record the version they were scored with; bump it whenever scoring changes
+    public static final int SCORING_VERSION = 1;
+    
     // Weights for different matching criteria
     private static final double REQUIRED_SKILLS_WEIGHT = 0.6;  // 60%
     private static final double PREFERRED_SKILLS_WEIGHT = 0.2; // 20%
@@ -57,11 +65,20 @@ public class MatchingEngine {
      * Find best matches for a job posting from a list of candidates
      */
     public List<MatchResult> findBestMatches(JobPosting jobPosting, List<Candidate> candidates, int maxResults) {
-        if (jobPosting == null || candidates == null) {
+        return findBestMatches(jobPosting, candidates, maxResults, MatchQuery.any());
+    }
+    
+    /**
+     * Find best matches for a job posting among the candidates passing the query's filters
+     */
+    public List<MatchResult> findBestMatches(JobPosting jobPosting, List<Candidate> candidates, int maxResults,
+                                             MatchQuery query) {
+        if (jobPosting == null || candidates == null || !query.matches(jobPosting)) {
             return new ArrayList<>();
         }
         
         List<MatchResult> matches = candidates.stream()
+                .filter(candidate -> !query.hasCandidateFilter() || query.matches(candidate))
                 .map(candidate -> calculateMatch(candidate, jobPosting))
                 .sorted() // MatchResult implements Comparable (sorts by score descending)
                 .limit(maxResults > 0 ? maxResults : candidates.size())
@@ -70,31 +87,129 @@ public class MatchingEngine {
         return matches;
     }
     
+    /**
+     * Find best matches for a job posting from a stream of candidates (e.g. {@code CandidateDAO.stream}),
+     * keeping only the best maxResults in memory. Equal scores keep stream order, as with a list.
+     */
+    public List<MatchResult> findBestMatches(JobPosting jobPosting, Stream<Candidate> candidates, int maxResults,
+                                             MatchQuery query) {
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("maxResults must be positive when streaming");
+        }
+        if (jobPosting == null || candidates == null || !query.matches(jobPosting)) {
+            return new ArrayList<>();
+        }
+        
+        // Worst result at the head: lowest score, then latest in the stream
+        PriorityQueue<Ranked> top = new PriorityQueue<>(maxResults + 1);
+        long[] sequence = new long[1];
+        candidates.forEach(candidate -> {
+            long position = sequence[0]++;
+            if (query.hasCandidateFilter() && !query.matches(candidate)) {
+                return;
+            }
+            Ranked ranked = new Ranked(calculateMatch(candidate, jobPosting), position);
+            if (top.size() < maxResults) {
+                top.add(ranked);
+            } else if (ranked.compareTo(top.peek()) > 0) {
+                top.poll();
+                top.add(ranked);
+            }
+        });
+        
+        List<Ranked> best = new ArrayList<>(top);
+        best.sort(Collections.reverseOrder());
+        List<MatchResult> matches = new ArrayList<>(best.size());
+        for (Ranked ranked : best) {
+            matches.add(ranked.result);
+        }
+        return matches;
+    }
+    
     /**
      * Find all matches above a minimum score threshold
      */
     public List<MatchResult> findMatchesAboveThreshold(JobPosting jobPosting, List<Candidate> candidates, double minScore) {
-        if (jobPosting == null || candidates == null) {
+        return findMatchesAboveThreshold(jobPosting, candidates, minScore, MatchQuery.any());
+    }
+    
+    /**
+     * Find all matches above a minimum score threshold among the candidates passing the query's filters
+     */
+    public List<MatchResult> findMatchesAboveThreshold(JobPosting jobPosting, List<Candidate> candidates, double minScore,
+                                                       MatchQuery query) {
+        if (jobPosting == null || candidates == null || !query.matches(jobPosting)) {
             return new ArrayList<>();
         }
         
         return candidates.stream()
+                .filter(candidate -> !query.hasCandidateFilter() || query.matches(candidate))
                 .map(candidate -> calculateMatch(candidate, jobPosting))
                 .filter(match -> match.getMatchScore() >= minScore)
                 .sorted()
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Find all matches above a minimum score threshold from a stream of candidates; only the
+     * matches are kept in memory
+     */
+    public List<MatchResult> findMatchesAboveThreshold(JobPosting jobPosting, Stream<Candidate> candidates, double minScore,
+                                                       MatchQuery query) {
+        if (jobPosting == null || candidates == null || !query.matches(jobPosting)) {
+            return new ArrayList<>();
+        }
+
+        List<MatchResult> matches = new ArrayList<>();
+        candidates.forEach(candidate -> {
+            if (!query.hasCandidateFilter() || query.matches(candidate)) {
+                MatchResult match = calculateMatch(candidate, jobPosting);
+                if (match.getMatchScore() >= minScore) {
+                    matches.add(match);
+                }
+            }
+        });
+        Collections.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Find suitable active jobs for a candidate using the shared {@link JobIndex}, which scores
+     * only the jobs sharing a skill with the candidate plus the best of the rest
+     */
+    public List<MatchResult> findSuitableJobs(Candidate candidate, int maxResults) throws SQLException {
+        return findSuitableJobs(candidate, maxResults, MatchQuery.any());
+    }
     
     /**
-     * Find suitable jobs for a candidate
+     * Find suitable active jobs passing the query's filters for a candidate using the shared {@link JobIndex}
+     */
+    public List<MatchResult> findSuitableJobs(Candidate candidate, int maxResults, MatchQuery query) throws SQLException {
+        if (candidate == null) {
+            return new ArrayList<>();
+        }
+        return JobIndex.getInstance().findSuitableJobs(candidate, maxResults, query);
+    }
+    
+    /**
+     * Find suitable jobs for a candidate among the given postings
      */
     public List<MatchResult> findSuitableJobs(Candidate candidate, List<JobPosting> jobPostings, int maxResults) {
-        if (candidate == null || jobPostings == null) {
+        return findSuitableJobs(candidate, jobPostings, maxResults, MatchQuery.any());
+    }
+    
+    /**
+     * Find suitable jobs for a candidate among the given postings passing the query's filters
+     */
+    public List<MatchResult> findSuitableJobs(Candidate candidate, List<JobPosting> jobPostings, int maxResults,
+                                              MatchQuery query) {
+        if (candidate == null || jobPostings == null || !query.matches(candidate)) {
             return new ArrayList<>();
         }
         
         List<MatchResult> matches = jobPostings.stream()
                 .filter(JobPosting::isActive) // Only consider active job postings
+                .filter(job -> !query.hasJobFilter() || query.matches(job))
                 .map(job -> calculateMatch(candidate, job))
                 .sorted()
                 .limit(maxResults > 0 ? maxResults : jobPostings.size())
@@ -104,48 +219,61 @@ public class MatchingEngine {
     }
     
     /**
-     * Calculate skill matching between candidate and job
+     * Calculate skill matching between candidate and job.
+     * Skills are compared by canonical id, so aliases such as "JS" and "JavaScript" match.
      */
     private SkillMatchResult calculateSkillMatch(Candidate candidate, JobPosting jobPosting) {
         SkillMatchResult result = new SkillMatchResult();
         
-        List<String> candidateSkills = candidate.getSkills().stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
+        int[] candidateSkillIds = candidate.getSkillIds(); // sorted
+        int[] requiredSkillIds = jobPosting.getRequiredSkillIds();
+        int[] preferredSkillIds = jobPosting.getPreferredSkillIds();
+        List<String> requiredSkills = jobPosting.getRequiredSkills();
+        List<String> preferredSkills = jobPosting.getPreferredSkills();
         
-        List<String> requiredSkills = jobPosting.getRequiredSkills().stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
-        
-        List<String> preferredSkills = jobPosting.getPreferredSkills().stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
+        int[] matchedIds = new int[requiredSkillIds.length + preferredSkillIds.length];
+        int matchedIdCount = 0;
         
         // Check required skills
-        for (String requiredSkill : requiredSkills) {
-            if (candidateSkills.contains(requiredSkill)) {
-                result.matchedSkills.add(requiredSkill);
+        for (int i = 0; i < requiredSkillIds.length; i++) {
+            if (Arrays.binarySearch(candidateSkillIds, requiredSkillIds[i]) >= 0) {
+                result.matchedSkills.add(requiredSkills.get(i));
+                matchedIds[matchedIdCount++] = requiredSkillIds[i];
                 result.requiredMatched++;
             } else {
-                result.missingSkills.add(requiredSkill);
+                result.missingSkills.add(requiredSkills.get(i));
             }
         }
         
         // Check preferred skills
-        for (String preferredSkill : preferredSkills) {
-            if (candidateSkills.contains(preferredSkill) && !result.matchedSkills.contains(preferredSkill)) {
-                result.matchedSkills.add(preferredSkill);
+        for (int i = 0; i < preferredSkillIds.length; i++) {
+            int skillId = preferredSkillIds[i];
+            if (Arrays.binarySearch(candidateSkillIds, skillId) >= 0 && !contains(matchedIds, matchedIdCount, skillId)) {
+                result.matchedSkills.add(preferredSkills.get(i));
+                matchedIds[matchedIdCount++] = skillId;
                 result.preferredMatched++;
             }
         }
         
-        result.totalRequired = requiredSkills.size();
-        result.totalPreferred = preferredSkills.size();
+        result.totalRequired = requiredSkillIds.length;
+        result.totalPreferred = preferredSkillIds.length;
         result.matchedCount = result.requiredMatched + result.preferredMatched;
         
         return result;
     }
     
+    /**
+     * Linear search over the first count ids (job skill lists are short)
+     */
+    private static boolean contains(int[] ids, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Calculate experience match
      */
@@ -158,11 +286,22 @@ public class MatchingEngine {
      */
     private double calculateOverallScore(SkillMatchResult skillMatch, boolean experienceMatch, 
                                        Candidate candidate, JobPosting jobPosting) {
+        return score(skillMatch.requiredMatched, skillMatch.totalRequired,
+                skillMatch.preferredMatched, skillMatch.totalPreferred,
+                candidate.getExperienceYears(), jobPosting.getRequiredExperience());
+    }
+    
+    /**
+     * Overall match score from the skill counts and experience alone, so indexes can rank
+     * jobs without building a MatchResult (see {@link JobIndex})
+     */
+    static double score(int requiredMatched, int totalRequired, int preferredMatched, int totalPreferred,
+                        int experienceYears, int requiredExperience) {
         double score = 0.0;
         
         // Required skills score (0-60 points)
-        if (skillMatch.totalRequired > 0) {
-            double requiredSkillsScore = (double) skillMatch.requiredMatched / skillMatch.totalRequired * 100;
+        if (totalRequired > 0) {
+            double requiredSkillsScore = (double) requiredMatched / totalRequired * 100;
             score += requiredSkillsScore * REQUIRED_SKILLS_WEIGHT;
         } else {
             // If no required skills specified, give full points
@@ -170,8 +309,8 @@ public class MatchingEngine {
         }
         
         // Preferred skills score (0-20 points)
-        if (skillMatch.totalPreferred > 0) {
-            double preferredSkillsScore = (double) skillMatch.preferredMatched / skillMatch.totalPreferred * 100;
+        if (totalPreferred > 0) {
+            double preferredSkillsScore = (double) preferredMatched / totalPreferred * 100;
             score += preferredSkillsScore * PREFERRED_SKILLS_WEIGHT;
         } else {
             // If no preferred skills specified, give full points
@@ -179,25 +318,25 @@ public class MatchingEngine {
         }
         
         // Experience score (0-20 points)
-        if (experienceMatch) {
+        if (experienceYears >= requiredExperience) {
             score += 100 * EXPERIENCE_WEIGHT;
             
             // Bonus for exceeding experience requirement
-            int experienceExcess = candidate.getExperienceYears() - jobPosting.getRequiredExperience();
+            int experienceExcess = experienceYears - requiredExperience;
             if (experienceExcess > 0) {
                 double bonus = Math.min(EXPERIENCE_BONUS, experienceExcess * 2.0);
                 score += bonus;
             }
         } else {
             // Partial credit for some experience
-            if (jobPosting.getRequiredExperience() > 0) {
-                double experienceRatio = (double) candidate.getExperienceYears() / jobPosting.getRequiredExperience();
+            if (requiredExperience > 0) {
+                double experienceRatio = (double) experienceYears / requiredExperience;
                 score += Math.min(1.0, experienceRatio) * 100 * EXPERIENCE_WEIGHT;
             }
         }
         
         // Perfect skills bonus
-        if (skillMatch.totalRequired > 0 && skillMatch.requiredMatched == skillMatch.totalRequired) {
+        if (totalRequired > 0 && requiredMatched == totalRequired) {
             score += PERFECT_SKILLS_BONUS;
         }
         
@@ -233,6 +372,57 @@ public class MatchingEngine {
         return stats;
     }
     
+    /**
+     * Get matching statistics for a job posting over a stream of candidates, in constant memory
+     */
+    public MatchingStats getMatchingStats(JobPosting jobPosting, Stream<Candidate> candidates) {
+        MatchingStats stats = new MatchingStats();
+        if (jobPosting == null || candidates == null) {
+            return stats;
+        }
+        
+        DoubleSummaryStatistics scores = new DoubleSummaryStatistics();
+        candidates.forEach(candidate -> {
+            double score = calculateMatch(candidate, jobPosting).getMatchScore();
+            scores.accept(score);
+            if (score >= 90) {
+                stats.excellentMatches++;
+            } else if (score >= 70) {
+                stats.goodMatches++;
+            } else if (score >= 50) {
+                stats.fairMatches++;
+            }
+        });
+        
+        stats.totalCandidates = (int) scores.getCount();
+        stats.poorMatches = stats.totalCandidates - stats.excellentMatches - stats.goodMatches - stats.fairMatches;
+        if (scores.getCount() > 0) {
+            stats.averageScore = scores.getAverage();
+            stats.highestScore = scores.getMax();
+            stats.lowestScore = scores.getMin();
+        }
+        return stats;
+    }
+    
+    /**
+     * A streamed match result with its position in the stream; better results compare greater
+     */
+    private static class Ranked implements Comparable<Ranked> {
+        final MatchResult result;
+        final long position;
+        
+        Ranked(MatchResult result, long position) {
+            this.result = result;
+            this.position = position;
+        }
+        
+        @Override
+        public int compareTo(Ranked other) {
+            int byScore = Double.compare(result.getMatchScore(), other.result.getMatchScore());
+            return byScore != 0 ? byScore : Long.compare(other.position, position);
+        }
+    }
+    
     /**
      * Inner class for skill match results
      */
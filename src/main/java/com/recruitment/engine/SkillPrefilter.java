@@ -0,0 +1,102 @@
+package com.recruitment.engine;
+
+import com.recruitment.database.CandidateDAO;
+import com.recruitment.model.JobPosting;
+import com.recruitment.model.SkillOverlap;
+import com.recruitment.util.SkillDictionary;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A job's skills in the form {@link CandidateDAO#findSkillOverlaps} counts them in SQL, with
+ * the score bounds that decide which candidates are worth loading.
+ *
+ * Skills are grouped by canonical id as in {@link MatchingEngine}: every listing of a required
+ * skill counts, a preferred skill counts once and not at all if it is also required. Bounds
+ * assume the full experience bonus, so a candidate's real score never exceeds its bound.
+ */
+class SkillPrefilter {
+    // Years past the requirement that earn the full experience bonus
+    private static final int FULL_BONUS_YEARS = 5;
+
+    private final Map<String, Integer> requiredSkills = new LinkedHashMap<>();
+    private final List<String> preferredSkills = new ArrayList<>();
+    private final int totalRequired;
+    private final int totalPreferred;
+
+    SkillPrefilter(JobPosting jobPosting) {
+        SkillDictionary dictionary = SkillDictionary.current();
+        int[] requiredIds = jobPosting.getRequiredSkillIds();
+        int[] preferredIds = jobPosting.getPreferredSkillIds();
+
+        Map<Integer, String> names = new HashMap<>();
+        for (int i = 0; i < requiredIds.length; i++) {
+            if (requiredIds[i] != 0) {
+                String skill = jobPosting.getRequiredSkills().get(i);
+                String name = names.computeIfAbsent(requiredIds[i], id -> dictionary.canonicalize(skill.trim()));
+                requiredSkills.merge(name, 1, Integer::sum);
+            }
+        }
+        Set<Integer> seen = new HashSet<>(names.keySet());
+        for (int i = 0; i < preferredIds.length; i++) {
+            if (preferredIds[i] != 0 && seen.add(preferredIds[i])) {
+                preferredSkills.add(dictionary.canonicalize(jobPosting.getPreferredSkills().get(i).trim()));
+            }
+        }
+
+        this.totalRequired = requiredIds.length;
+        this.totalPreferred = preferredIds.length;
+    }
+
+    /**
+     * Canonical required skills with how often the job lists each
+     */
+    Map<String, Integer> getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    /**
+     * Canonical preferred skills that can count towards the score
+     */
+    List<String> getPreferredSkills() {
+        return preferredSkills;
+    }
+
+    /**
+     * Highest score reachable with the given skill counts
+     */
+    double maxScore(int requiredMatched, int preferredMatched) {
+        return MatchingEngine.score(requiredMatched, totalRequired, preferredMatched, totalPreferred,
+                FULL_BONUS_YEARS, 0);
+    }
+
+    double maxScore(SkillOverlap overlap) {
+        return maxScore(overlap.getRequiredMatched(), overlap.getPreferredMatched());
+    }
+
+    /**
+     * For each preferred count, the fewest required skills that can still reach minScore;
+     * one more than can ever match where no count is enough
+     */
+    int[] minRequiredByPreferred(double minScore) {
+        int matchableRequired = 0;
+        for (int listings : requiredSkills.values()) {
+            matchableRequired += listings;
+        }
+
+        int[] minRequired = new int[preferredSkills.size() + 1];
+        for (int p = 0; p < minRequired.length; p++) {
+            int r = 0;
+            while (r <= matchableRequired && maxScore(r, p) < minScore) {
+                r++;
+            }
+            minRequired[p] = r;
+        }
+        return minRequired;
+    }
+}
@@ -1,5 +1,6 @@
 package com.recruitment.model;
 
+import com.recruitment.util.SkillRegistry;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,6 +10,11 @@ import java.util.Objects;
  * Model class representing a candidate in the recruitment system
  */
 public class Candidate {
+    // Parse status values
+    public static final String PARSE_STATUS_PARTIAL = "partial";   // Preview saved, full parse pending
+    public static final String PARSE_STATUS_COMPLETE = "complete"; // All fields extracted
+    public static final String PARSE_STATUS_FAILED = "failed";     // Preview saved, full parse failed
+
     private Long id;
     private String name;
     private String email;
@@ -16,13 +22,19 @@ public class Candidate {
     private String education;
     private int experienceYears;
     private String resumeText;
-    private List<String> skills;
+    private List<String> skills; // Null while deferred to the loader
+    private SkillRegistry.CachedIds skillIds; // Sorted canonical skill ids, derived from skills on demand
+    private boolean skillsExtracted; // Skills set by the resume parser rather than by hand
+    private volatile boolean resumeTextLoaded = true;
+    private volatile CandidateLoader loader;
+    private String parseStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     // Constructors
     public Candidate() {
         this.skills = new ArrayList<>();
+        this.parseStatus = PARSE_STATUS_COMPLETE;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -92,33 +104,150 @@ public class Candidate {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Get the resume text, loading it on first access if it was deferred
+     */
     public String getResumeText() {
+        if (!resumeTextLoaded) {
+            CandidateLoader currentLoader = loader;
+            String text = currentLoader != null ? currentLoader.loadResumeText(this) : null;
+            synchronized (this) {
+                if (!resumeTextLoaded) {
+                    resumeText = text;
+                    resumeTextLoaded = true;
+                }
+            }
+        }
         return resumeText;
     }
 
-    public void setResumeText(String resumeText) {
+    public synchronized void setResumeText(String resumeText) {
         this.resumeText = resumeText;
+        this.resumeTextLoaded = true;
         this.updatedAt = LocalDateTime.now();
     }
 
     public List<String> getSkills() {
-        return new ArrayList<>(skills);
+        return new ArrayList<>(loadedSkills());
     }
 
-    public void setSkills(List<String> skills) {
+    public synchronized void setSkills(List<String> skills) {
         this.skills = new ArrayList<>(skills);
+        this.skillIds = null;
+        this.skillsExtracted = false;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Set skills found by the resume parser. Their links are stored as extracted, so a later
+     * re-extraction may remove them; skills set or added any other way count as entered by hand.
+     */
+    public synchronized void setExtractedSkills(List<String> skills) {
+        setSkills(skills);
+        this.skillsExtracted = true;
+    }
+
+    /**
+     * Whether the skills were last set by the resume parser
+     */
+    public boolean isSkillsExtracted() {
+        return skillsExtracted;
+    }
+
     public void addSkill(String skill) {
-        if (skill != null && !skill.trim().isEmpty() && !this.skills.contains(skill.trim())) {
-            this.skills.add(skill.trim());
+        List<String> current = loadedSkills();
+        if (skill != null && !skill.trim().isEmpty() && !current.contains(skill.trim())) {
+            current.add(skill.trim());
+            this.skillIds = null;
+            this.skillsExtracted = false;
             this.updatedAt = LocalDateTime.now();
         }
     }
 
     public void removeSkill(String skill) {
-        this.skills.remove(skill);
+        loadedSkills().remove(skill);
+        this.skillIds = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Leave the resume text out until it is first read; the loader fetches it then
+     */
+    public synchronized void deferResumeText(CandidateLoader loader) {
+        this.loader = loader;
+        this.resumeText = null;
+        this.resumeTextLoaded = false;
+    }
+
+    /**
+     * Leave the skills out until they are first read; the loader fetches them then
+     */
+    public synchronized void deferSkills(CandidateLoader loader) {
+        this.loader = loader;
+        this.skills = null;
+        this.skillIds = null;
+    }
+
+    /**
+     * Set skills fetched by a loader without marking the candidate as modified.
+     * Ignored if the skills were set in the meantime.
+     */
+    public synchronized void initSkills(List<String> skills) {
+        if (this.skills == null) {
+            this.skills = new ArrayList<>(skills);
+            this.skillIds = null;
+        }
+    }
+
+    public boolean isResumeTextLoaded() {
+        return resumeTextLoaded;
+    }
+
+    public synchronized boolean isSkillsLoaded() {
+        return skills != null;
+    }
+
+    /**
+     * The skills list, loaded first if it was deferred
+     */
+    private List<String> loadedSkills() {
+        synchronized (this) {
+            if (skills != null) {
+                return skills;
+            }
+        }
+        // Not holding the lock here: the loader may fill in several candidates at once
+        CandidateLoader currentLoader = loader;
+        if (currentLoader != null) {
+            currentLoader.loadSkills(this);
+        }
+        synchronized (this) {
+            if (skills == null) {
+                skills = new ArrayList<>();
+            }
+            return skills;
+        }
+    }
+
+    /**
+     * Sorted, distinct canonical skill ids (see {@link SkillRegistry}), recomputed after a
+     * dictionary reload. The array is cached and shared; callers must not modify it.
+     */
+    public int[] getSkillIds() {
+        SkillRegistry.CachedIds ids = skillIds;
+        if (ids == null || !ids.isCurrent()) {
+            ids = SkillRegistry.CachedIds.sortedOf(loadedSkills());
+            skillIds = ids;
+        }
+        return ids.getIds();
+    }
+
+    public String getParseStatus() {
+        return parseStatus;
+    }
+
+    public void setParseStatus(String parseStatus) {
+        this.parseStatus = parseStatus;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -138,14 +267,39 @@ public class Candidate {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Independent copy with every field loaded, including deferred ones
+     */
+    public Candidate copy() {
+        Candidate copy = new Candidate();
+        copy.id = id;
+        copy.name = name;
+        copy.email = email;
+        copy.phone = phone;
+        copy.education = education;
+        copy.experienceYears = experienceYears;
+        copy.resumeText = getResumeText();
+        copy.skills = new ArrayList<>(loadedSkills());
+        copy.skillIds = skillIds;
+        copy.skillsExtracted = skillsExtracted;
+        copy.parseStatus = parseStatus;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        return copy;
+    }
+
     // Utility methods
     public boolean hasSkill(String skill) {
-        return skills.stream()
+        return loadedSkills().stream()
                 .anyMatch(s -> s.equalsIgnoreCase(skill.trim()));
     }
 
     public int getSkillCount() {
-        return skills.size();
+        return loadedSkills().size();
+    }
+
+    public boolean isParseComplete() {
+        return !PARSE_STATUS_PARTIAL.equals(parseStatus) && !PARSE_STATUS_FAILED.equals(parseStatus);
     }
 
     public boolean isExperienced(int requiredYears) {
@@ -168,7 +322,7 @@ public class Candidate {
     @Override
     public String toString() {
         return String.format("Candidate{id=%d, name='%s', email='%s', experience=%d years, skills=%d}",
-                id, name, email, experienceYears, skills.size());
+                id, name, email, experienceYears, getSkillCount());
     }
 
     /**
@@ -185,8 +339,14 @@ public class Candidate {
         if (education != null && !education.isEmpty()) {
             summary.append(String.format("Education: %s\n", education));
         }
-        if (!skills.isEmpty()) {
-            summary.append(String.format("Skills: %s\n", String.join(", ", skills)));
+        List<String> currentSkills = loadedSkills();
+        if (!currentSkills.isEmpty()) {
+            summary.append(String.format("Skills: %s\n", String.join(", ", currentSkills)));
+        }
+        if (PARSE_STATUS_FAILED.equals(parseStatus)) {
+            summary.append("Status: Resume details could not be extracted\n");
+        } else if (!isParseComplete()) {
+            summary.append("Status: Resume details are still being extracted\n");
         }
         return summary.toString();
     }
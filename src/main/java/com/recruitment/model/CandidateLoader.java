@@ -0,0 +1,19 @@
+package com.recruitment.model;
+
+/**
+ * Loads fields that a data source left out of a {@link Candidate} when it was read.
+ * Implementations may load more than the one candidate asked for (e.g. the skills of
+ * every candidate read by the same query) and report failures as unchecked exceptions.
+ */
+public interface CandidateLoader {
+
+    /**
+     * Return the resume text of the candidate
+     */
+    String loadResumeText(Candidate candidate);
+
+    /**
+     * Fill in the skills of the candidate with {@link Candidate#initSkills}
+     */
+    void loadSkills(Candidate candidate);
+}
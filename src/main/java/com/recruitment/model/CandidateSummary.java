@@ -0,0 +1,95 @@
+package com.recruitment.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lightweight view of a candidate for listings: no resume text or education
+ */
+public class CandidateSummary {
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+    private int experienceYears;
+    private List<String> skills;
+    private String parseStatus;
+    private LocalDateTime createdAt;
+
+    public CandidateSummary() {
+        this.skills = new ArrayList<>();
+        this.parseStatus = Candidate.PARSE_STATUS_COMPLETE;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public int getExperienceYears() {
+        return experienceYears;
+    }
+
+    public void setExperienceYears(int experienceYears) {
+        this.experienceYears = experienceYears;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills != null ? skills : new ArrayList<>();
+    }
+
+    public String getParseStatus() {
+        return parseStatus;
+    }
+
+    public void setParseStatus(String parseStatus) {
+        this.parseStatus = parseStatus;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CandidateSummary{id=%d, name='%s', email='%s', experience=%d years, skills=%d}",
+                id, name, email, experienceYears, skills.size());
+    }
+}
@@ -1,5 +1,6 @@
 package com.recruitment.model;
 
+import com.recruitment.util.SkillRegistry;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,6 +20,9 @@ public class JobPosting {
     private int requiredExperience;
     private List<String> requiredSkills;
     private List<String> preferredSkills;
+    // Canonical skill ids in list order, derived from the skill lists on demand
+    private SkillRegistry.CachedIds requiredSkillIds;
+    private SkillRegistry.CachedIds preferredSkillIds;
     private boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -112,6 +116,7 @@ public class JobPosting {
 
     public void setRequiredSkills(List<String> requiredSkills) {
         this.requiredSkills = new ArrayList<>(requiredSkills);
+        this.requiredSkillIds = null;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -121,6 +126,7 @@ public class JobPosting {
 
     public void setPreferredSkills(List<String> preferredSkills) {
         this.preferredSkills = new ArrayList<>(preferredSkills);
+        this.preferredSkillIds = null;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -149,10 +155,33 @@ public class JobPosting {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Independent copy of this job posting
+     */
+    public JobPosting copy() {
+        JobPosting copy = new JobPosting();
+        copy.id = id;
+        copy.title = title;
+        copy.description = description;
+        copy.location = location;
+        copy.salaryMin = salaryMin;
+        copy.salaryMax = salaryMax;
+        copy.requiredExperience = requiredExperience;
+        copy.requiredSkills = new ArrayList<>(requiredSkills);
+        copy.preferredSkills = new ArrayList<>(preferredSkills);
+        copy.requiredSkillIds = requiredSkillIds;
+        copy.preferredSkillIds = preferredSkillIds;
+        copy.isActive = isActive;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        return copy;
+    }
+
     // Utility methods
     public void addRequiredSkill(String skill) {
         if (skill != null && !skill.trim().isEmpty() && !this.requiredSkills.contains(skill.trim())) {
             this.requiredSkills.add(skill.trim());
+            this.requiredSkillIds = null;
             this.updatedAt = LocalDateTime.now();
         }
     }
@@ -160,20 +189,50 @@ public class JobPosting {
     public void addPreferredSkill(String skill) {
         if (skill != null && !skill.trim().isEmpty() && !this.preferredSkills.contains(skill.trim())) {
             this.preferredSkills.add(skill.trim());
+            this.preferredSkillIds = null;
             this.updatedAt = LocalDateTime.now();
         }
     }
 
     public void removeRequiredSkill(String skill) {
         this.requiredSkills.remove(skill);
+        this.requiredSkillIds = null;
         this.updatedAt = LocalDateTime.now();
     }
 
     public void removePreferredSkill(String skill) {
         this.preferredSkills.remove(skill);
+        this.preferredSkillIds = null;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Canonical ids of the required skills, index-aligned with getRequiredSkills()
+     * (see {@link SkillRegistry}), recomputed after a dictionary reload. The array is cached
+     * and shared; callers must not modify it.
+     */
+    public int[] getRequiredSkillIds() {
+        SkillRegistry.CachedIds ids = requiredSkillIds;
+        if (ids == null || !ids.isCurrent()) {
+            ids = SkillRegistry.CachedIds.of(requiredSkills);
+            requiredSkillIds = ids;
+        }
+        return ids.getIds();
+    }
+
+    /**
+     * Canonical ids of the preferred skills, index-aligned with getPreferredSkills().
+     * The array is cached and shared; callers must not modify it.
+     */
+    public int[] getPreferredSkillIds() {
+        SkillRegistry.CachedIds ids = preferredSkillIds;
+        if (ids == null || !ids.isCurrent()) {
+            ids = SkillRegistry.CachedIds.of(preferredSkills);
+            preferredSkillIds = ids;
+        }
+        return ids.getIds();
+    }
+
     public List<String> getAllSkills() {
         List<String> allSkills = new ArrayList<>(requiredSkills);
         allSkills.addAll(preferredSkills);
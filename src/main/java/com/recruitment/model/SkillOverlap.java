@@ -0,0 +1,36 @@
+package com.recruitment.model;
+
+/**
+ * How many of a job's required and preferred skills a candidate has, as counted in SQL
+ * before the candidate is loaded
+ */
+public class SkillOverlap {
+    private final long candidateId;
+    private final int requiredMatched;
+    private final int preferredMatched;
+
+    public SkillOverlap(long candidateId, int requiredMatched, int preferredMatched) {
+        this.candidateId = candidateId;
+        this.requiredMatched = requiredMatched;
+        this.preferredMatched = preferredMatched;
+    }
+
+    // Getters
+    public long getCandidateId() {
+        return candidateId;
+    }
+
+    public int getRequiredMatched() {
+        return requiredMatched;
+    }
+
+    public int getPreferredMatched() {
+        return preferredMatched;
+    }
+
+    @Override
+    public String toString() {
+        return "SkillOverlap{candidateId=" + candidateId + ", required=" + requiredMatched
+                + ", preferred=" + preferredMatched + "}";
+    }
+}
@@ -11,7 +11,8 @@ import java.io.IOException;
 import java.util.List;
 
 /**
- * DOCX parser using Apache POI
+ * DOCX parser using Apache POI.
+ * Instances hold no mutable state and may be shared between threads.
  */
 public class DOCXParser {
     
@@ -88,6 +89,47 @@ public class DOCXParser {
         return tableText.toString();
     }
     
+    /**
+     * Extract leading paragraph text up to roughly maxChars characters, for a quick preview
+     */
+    public String extractPreviewText(File docxFile, int maxChars) throws IOException {
+        if (docxFile == null || !docxFile.exists()) {
+            throw new IllegalArgumentException("DOCX file does not exist");
+        }
+        
+        try (FileInputStream fis = new FileInputStream(docxFile);
+             XWPFDocument document = new XWPFDocument(fis)) {
+            
+            StringBuilder extractedText = new StringBuilder();
+            
+            for (XWPFParagraph paragraph : document.getParagraphs()) {
+                String paragraphText = paragraph.getText();
+                if (paragraphText != null && !paragraphText.trim().isEmpty()) {
+                    extractedText.append(paragraphText).append("\n");
+                }
+                if (extractedText.length() >= maxChars) {
+                    break;
+                }
+            }
+            
+            // Contact details are sometimes laid out in a header table
+            if (extractedText.length() < maxChars && !document.getTables().isEmpty()) {
+                extractedText.append(extractTableText(document.getTables().get(0)));
+            }
+            
+            String result = extractedText.toString();
+            
+            if (result.trim().isEmpty()) {
+                throw new IOException("No text content found in DOCX document");
+            }
+            
+            return cleanExtractedText(result);
+            
+        } catch (IOException e) {
+            throw new IOException("Failed to extract preview text from DOCX: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * Extract only paragraph text (excluding tables)
      */
@@ -253,21 +295,10 @@ public class DOCXParser {
             return "";
         }
         
-        // Remove excessive whitespace
-        text = text.replaceAll("\\r\\n", "\n");  // Normalize line endings
-        text = text.replaceAll("\\r", "\n");     // Handle old Mac line endings
-        text = text.replaceAll("[ \\t]+", " ");  // Replace multiple spaces/tabs with single space
-        text = text.replaceAll("\\n[ \\t]+", "\n"); // Remove leading whitespace on lines
-        text = text.replaceAll("[ \\t]+\\n", "\n"); // Remove trailing whitespace on lines
-        text = text.replaceAll("\\n{3,}", "\n\n"); // Replace multiple newlines with double newline
+        text = TextCleaner.normalizeWhitespace(text);
         
         // Remove common document artifacts
-        text = text.replaceAll("\\u00A0", " "); // Replace non-breaking spaces
-        text = text.replaceAll("\\u2022", "•"); // Normalize bullet points
-        text = text.replaceAll("\\u2013", "-"); // Replace en-dash with hyphen
-        text = text.replaceAll("\\u2014", "-"); // Replace em-dash with hyphen
-        text = text.replaceAll("\\u201C|\\u201D", "\""); // Replace smart quotes
-        text = text.replaceAll("\\u2018|\\u2019", "'"); // Replace smart apostrophes
+        text = TextCleaner.normalizePunctuation(text);
         
         return text.trim();
     }
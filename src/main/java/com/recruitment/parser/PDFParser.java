@@ -6,7 +6,11 @@ import java.io.File;
 import java.io.IOException;
 
 /**
- * PDF parser using Apache PDFBox
+ * PDF parser using Apache PDFBox.
+ * Instances hold no mutable state and may be shared between threads. Every extraction uses
+ * its own {@link PDFTextStripper}: one is not thread-safe and holds on to the last document,
+ * and building and configuring one costs under a microsecond against milliseconds of
+ * extraction per resume.
  */
 public class PDFParser {
     
@@ -27,21 +31,8 @@ public class PDFParser {
                 throw new IOException("PDF is encrypted and cannot be processed");
             }
             
-            PDFTextStripper textStripper = new PDFTextStripper();
-            
-            // Configure text stripper for better text extraction
-            textStripper.setSortByPosition(true);
-            textStripper.setLineSeparator("\n");
-            textStripper.setWordSeparator(" ");
-            textStripper.setArticleStart("");
-            textStripper.setArticleEnd("");
-            textStripper.setParagraphStart("");
-            textStripper.setParagraphEnd("");
-            textStripper.setPageStart("");
-            textStripper.setPageEnd("");
-            
             // Extract text from all pages
-            String extractedText = textStripper.getText(document);
+            String extractedText = getText(document, 1, Integer.MAX_VALUE);
             
             if (extractedText == null || extractedText.trim().isEmpty()) {
                 throw new IOException("No text content found in PDF");
@@ -77,12 +68,7 @@ public class PDFParser {
                                 startPage, endPage, totalPages));
             }
             
-            PDFTextStripper textStripper = new PDFTextStripper();
-            textStripper.setStartPage(startPage);
-            textStripper.setEndPage(endPage);
-            textStripper.setSortByPosition(true);
-            
-            String extractedText = textStripper.getText(document);
+            String extractedText = getText(document, startPage, endPage);
             
             return cleanExtractedText(extractedText);
             
@@ -92,6 +78,62 @@ public class PDFParser {
         }
     }
     
+    /**
+     * Extract text from the first page only, for a quick preview of the resume
+     */
+    public String extractPreviewText(File pdfFile) throws IOException {
+        if (pdfFile == null || !pdfFile.exists()) {
+            throw new IllegalArgumentException("PDF file does not exist");
+        }
+        
+        try (PDDocument document = PDDocument.load(pdfFile)) {
+            if (document.isEncrypted()) {
+                throw new IOException("PDF is encrypted and cannot be processed");
+            }
+            
+            String extractedText = getText(document, 1, 1);
+            
+            if (extractedText == null || extractedText.trim().isEmpty()) {
+                throw new IOException("No text content found on first page of PDF");
+            }
+            
+            return cleanExtractedText(extractedText);
+            
+        } catch (IOException e) {
+            throw new IOException("Failed to extract preview text from PDF: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Extract the text of a page range with a new text stripper
+     */
+    private static String getText(PDDocument document, int startPage, int endPage) throws IOException {
+        PDFTextStripper textStripper = createTextStripper();
+        textStripper.setStartPage(startPage);
+        textStripper.setEndPage(endPage);
+        return textStripper.getText(document);
+    }
+    
+    /**
+     * Create a text stripper configured for resume extraction
+     */
+    private static PDFTextStripper createTextStripper() throws IOException {
+        PDFTextStripper textStripper = new PDFTextStripper();
+        
+        // Configure text stripper for better text extraction
+        textStripper.setSortByPosition(true);
+        textStripper.setLineSeparator("\n");
+        textStripper.setWordSeparator(" ");
+        textStripper.setArticleStart("");
+        textStripper.setArticleEnd("");
+        textStripper.setParagraphStart("");
+        textStripper.setParagraphEnd("");
+        textStripper.setPageStart("");
+        textStripper.setPageEnd("");
+        
+        return textStripper;
+    }
+    
     /**
      * Get number of pages in PDF
      */
@@ -130,22 +172,11 @@ public class PDFParser {
             return "";
         }
         
-        // Remove excessive whitespace
-        text = text.replaceAll("\\r\\n", "\n");  // Normalize line endings
-        text = text.replaceAll("\\r", "\n");     // Handle old Mac line endings
-        text = text.replaceAll("[ \\t]+", " ");  // Replace multiple spaces/tabs with single space
-        text = text.replaceAll("\\n[ \\t]+", "\n"); // Remove leading whitespace on lines
-        text = text.replaceAll("[ \\t]+\\n", "\n"); // Remove trailing whitespace on lines
-        text = text.replaceAll("\\n{3,}", "\n\n"); // Replace multiple newlines with double newline
+        text = TextCleaner.normalizeWhitespace(text);
         
         // Remove common PDF artifacts
-        text = text.replaceAll("\\f", ""); // Remove form feed characters
-        text = text.replaceAll("\\u00A0", " "); // Replace non-breaking spaces
-        text = text.replaceAll("\\u2022", "•"); // Normalize bullet points
-        text = text.replaceAll("\\u2013", "-"); // Replace en-dash with hyphen
-        text = text.replaceAll("\\u2014", "-"); // Replace em-dash with hyphen
-        text = text.replaceAll("\\u201C|\\u201D", "\""); // Replace smart quotes
-        text = text.replaceAll("\\u2018|\\u2019", "'"); // Replace smart apostrophes
+        text = TextCleaner.removeFormFeeds(text);
+        text = TextCleaner.normalizePunctuation(text);
         
         return text.trim();
     }
@@ -2,6 +2,7 @@ package com.recruitment.parser;
 
 import com.recruitment.model.Candidate;
 import com.recruitment.util.RegexUtils;
+import com.recruitment.util.SkillDictionary;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -11,23 +12,42 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Main resume parser that delegates to specific format parsers
+ * Main resume parser that delegates to specific format parsers.
+ * The parser is thread-safe: it holds no per-parse state and every regular
+ * expression is compiled once, so a single instance can serve concurrent uploads.
  */
 public class ResumeParser {
     private final PDFParser pdfParser;
     private final DOCXParser docxParser;
     private final TextParser textParser;
     
-    // Common skill keywords to look for in resumes
-    private static final List<String> COMMON_SKILLS = Arrays.asList(
-        "Java", "Python", "JavaScript", "C++", "C#", "PHP", "Ruby", "Go", "Kotlin", "Swift",
-        "React", "Angular", "Vue", "Node.js", "Express", "Spring", "Django", "Flask", "Laravel",
-        "HTML", "CSS", "Bootstrap", "Tailwind", "SASS", "LESS",
-        "MySQL", "PostgreSQL", "MongoDB", "Redis", "SQLite", "Oracle", "SQL Server",
-        "AWS", "Azure", "GCP", "Docker", "Kubernetes", "Jenkins", "Git", "Linux", "Windows",
-        "Machine Learning", "AI", "Data Science", "TensorFlow", "PyTorch", "Pandas", "NumPy",
-        "Agile", "Scrum", "DevOps", "CI/CD", "REST", "GraphQL", "Microservices", "API"
+    // Amount of DOCX/TXT content read by the preview phase
+    private static final int PREVIEW_MAX_BYTES = 8 * 1024;
+    
+    private static final Pattern NAME_PREFIX_PATTERN = Pattern.compile("(?i)^(mr\\.?|mrs\\.?|ms\\.?|dr\\.?|prof\\.?)\\s+");
+    private static final Pattern NAME_SUFFIX_PATTERN = Pattern.compile("(?i)\\s+(jr\\.?|sr\\.?|ii|iii|iv)$");
+    private static final Pattern NAME_WORD_PATTERN = Pattern.compile("[A-Z][a-z]+");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern EMAIL_SEPARATOR_PATTERN = Pattern.compile("[._-]");
+    
+    private static final Pattern EXPERIENCE_PATTERN = Pattern.compile(
+        "(?i)(\\d+)\\s*(?:\\+)?\\s*years?\\s*(?:of\\s*)?(?:experience|exp)",
+        Pattern.CASE_INSENSITIVE
+    );
+    
+    private static final Pattern DATE_RANGE_PATTERN = Pattern.compile(
+        "(?i)(\\d{4})\\s*[-–—]\\s*(\\d{4}|present|current)",
+        Pattern.CASE_INSENSITIVE
     );
+    
+    private static final Pattern SKILLS_SECTION_PATTERN = Pattern.compile(
+        "(?i)(?:technical\\s+)?skills?\\s*:?\\s*([^\n]*(?:\n[^\n]*)*?)(?=\n\\s*[A-Z][^:\n]*:|$)",
+        Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
+    );
+    private static final Pattern SKILL_DELIMITER_PATTERN = Pattern.compile("[,;|•\\n]");
+    private static final Pattern SKILL_BULLET_PATTERN = Pattern.compile("^[-•*]\\s*");
+    private static final Pattern VALID_SKILL_PATTERN = Pattern.compile("^[a-zA-Z0-9\\s\\.\\+\\#\\-]+$");
+    private static final Pattern STOP_WORD_PATTERN = Pattern.compile(".*\\b(and|or|the|with|in|of|for|to|at)\\b.*");
 
     public ResumeParser() {
         this.pdfParser = new PDFParser();
@@ -39,25 +59,94 @@ public class ResumeParser {
      * Parse resume from file and extract candidate information
      */
     public Candidate parseResume(File file) throws IOException {
+        return parseResumeText(extractText(file));
+    }
+
+    /**
+     * Fast first phase of a two-phase parse: reads only the first page (PDF) or the
+     * first few KB (DOCX, TXT) and extracts name, email and phone. The returned
+     * candidate is marked partial; finish it with {@link #completeParse(Candidate, File)}.
+     */
+    public Candidate parsePreview(File file) throws IOException {
+        String previewText = extractPreviewText(file);
+
+        Candidate candidate = new Candidate();
+        extractName(candidate, previewText);
+        extractEmail(candidate, previewText);
+        extractPhone(candidate, previewText);
+        candidate.setParseStatus(Candidate.PARSE_STATUS_PARTIAL);
+
+        return candidate;
+    }
+
+    /**
+     * Second phase of a two-phase parse: extracts the full text and fills in
+     * experience, education and skills. Contact details found by the preview are kept.
+     */
+    public void completeParse(Candidate candidate, File file) throws IOException {
+        if (candidate == null) {
+            throw new IllegalArgumentException("Candidate cannot be null");
+        }
+
+        Candidate parsed = parseResume(file);
+
+        if (candidate.getName() == null || candidate.getName().isEmpty()) {
+            candidate.setName(parsed.getName());
+        }
+        if (candidate.getEmail() == null) {
+            candidate.setEmail(parsed.getEmail());
+        }
+        if (candidate.getPhone() == null) {
+            candidate.setPhone(parsed.getPhone());
+        }
+        candidate.setResumeText(parsed.getResumeText());
+        candidate.setEducation(parsed.getEducation());
+        candidate.setExperienceYears(parsed.getExperienceYears());
+        candidate.setExtractedSkills(parsed.getSkills());
+        candidate.setParseStatus(Candidate.PARSE_STATUS_COMPLETE);
+    }
+
+    /**
+     * Extract the full text of a resume file
+     */
+    private String extractText(File file) throws IOException {
         if (file == null || !file.exists()) {
             throw new IllegalArgumentException("File does not exist");
         }
 
         String fileName = file.getName().toLowerCase();
-        String resumeText;
 
         // Determine file type and parse accordingly
         if (fileName.endsWith(".pdf")) {
-            resumeText = pdfParser.extractText(file);
+            return pdfParser.extractText(file);
         } else if (fileName.endsWith(".docx")) {
-            resumeText = docxParser.extractText(file);
+            return docxParser.extractText(file);
         } else if (fileName.endsWith(".txt")) {
-            resumeText = textParser.extractText(file);
+            return textParser.extractText(file);
         } else {
             throw new IllegalArgumentException("Unsupported file format. Supported formats: PDF, DOCX, TXT");
         }
+    }
+
+    /**
+     * Extract the leading part of a resume file for the preview phase
+     */
+    private String extractPreviewText(File file) throws IOException {
+        if (file == null || !file.exists()) {
+            throw new IllegalArgumentException("File does not exist");
+        }
+
+        String fileName = file.getName().toLowerCase();
 
-        return parseResumeText(resumeText);
+        if (fileName.endsWith(".pdf")) {
+            return pdfParser.extractPreviewText(file);
+        } else if (fileName.endsWith(".docx")) {
+            return docxParser.extractPreviewText(file, PREVIEW_MAX_BYTES);
+        } else if (fileName.endsWith(".txt")) {
+            return textParser.extractPreviewText(file, PREVIEW_MAX_BYTES);
+        } else {
+            throw new IllegalArgumentException("Unsupported file format. Supported formats: PDF, DOCX, TXT");
+        }
     }
 
     /**
@@ -71,13 +160,16 @@ public class ResumeParser {
         Candidate candidate = new Candidate();
         candidate.setResumeText(resumeText);
 
+        // Use one dictionary snapshot for the whole resume, even if it is reloaded meanwhile
+        SkillDictionary dictionary = SkillDictionary.current();
+
         // Extract basic information
         extractName(candidate, resumeText);
         extractEmail(candidate, resumeText);
         extractPhone(candidate, resumeText);
-        extractEducation(candidate, resumeText);
+        extractEducation(candidate, resumeText, dictionary);
         extractExperience(candidate, resumeText);
-        extractSkills(candidate, resumeText);
+        extractSkills(candidate, resumeText, dictionary);
 
         return candidate;
     }
@@ -120,10 +212,10 @@ public class ResumeParser {
      */
     private boolean isLikelyName(String line) {
         // Remove common prefixes and suffixes
-        line = line.replaceAll("(?i)^(mr\\.?|mrs\\.?|ms\\.?|dr\\.?|prof\\.?)\\s+", "");
-        line = line.replaceAll("(?i)\\s+(jr\\.?|sr\\.?|ii|iii|iv)$", "");
+        line = NAME_PREFIX_PATTERN.matcher(line).replaceAll("");
+        line = NAME_SUFFIX_PATTERN.matcher(line).replaceAll("");
         
-        String[] words = line.split("\\s+");
+        String[] words = WHITESPACE_PATTERN.split(line);
         
         // Name should have 2-4 words
         if (words.length < 2 || words.length > 4) {
@@ -132,7 +224,7 @@ public class ResumeParser {
         
         // Each word should be mostly alphabetic and capitalized
         for (String word : words) {
-            if (!word.matches("[A-Z][a-z]+") || word.length() < 2) {
+            if (!NAME_WORD_PATTERN.matcher(word).matches() || word.length() < 2) {
                 return false;
             }
         }
@@ -147,10 +239,10 @@ public class ResumeParser {
         String localPart = email.split("@")[0];
         
         // Replace common separators with spaces
-        localPart = localPart.replaceAll("[._-]", " ");
+        localPart = EMAIL_SEPARATOR_PATTERN.matcher(localPart).replaceAll(" ");
         
         // Capitalize each word
-        String[] words = localPart.split("\\s+");
+        String[] words = WHITESPACE_PATTERN.split(localPart);
         StringBuilder name = new StringBuilder();
         
         for (String word : words) {
@@ -183,24 +275,16 @@ public class ResumeParser {
     /**
      * Extract education information from resume text
      */
-    private void extractEducation(Candidate candidate, String text) {
-        List<String> educationKeywords = Arrays.asList(
-            "bachelor", "master", "phd", "doctorate", "degree", "university", "college",
-            "b.s.", "b.a.", "m.s.", "m.a.", "m.b.a.", "ph.d.", "b.tech", "m.tech"
-        );
-        
+    private void extractEducation(Candidate candidate, String text, SkillDictionary dictionary) {
         String[] lines = text.toLowerCase().split("\n");
         StringBuilder education = new StringBuilder();
         
         for (String line : lines) {
-            for (String keyword : educationKeywords) {
-                if (line.contains(keyword)) {
-                    // Clean up the line and add to education
-                    String cleanLine = line.trim().replaceAll("\\s+", " ");
-                    if (cleanLine.length() > 10 && cleanLine.length() < 200) {
-                        education.append(cleanLine).append("; ");
-                        break;
-                    }
+            if (dictionary.containsEducationKeyword(line)) {
+                // Clean up the line and add to education
+                String cleanLine = WHITESPACE_PATTERN.matcher(line.trim()).replaceAll(" ");
+                if (cleanLine.length() > 10 && cleanLine.length() < 200) {
+                    education.append(cleanLine).append("; ");
                 }
             }
         }
@@ -215,12 +299,7 @@ public class ResumeParser {
      */
     private void extractExperience(Candidate candidate, String text) {
         // Look for experience patterns
-        Pattern experiencePattern = Pattern.compile(
-            "(?i)(\\d+)\\s*(?:\\+)?\\s*years?\\s*(?:of\\s*)?(?:experience|exp)",
-            Pattern.CASE_INSENSITIVE
-        );
-        
-        Matcher matcher = experiencePattern.matcher(text);
+        Matcher matcher = EXPERIENCE_PATTERN.matcher(text);
         int maxExperience = 0;
         
         while (matcher.find()) {
@@ -233,12 +312,7 @@ public class ResumeParser {
         }
         
         // Also look for date ranges to estimate experience
-        Pattern dateRangePattern = Pattern.compile(
-            "(?i)(\\d{4})\\s*[-–—]\\s*(\\d{4}|present|current)",
-            Pattern.CASE_INSENSITIVE
-        );
-        
-        matcher = dateRangePattern.matcher(text);
+        matcher = DATE_RANGE_PATTERN.matcher(text);
         int estimatedExperience = 0;
         
         while (matcher.find()) {
@@ -260,30 +334,15 @@ public class ResumeParser {
     /**
      * Extract skills from resume text
      */
-    private void extractSkills(Candidate candidate, String text) {
-        List<String> foundSkills = new ArrayList<>();
-        String lowerText = text.toLowerCase();
-        
-        // Look for common skills
-        for (String skill : COMMON_SKILLS) {
-            if (containsSkill(lowerText, skill.toLowerCase())) {
-                foundSkills.add(skill);
-            }
-        }
+    private void extractSkills(Candidate candidate, String text, SkillDictionary dictionary) {
+        // Look for dictionary skills (single pass over the text, whatever the dictionary size)
+        List<String> foundSkills = new ArrayList<>(dictionary.findSkills(text));
         
         // Look for skills in dedicated sections
         extractSkillsFromSection(text, foundSkills);
         
-        candidate.setSkills(foundSkills);
-    }
-
-    /**
-     * Check if text contains a specific skill
-     */
-    private boolean containsSkill(String text, String skill) {
-        // Create pattern that matches skill as whole word
-        String pattern = "\\b" + Pattern.quote(skill) + "\\b";
-        return Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(text).find();
+        // Store canonical names only, so aliases collapse into one skill id downstream
+        candidate.setExtractedSkills(dictionary.canonicalize(foundSkills));
     }
 
     /**
@@ -291,21 +350,16 @@ public class ResumeParser {
      */
     private void extractSkillsFromSection(String text, List<String> foundSkills) {
         // Look for skills section
-        Pattern skillsSectionPattern = Pattern.compile(
-            "(?i)(?:technical\\s+)?skills?\\s*:?\\s*([^\n]*(?:\n[^\n]*)*?)(?=\n\\s*[A-Z][^:\n]*:|$)",
-            Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
-        );
-        
-        Matcher matcher = skillsSectionPattern.matcher(text);
+        Matcher matcher = SKILLS_SECTION_PATTERN.matcher(text);
         
         while (matcher.find()) {
             String skillsSection = matcher.group(1);
             
             // Split by common delimiters
-            String[] skills = skillsSection.split("[,;|•\\n]");
+            String[] skills = SKILL_DELIMITER_PATTERN.split(skillsSection);
             
             for (String skill : skills) {
-                skill = skill.trim().replaceAll("^[-•*]\\s*", "");
+                skill = SKILL_BULLET_PATTERN.matcher(skill.trim()).replaceAll("");
                 
                 if (skill.length() > 2 && skill.length() < 50 && 
                     !foundSkills.contains(skill) && isValidSkill(skill)) {
@@ -320,8 +374,8 @@ public class ResumeParser {
      */
     private boolean isValidSkill(String skill) {
         // Basic validation for skills
-        return skill.matches("^[a-zA-Z0-9\\s\\.\\+\\#\\-]+$") && 
-               !skill.toLowerCase().matches(".*\\b(and|or|the|with|in|of|for|to|at)\\b.*");
+        return VALID_SKILL_PATTERN.matcher(skill).matches() && 
+               !STOP_WORD_PATTERN.matcher(skill.toLowerCase()).matches();
     }
 
     /**
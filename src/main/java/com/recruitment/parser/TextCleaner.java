@@ -0,0 +1,69 @@
+package com.recruitment.parser;
+
+import java.util.regex.Pattern;
+
+/**
+ * Shared text clean-up used by the format parsers.
+ * Patterns are compiled once; compiled patterns are immutable and safe to use from any thread.
+ */
+final class TextCleaner {
+
+    private static final Pattern CRLF = Pattern.compile("\\r\\n");
+    private static final Pattern CR = Pattern.compile("\\r");
+    private static final Pattern SPACES = Pattern.compile("[ \\t]+");
+    private static final Pattern LEADING_SPACES = Pattern.compile("\\n[ \\t]+");
+    private static final Pattern TRAILING_SPACES = Pattern.compile("[ \\t]+\\n");
+    private static final Pattern EXTRA_NEWLINES = Pattern.compile("\\n{3,}");
+
+    private static final Pattern FORM_FEED = Pattern.compile("\\f");
+    private static final Pattern NBSP = Pattern.compile("\\u00A0");
+    private static final Pattern BULLET = Pattern.compile("\\u2022");
+    private static final Pattern EN_DASH = Pattern.compile("\\u2013");
+    private static final Pattern EM_DASH = Pattern.compile("\\u2014");
+    private static final Pattern SMART_QUOTES = Pattern.compile("\\u201C|\\u201D");
+    private static final Pattern SMART_APOSTROPHES = Pattern.compile("\\u2018|\\u2019");
+    private static final Pattern CONTROL_CHARS = Pattern.compile("[\\x00-\\x08\\x0B\\x0C\\x0E-\\x1F\\x7F]");
+
+    private TextCleaner() {
+    }
+
+    /**
+     * Normalize line endings and collapse redundant whitespace
+     */
+    static String normalizeWhitespace(String text) {
+        text = CRLF.matcher(text).replaceAll("\n");            // Normalize line endings
+        text = CR.matcher(text).replaceAll("\n");              // Handle old Mac line endings
+        text = SPACES.matcher(text).replaceAll(" ");           // Replace multiple spaces/tabs with single space
+        text = LEADING_SPACES.matcher(text).replaceAll("\n");  // Remove leading whitespace on lines
+        text = TRAILING_SPACES.matcher(text).replaceAll("\n"); // Remove trailing whitespace on lines
+        text = EXTRA_NEWLINES.matcher(text).replaceAll("\n\n"); // Replace multiple newlines with double newline
+        return text;
+    }
+
+    /**
+     * Remove form feed characters left between PDF pages
+     */
+    static String removeFormFeeds(String text) {
+        return FORM_FEED.matcher(text).replaceAll("");
+    }
+
+    /**
+     * Replace typographic characters with their plain equivalents
+     */
+    static String normalizePunctuation(String text) {
+        text = NBSP.matcher(text).replaceAll(" ");              // Replace non-breaking spaces
+        text = BULLET.matcher(text).replaceAll("•");            // Normalize bullet points
+        text = EN_DASH.matcher(text).replaceAll("-");           // Replace en-dash with hyphen
+        text = EM_DASH.matcher(text).replaceAll("-");           // Replace em-dash with hyphen
+        text = SMART_QUOTES.matcher(text).replaceAll("\"");     // Replace smart quotes
+        text = SMART_APOSTROPHES.matcher(text).replaceAll("'"); // Replace smart apostrophes
+        return text;
+    }
+
+    /**
+     * Remove control characters except newlines and tabs
+     */
+    static String removeControlCharacters(String text) {
+        return CONTROL_CHARS.matcher(text).replaceAll("");
+    }
+}
@@ -2,12 +2,14 @@ package com.recruitment.parser;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
- * Plain text file parser
+ * Plain text file parser.
+ * Instances hold no mutable state and may be shared between threads.
  */
 public class TextParser {
     
@@ -56,6 +58,35 @@ public class TextParser {
         }
     }
     
+    /**
+     * Extract text from the first maxBytes bytes of the file, for a quick preview
+     */
+    public String extractPreviewText(File textFile, int maxBytes) throws IOException {
+        if (textFile == null || !textFile.exists()) {
+            throw new IllegalArgumentException("Text file does not exist");
+        }
+        
+        try (InputStream inputStream = Files.newInputStream(textFile.toPath())) {
+            byte[] bytes = inputStream.readNBytes(maxBytes);
+            
+            if (bytes.length == 0) {
+                throw new IOException("Text file is empty");
+            }
+            
+            // A multi-byte character cut at the boundary decodes to a replacement character
+            String content = new String(bytes, StandardCharsets.UTF_8);
+            
+            if (content.trim().isEmpty()) {
+                throw new IOException("Text file contains no readable content");
+            }
+            
+            return cleanExtractedText(content);
+            
+        } catch (IOException e) {
+            throw new IOException("Failed to read text file preview: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * Extract text with specific encoding
      */
@@ -176,24 +207,13 @@ public class TextParser {
             return "";
         }
         
-        // Remove excessive whitespace
-        text = text.replaceAll("\\r\\n", "\n");  // Normalize line endings
-        text = text.replaceAll("\\r", "\n");     // Handle old Mac line endings
-        text = text.replaceAll("[ \\t]+", " ");  // Replace multiple spaces/tabs with single space
-        text = text.replaceAll("\\n[ \\t]+", "\n"); // Remove leading whitespace on lines
-        text = text.replaceAll("[ \\t]+\\n", "\n"); // Remove trailing whitespace on lines
-        text = text.replaceAll("\\n{3,}", "\n\n"); // Replace multiple newlines with double newline
+        text = TextCleaner.normalizeWhitespace(text);
         
         // Remove common text artifacts
-        text = text.replaceAll("\\u00A0", " "); // Replace non-breaking spaces
-        text = text.replaceAll("\\u2022", "•"); // Normalize bullet points
-        text = text.replaceAll("\\u2013", "-"); // Replace en-dash with hyphen
-        text = text.replaceAll("\\u2014", "-"); // Replace em-dash with hyphen
-        text = text.replaceAll("\\u201C|\\u201D", "\""); // Replace smart quotes
-        text = text.replaceAll("\\u2018|\\u2019", "'"); // Replace smart apostrophes
+        text = TextCleaner.normalizePunctuation(text);
         
         // Remove control characters except newlines and tabs
-        text = text.replaceAll("[\\x00-\\x08\\x0B\\x0C\\x0E-\\x1F\\x7F]", "");
+        text = TextCleaner.removeControlCharacters(text);
         
         return text.trim();
     }
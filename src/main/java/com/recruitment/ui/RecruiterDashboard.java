@@ -1,15 +1,21 @@
 package com.recruitment.ui;
 
 import com.recruitment.database.CandidateDAO;
+import com.recruitment.database.CandidateFetchPlan;
+import com.recruitment.database.CandidateListQuery;
 import com.recruitment.database.JobPostingDAO;
+import com.recruitment.database.MatchResultDAO;
+import com.recruitment.engine.MatchService;
 import com.recruitment.engine.MatchingEngine;
 import com.recruitment.model.Candidate;
+import com.recruitment.model.CandidateSummary;
 import com.recruitment.model.JobPosting;
 import com.recruitment.model.MatchResult;
 import com.recruitment.parser.ResumeParser;
 import com.recruitment.util.ExcelExporter;
 
 import javax.swing.*;
+import javax.swing.Timer;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableModel;
@@ -18,6 +24,7 @@ import java.awt.event.*;
 import java.io.File;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Swing-based Recruiter Dashboard
@@ -27,11 +34,17 @@ public class RecruiterDashboard extends JFrame {
     private CandidateDAO candidateDAO;
     private JobPostingDAO jobPostingDAO;
     private MatchingEngine matchingEngine;
+    private MatchService matchService;
     private ResumeParser resumeParser;
 
     // Tables and models
     private JTable candidatesTable;
     private DefaultTableModel candidatesModel;
+    private JButton loadMoreCandidatesBtn;
+    private CandidateSummary lastLoadedCandidate; // Keyset cursor for the next page
+    private Timer candidateSearchTimer; // Reloads the table once typing pauses
+    private int candidateLoadCount; // Bumped by every reload, so an outdated search result is dropped
+    private static final int CANDIDATE_PAGE_SIZE = 100;
 
     private JTable jobsTable;
     private DefaultTableModel jobsModel;
@@ -52,6 +65,7 @@ public class RecruiterDashboard extends JFrame {
         candidateDAO = new CandidateDAO();
         jobPostingDAO = new JobPostingDAO();
         matchingEngine = new MatchingEngine();
+        matchService = new MatchService(matchingEngine, candidateDAO, new MatchResultDAO());
         resumeParser = new ResumeParser();
 
         initUI();
@@ -123,10 +137,12 @@ public class RecruiterDashboard extends JFrame {
 
         candidateSearchField = new JTextField(20);
         candidateSearchField.setToolTipText("Search candidates...");
+        candidateSearchTimer = new Timer(300, e -> loadCandidates());
+        candidateSearchTimer.setRepeats(false);
         candidateSearchField.getDocument().addDocumentListener(new DocumentListener() {
-            public void changedUpdate(DocumentEvent e) { searchCandidates(); }
-            public void removeUpdate(DocumentEvent e) { searchCandidates(); }
-            public void insertUpdate(DocumentEvent e) { searchCandidates(); }
+            public void changedUpdate(DocumentEvent e) { candidateSearchTimer.restart(); }
+            public void removeUpdate(DocumentEvent e) { candidateSearchTimer.restart(); }
+            public void insertUpdate(DocumentEvent e) { candidateSearchTimer.restart(); }
         });
 
         toolbar.add(uploadResumeBtn);
@@ -140,7 +156,7 @@ public class RecruiterDashboard extends JFrame {
         panel.add(toolbar, BorderLayout.NORTH);
 
         // Table
-        String[] columns = {"ID", "Name", "Email", "Phone", "Experience", "Skills"};
+        String[] columns = {"ID", "Name", "Email", "Phone", "Experience", "Skills", "Status"};
         candidatesModel = new DefaultTableModel(columns, 0) {
             public boolean isCellEditable(int row, int column) { return false; }
         };
@@ -155,6 +171,13 @@ public class RecruiterDashboard extends JFrame {
         });
         panel.add(new JScrollPane(candidatesTable), BorderLayout.CENTER);
 
+        // Further pages are loaded on demand
+        JPanel footer = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        loadMoreCandidatesBtn = new JButton("Load More");
+        loadMoreCandidatesBtn.addActionListener(e -> loadMoreCandidates());
+        footer.add(loadMoreCandidatesBtn);
+        panel.add(footer, BorderLayout.SOUTH);
+
         return panel;
     }
 
@@ -242,20 +265,44 @@ public class RecruiterDashboard extends JFrame {
         statusLabel.setText("Data loaded successfully");
     }
 
+    /**
+     * Reload the candidates table: the first page of the listing, or the search results
+     * while the search field has text
+     */
     private void loadCandidates() {
+        candidateLoadCount++;
+        candidatesModel.setRowCount(0);
+        lastLoadedCandidate = null;
+        String searchTerm = candidateSearchField.getText().trim();
+        if (searchTerm.isEmpty()) {
+            loadMoreCandidates();
+        } else {
+            searchCandidates(searchTerm);
+        }
+    }
+
+    /**
+     * Append the next page of the candidate listing to the table
+     */
+    private void loadMoreCandidates() {
         try {
-            List<Candidate> candidates = candidateDAO.findAll();
-            candidatesModel.setRowCount(0);
-            for (Candidate c : candidates) {
+            CandidateListQuery query = CandidateListQuery.newestFirst(CANDIDATE_PAGE_SIZE);
+            List<CandidateSummary> page = candidateDAO.findPage(query, lastLoadedCandidate);
+            for (CandidateSummary c : page) {
                 candidatesModel.addRow(new Object[]{
                         c.getId(),
                         c.getName(),
                         c.getEmail(),
                         c.getPhone(),
                         c.getExperienceYears() + " years",
-                        String.join(", ", c.getSkills())
+                        String.join(", ", c.getSkills()),
+                        c.getParseStatus()
                 });
             }
+            if (!page.isEmpty()) {
+                lastLoadedCandidate = page.get(page.size() - 1);
+            }
+            loadMoreCandidatesBtn.setEnabled(page.size() == CANDIDATE_PAGE_SIZE);
         } catch (SQLException e) {
             showError("Database Error", "Failed to load candidates: " + e.getMessage());
         }
@@ -299,19 +346,80 @@ public class RecruiterDashboard extends JFrame {
         int result = fileChooser.showOpenDialog(this);
         if (result == JFileChooser.APPROVE_OPTION) {
             File file = fileChooser.getSelectedFile();
-            try {
-                Candidate candidate = resumeParser.parseResume(file);
-                if (candidate != null) {
-                    candidateDAO.save(candidate);
-                    loadCandidates();
-                    statusLabel.setText("Resume uploaded and parsed: " + candidate.getName());
+            statusLabel.setText("Reading resume: " + file.getName());
+            new SwingWorker<Candidate, Void>() {
+                // Phase 1: contact details only, so the candidate shows up right away
+                @Override
+                protected Candidate doInBackground() throws Exception {
+                    Candidate candidate = resumeParser.parsePreview(file);
+                    if (candidate != null) {
+                        candidateDAO.save(candidate);
+                    }
+                    return candidate;
                 }
-            } catch (Exception e) {
-                showError("Parse Error", "Failed to parse resume: " + e.getMessage());
-            }
+
+                @Override
+                protected void done() {
+                    try {
+                        Candidate candidate = get();
+                        if (candidate != null) {
+                            loadCandidates();
+                            statusLabel.setText("Resume uploaded: " + candidate.getName() + " (extracting details...)");
+                            completeParseInBackground(candidate.getId(), file);
+                        }
+                    } catch (Exception e) {
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        showError("Parse Error", "Failed to parse resume: " + cause.getMessage());
+                    }
+                }
+            }.execute();
         }
     }
 
+    /**
+     * Phase 2 of resume upload: full extraction off the Event Dispatch Thread, then update
+     * the saved candidate row. The worker parses into its own copy of the row, so nothing
+     * the table or a dialog holds is changed off the EDT; a failed parse marks the row failed
+     * instead of leaving it partial.
+     */
+    private void completeParseInBackground(Long candidateId, File file) {
+        new SwingWorker<Candidate, Void>() {
+            @Override
+            protected Candidate doInBackground() throws Exception {
+                try {
+                    Candidate candidate = candidateDAO.findById(candidateId);
+                    if (candidate == null) {
+                        return null; // Deleted meanwhile
+                    }
+                    resumeParser.completeParse(candidate, file);
+                    candidateDAO.update(candidate);
+                    return candidate;
+                } catch (Exception e) {
+                    try {
+                        candidateDAO.updateParseStatus(candidateId, Candidate.PARSE_STATUS_FAILED);
+                    } catch (SQLException statusError) {
+                        e.addSuppressed(statusError);
+                    }
+                    throw e;
+                }
+            }
+
+            @Override
+            protected void done() {
+                loadCandidates();
+                try {
+                    Candidate candidate = get();
+                    if (candidate != null) {
+                        statusLabel.setText("Resume uploaded and parsed: " + candidate.getName());
+                    }
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    showError("Parse Error", "Failed to finish parsing resume: " + cause.getMessage());
+                }
+            }
+        }.execute();
+    }
+
     private void showAddCandidateDialog() {
         JOptionPane.showMessageDialog(this, "Add Candidate dialog (to implement)");
     }
@@ -341,24 +449,52 @@ public class RecruiterDashboard extends JFrame {
         }
     }
 
-    private void searchCandidates() {
-        String query = candidateSearchField.getText().trim().toLowerCase();
-        for (int i = 0; i < candidatesModel.getRowCount(); i++) {
-            boolean match = false;
-            for (int j = 1; j < candidatesModel.getColumnCount(); j++) {
-                String value = candidatesModel.getValueAt(i, j).toString().toLowerCase();
-                if (value.contains(query)) {
-                    match = true;
-                    break;
+    /**
+     * Search all stored candidates through {@link CandidateDAO#search} (the full-text or
+     * in-memory search index) off the Event Dispatch Thread, showing the most relevant first
+     */
+    private void searchCandidates(String searchTerm) {
+        int loadCount = candidateLoadCount;
+        loadMoreCandidatesBtn.setEnabled(false);
+        statusLabel.setText("Searching candidates...");
+        new SwingWorker<List<Candidate>, Void>() {
+            @Override
+            protected List<Candidate> doInBackground() throws Exception {
+                return candidateDAO.search(searchTerm, CANDIDATE_PAGE_SIZE);
+            }
+
+            @Override
+            protected void done() {
+                if (loadCount != candidateLoadCount) {
+                    return; // The table was reloaded meanwhile
+                }
+                try {
+                    List<Candidate> found = get();
+                    for (Candidate c : found) {
+                        candidatesModel.addRow(new Object[]{
+                                c.getId(),
+                                c.getName(),
+                                c.getEmail(),
+                                c.getPhone(),
+                                c.getExperienceYears() + " years",
+                                String.join(", ", c.getSkills()),
+                                c.getParseStatus()
+                        });
+                    }
+                    statusLabel.setText(found.size() + " candidates found");
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    showError("Database Error", "Failed to search candidates: " + cause.getMessage());
                 }
             }
-            candidatesTable.setRowHeight(i, match ? 25 : 0);
-        }
+        }.execute();
     }
 
     private void exportCandidates() {
         try {
-            ExcelExporter.exportCandidates(candidateDAO.findAll(), new File("exports/candidates.xlsx"));
+            try (Stream<Candidate> candidates = candidateDAO.stream(CandidateFetchPlan.SKILLS)) {
+                ExcelExporter.exportCandidates(candidates, new File("exports/candidates.xlsx"));
+            }
             statusLabel.setText("Candidates exported to Excel");
         } catch (Exception e) {
             showError("Export Error", "Failed to export candidates: " + e.getMessage());
@@ -420,8 +556,7 @@ public class RecruiterDashboard extends JFrame {
             return;
         }
         try {
-            List<Candidate> allCandidates = candidateDAO.findAll();
-            List<MatchResult> results = matchingEngine.findBestMatches(job, allCandidates, 10);
+            List<MatchResult> results = matchService.findBestMatches(job, 10);
             matchResultsModel.setRowCount(0);
             for (MatchResult r : results) {
                 matchResultsModel.addRow(new Object[]{
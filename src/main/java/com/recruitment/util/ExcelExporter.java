@@ -3,13 +3,17 @@ package com.recruitment.util;
 import com.recruitment.model.Candidate;
 import com.recruitment.model.JobPosting;
 import com.recruitment.model.MatchResult;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Utility class for exporting data to Excel files using Apache POI
@@ -18,6 +22,24 @@ public class ExcelExporter {
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    // Rows kept in memory while streaming a sheet; older rows are flushed to a temp file
+    private static final int STREAMING_ROW_WINDOW = 200;
+    
+    // Last row index a sheet can hold; a streamed export continues on a new sheet after it
+    private static final int MAX_ROW_INDEX = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+    
+    private static final String[] CANDIDATE_HEADERS = {"ID", "Name", "Email", "Phone", "Education",
+            "Experience (Years)", "Skills", "Created At", "Updated At"};
+    // Column widths in characters, fixed so streamed rows need not be measured
+    private static final int[] CANDIDATE_COLUMN_WIDTHS = {10, 25, 32, 16, 30, 18, 50, 20, 20};
+    
+    private static final String[] JOB_REPORT_HEADERS = {"Job ID", "Job Title", "Rank", "Candidate ID",
+            "Candidate Name", "Candidate Email", "Match Score (%)", "Match Grade"};
+    private static final int[] JOB_REPORT_COLUMN_WIDTHS = {10, 30, 8, 12, 25, 32, 16, 14};
+    private static final String[] CANDIDATE_REPORT_HEADERS = {"Candidate ID", "Candidate Name", "Rank", "Job ID",
+            "Job Title", "Location", "Match Score (%)", "Match Grade"};
+    private static final int[] CANDIDATE_REPORT_COLUMN_WIDTHS = {12, 25, 8, 10, 30, 20, 16, 14};
+    
     /**
      * Export candidates to Excel file
      */
@@ -25,29 +47,39 @@ public class ExcelExporter {
         if (candidates == null || outputFile == null) {
             throw new IllegalArgumentException("Candidates list and output file cannot be null");
         }
+        exportCandidates(candidates.stream(), outputFile);
+    }
+    
+    /**
+     * Export a stream of candidates (e.g. {@code CandidateDAO.stream}) to Excel file in constant
+     * memory: only a window of rows is kept, the rest is flushed to disk as it is written.
+     * Candidates beyond the row limit of a sheet continue on "Candidates (2)" and so on.
+     * The caller closes the stream.
+     */
+    public static void exportCandidates(Stream<Candidate> candidates, File outputFile) throws IOException {
+        if (candidates == null || outputFile == null) {
+            throw new IllegalArgumentException("Candidates stream and output file cannot be null");
+        }
         
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Candidates");
-            
-            // Create header style
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_ROW_WINDOW);
+        try {
+            // Create styles
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
             
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"ID", "Name", "Email", "Phone", "Education", "Experience (Years)", 
-                              "Skills", "Created At", "Updated At"};
-            
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
+            Sheet[] sheet = {createSheet(workbook, "Candidates", CANDIDATE_HEADERS, CANDIDATE_COLUMN_WIDTHS, headerStyle)};
+            int[] sheetCount = {1};
             
             // Create data rows
-            int rowNum = 1;
-            for (Candidate candidate : candidates) {
-                Row row = sheet.createRow(rowNum++);
+            int[] rowNum = {1};
+            candidates.forEachOrdered(candidate -> {
+                if (rowNum[0] > MAX_ROW_INDEX) {
+                    sheetCount[0]++;
+                    sheet[0] = createSheet(workbook, "Candidates (" + sheetCount[0] + ")", CANDIDATE_HEADERS,
+                            CANDIDATE_COLUMN_WIDTHS, headerStyle);
+                    rowNum[0] = 1;
+                }
+                Row row = sheet[0].createRow(rowNum[0]++);
                 
                 createCell(row, 0, candidate.getId() != null ? candidate.getId().toString() : "", dataStyle);
                 createCell(row, 1, candidate.getName() != null ? candidate.getName() : "", dataStyle);
@@ -60,17 +92,118 @@ public class ExcelExporter {
                           candidate.getCreatedAt().format(DATE_FORMATTER) : "", dataStyle);
                 createCell(row, 8, candidate.getUpdatedAt() != null ? 
                           candidate.getUpdatedAt().format(DATE_FORMATTER) : "", dataStyle);
-            }
+            });
             
-            // Auto-size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+            // Write to file
+            try (FileOutputStream fileOut = new FileOutputStream(outputFile)) {
+                workbook.write(fileOut);
             }
+        } finally {
+            // Remove the temp files holding flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+    
+    /**
+     * Add a sheet with the header row and fixed column widths
+     */
+    private static Sheet createSheet(Workbook workbook, String name, String[] headers, int[] widths,
+                                     CellStyle headerStyle) {
+        Sheet sheet = workbook.createSheet(name);
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+            sheet.setColumnWidth(i, widths[i] * 256);
+        }
+        return sheet;
+    }
+    
+    /**
+     * Export a full match report (e.g. from {@code AllPairsMatcher}): the best candidates of
+     * every job on one sheet and the best jobs of every candidate on another, keyed by job and
+     * candidate id. Streamed like {@link #exportCandidates(Stream, File)}, continuing on further
+     * sheets past the row limit.
+     */
+    public static void exportMatchReport(Map<Long, List<MatchResult>> candidatesByJob,
+                                         Map<Long, List<MatchResult>> jobsByCandidate,
+                                         File outputFile) throws IOException {
+        if (candidatesByJob == null || jobsByCandidate == null || outputFile == null) {
+            throw new IllegalArgumentException("Match maps and output file cannot be null");
+        }
+        
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_ROW_WINDOW);
+        try {
+            CellStyle headerStyle = createHeaderStyle(workbook);
+            CellStyle dataStyle = createDataStyle(workbook);
+            
+            writeReportSheets(workbook, "Best Candidates per Job", JOB_REPORT_HEADERS, JOB_REPORT_COLUMN_WIDTHS,
+                    candidatesByJob, headerStyle, dataStyle, (row, rank, match) -> {
+                        JobPosting job = match.getJobPosting();
+                        Candidate candidate = match.getCandidate();
+                        createCell(row, 0, String.valueOf(match.getJobId()), dataStyle);
+                        createCell(row, 1, job != null && job.getTitle() != null ? job.getTitle() : "", dataStyle);
+                        createCell(row, 2, String.valueOf(rank), dataStyle);
+                        createCell(row, 3, String.valueOf(match.getCandidateId()), dataStyle);
+                        createCell(row, 4, candidate != null && candidate.getName() != null ? candidate.getName() : "", dataStyle);
+                        createCell(row, 5, candidate != null && candidate.getEmail() != null ? candidate.getEmail() : "", dataStyle);
+                    });
+            writeReportSheets(workbook, "Best Jobs per Candidate", CANDIDATE_REPORT_HEADERS,
+                    CANDIDATE_REPORT_COLUMN_WIDTHS, jobsByCandidate, headerStyle, dataStyle, (row, rank, match) -> {
+                        JobPosting job = match.getJobPosting();
+                        Candidate candidate = match.getCandidate();
+                        createCell(row, 0, String.valueOf(match.getCandidateId()), dataStyle);
+                        createCell(row, 1, candidate != null && candidate.getName() != null ? candidate.getName() : "", dataStyle);
+                        createCell(row, 2, String.valueOf(rank), dataStyle);
+                        createCell(row, 3, String.valueOf(match.getJobId()), dataStyle);
+                        createCell(row, 4, job != null && job.getTitle() != null ? job.getTitle() : "", dataStyle);
+                        createCell(row, 5, job != null && job.getLocation() != null ? job.getLocation() : "", dataStyle);
+                    });
             
             // Write to file
             try (FileOutputStream fileOut = new FileOutputStream(outputFile)) {
                 workbook.write(fileOut);
             }
+        } finally {
+            // Remove the temp files holding flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+    
+    /**
+     * Fills the identifying columns of one report row; score and grade are added after them
+     */
+    private interface ReportRowWriter {
+        void write(Row row, int rank, MatchResult match);
+    }
+    
+    /**
+     * Write ranked matches, one row each, starting a new sheet whenever one is full
+     */
+    private static void writeReportSheets(Workbook workbook, String name, String[] headers, int[] widths,
+                                          Map<Long, List<MatchResult>> matches, CellStyle headerStyle,
+                                          CellStyle dataStyle, ReportRowWriter writer) {
+        Sheet sheet = createSheet(workbook, name, headers, widths, headerStyle);
+        int sheetCount = 1;
+        int rowNum = 1;
+        for (List<MatchResult> ranked : matches.values()) {
+            int rank = 1;
+            for (MatchResult match : ranked) {
+                if (rowNum > MAX_ROW_INDEX) {
+                    sheetCount++;
+                    sheet = createSheet(workbook, name + " (" + sheetCount + ")", headers, widths, headerStyle);
+                    rowNum = 1;
+                }
+                Row row = sheet.createRow(rowNum++);
+                writer.write(row, rank++, match);
+                Cell scoreCell = row.createCell(headers.length - 2);
+                scoreCell.setCellValue(match.getMatchScore());
+                scoreCell.setCellStyle(dataStyle);
+                createCell(row, headers.length - 1, match.getMatchGrade(), dataStyle);
+            }
         }
     }
     
@@ -420,6 +553,14 @@ public class ExcelExporter {
             DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".xlsx";
     }
     
+    /**
+     * Get default export filename for the full match report
+     */
+    public static String getDefaultMatchReportFilename() {
+        return "match_report_" + java.time.LocalDateTime.now().format(
+            DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".xlsx";
+    }
+    
     /**
      * Get default export filename for match results
      */
@@ -0,0 +1,210 @@
+package com.recruitment.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from word prefixes to document ids, ranked by TF-IDF.
+ * Used for full-text search when the database has no full-text index of its own.
+ *
+ * A query matches documents containing every query word as a word or word prefix
+ * (like MySQL boolean mode "+word*"). Search cost depends on the number of documents
+ * matching the query words, not on the total number of documents. Thread-safe.
+ */
+public final class InvertedIndex {
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
+
+    // token -> document id -> occurrences
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // document id -> distinct tokens, needed to remove or replace a document
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Index a document, replacing any previous version with the same id
+     */
+    public void put(long id, String... fields) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String field : fields) {
+            for (String token : tokenize(field)) {
+                counts.merge(token, 1, Integer::sum);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), token -> new HashMap<>()).put(id, entry.getValue());
+            }
+            documents.put(id, counts);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the best-matching documents, highest score first
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = scoreTerm(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // Every term must match: keep only documents seen for all terms so far
+                    Map<Long, Double> merged = new HashMap<>();
+                    Map<Long, Double> smaller = scores.size() <= termScores.size() ? scores : termScores;
+                    Map<Long, Double> larger = smaller == scores ? termScores : scores;
+                    for (Map.Entry<Long, Double> entry : smaller.entrySet()) {
+                        Double other = larger.get(entry.getKey());
+                        if (other != null) {
+                            merged.put(entry.getKey(), entry.getValue() + other);
+                        }
+                    }
+                    scores = merged;
+                }
+                if (scores.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+            return topIds(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into lower-case words of letters and digits
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * TF-IDF score of every document containing the term or a word starting with it
+     */
+    private Map<Long, Double> scoreTerm(String term) {
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = Math.max(1, documents.size());
+        NavigableMap<String, Map<Long, Integer>> matches = postings.subMap(term, true, term + Character.MAX_VALUE, false);
+
+        for (Map.Entry<String, Map<Long, Integer>> match : matches.entrySet()) {
+            Map<Long, Integer> docs = match.getValue();
+            // Whole-word matches rank above prefix matches
+            double weight = match.getKey().equals(term) ? 1.0 : PREFIX_MATCH_WEIGHT;
+            double idf = Math.log(1.0 + (double) documentCount / docs.size());
+            for (Map.Entry<Long, Integer> doc : docs.entrySet()) {
+                double tf = 1.0 + Math.log(doc.getValue());
+                scores.merge(doc.getKey(), weight * tf * idf, Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    private static List<Long> topIds(Map<Long, Double> scores, int limit) {
+        // Min-heap of the best `limit` entries; ties favour newer (higher) ids
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>((a, b) -> {
+            int byScore = Double.compare(a.getValue(), b.getValue());
+            return byScore != 0 ? byScore : Long.compare(a.getKey(), b.getKey());
+        });
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            best.offer(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private void removeLocked(long id) {
+        Map<String, Integer> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.keySet()) {
+            Map<Long, Integer> docs = postings.get(token);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.recruitment.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable Aho-Corasick automaton that finds many keywords in one pass over the text.
+ * Matching cost depends on the text length and the number of hits, not on the number
+ * of keywords, so dictionaries can grow without slowing down parsing.
+ * Keywords and text are compared case-insensitively. Instances are safe to share between threads.
+ */
+public final class KeywordMatcher {
+
+    // Transitions of state s are chars[offsets[s]..offsets[s+1]) -> targets[...], chars sorted
+    private final int[] offsets;
+    private final char[] chars;
+    private final int[] targets;
+    private final int[] failure;
+    // Keyword ending exactly at a state (-1 if none) and the next state on the failure chain that has one
+    private final int[] keywordAt;
+    private final int[] outputLink;
+    private final int[] keywordLengths;
+    private final int[] keywordValues;
+
+    private KeywordMatcher(int[] offsets, char[] chars, int[] targets, int[] failure,
+                           int[] keywordAt, int[] outputLink, int[] keywordLengths, int[] keywordValues) {
+        this.offsets = offsets;
+        this.chars = chars;
+        this.targets = targets;
+        this.failure = failure;
+        this.keywordAt = keywordAt;
+        this.outputLink = outputLink;
+        this.keywordLengths = keywordLengths;
+        this.keywordValues = keywordValues;
+    }
+
+    /**
+     * Build a matcher. Each keyword maps to an integer value reported when it is found;
+     * several keywords (e.g. aliases) may share a value.
+     */
+    public static KeywordMatcher build(List<String> keywords, int[] values) {
+        if (keywords == null || values == null || keywords.size() != values.length) {
+            throw new IllegalArgumentException("Keywords and values must be non-null and of equal length");
+        }
+
+        // Build the trie with hash maps, then compact it into arrays
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new HashMap<>());
+        terminal.add(-1);
+
+        List<Integer> lengths = new ArrayList<>();
+        List<Integer> mappedValues = new ArrayList<>();
+
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            String key = keyword.trim().toLowerCase(Locale.ROOT);
+
+            int state = 0;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = trie.get(state).get(key.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    terminal.add(-1);
+                    trie.get(state).put(key.charAt(i), next);
+                }
+                state = next;
+            }
+
+            // Duplicate keywords keep the first value
+            if (terminal.get(state) == -1) {
+                terminal.set(state, lengths.size());
+                lengths.add(key.length());
+                mappedValues.add(values[k]);
+            }
+        }
+
+        int stateCount = trie.size();
+        int[] offsets = new int[stateCount + 1];
+        int transitionCount = 0;
+        for (int s = 0; s < stateCount; s++) {
+            offsets[s] = transitionCount;
+            transitionCount += trie.get(s).size();
+        }
+        offsets[stateCount] = transitionCount;
+
+        char[] chars = new char[transitionCount];
+        int[] targets = new int[transitionCount];
+        for (int s = 0; s < stateCount; s++) {
+            Character[] sorted = trie.get(s).keySet().toArray(new Character[0]);
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                chars[offsets[s] + i] = sorted[i];
+                targets[offsets[s] + i] = trie.get(s).get(sorted[i]);
+            }
+        }
+
+        int[] keywordAt = new int[stateCount];
+        for (int s = 0; s < stateCount; s++) {
+            keywordAt[s] = terminal.get(s);
+        }
+
+        // Breadth-first pass computes failure and output links
+        int[] failure = new int[stateCount];
+        int[] outputLink = new int[stateCount];
+        Arrays.fill(outputLink, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        for (int t = offsets[0]; t < offsets[1]; t++) {
+            failure[targets[t]] = 0;
+            queue.add(targets[t]);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int t = offsets[state]; t < offsets[state + 1]; t++) {
+                char c = chars[t];
+                int child = targets[t];
+
+                int f = failure[state];
+                int next = transition(offsets, chars, targets, f, c);
+                while (next < 0 && f != 0) {
+                    f = failure[f];
+                    next = transition(offsets, chars, targets, f, c);
+                }
+                failure[child] = next >= 0 ? next : 0;
+
+                int fail = failure[child];
+                outputLink[child] = keywordAt[fail] >= 0 ? fail : outputLink[fail];
+                queue.add(child);
+            }
+        }
+
+        return new KeywordMatcher(offsets, chars, targets, failure, keywordAt, outputLink,
+                lengths.stream().mapToInt(Integer::intValue).toArray(),
+                mappedValues.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Find the values of all keywords occurring in the text.
+     * With wholeWords, a keyword only counts when it is not surrounded by letters or digits.
+     */
+    public BitSet findAll(String text, boolean wholeWords) {
+        BitSet found = new BitSet();
+        if (text == null || text.isEmpty()) {
+            return found;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+
+            int next = transition(offsets, chars, targets, state, c);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = transition(offsets, chars, targets, state, c);
+            }
+            state = next >= 0 ? next : 0;
+
+            for (int s = keywordAt[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int keyword = keywordAt[s];
+                if (!wholeWords || isWordBoundary(text, i - keywordLengths[keyword], i + 1)) {
+                    found.set(keywordValues[keyword]);
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Check whether any keyword occurs in the text (substring match)
+     */
+    public boolean containsAny(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+
+            int next = transition(offsets, chars, targets, state, c);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = transition(offsets, chars, targets, state, c);
+            }
+            state = next >= 0 ? next : 0;
+
+            if (keywordAt[state] >= 0 || outputLink[state] >= 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Number of distinct keywords compiled into the automaton
+     */
+    public int getKeywordCount() {
+        return keywordLengths.length;
+    }
+
+    private static boolean isWordBoundary(String text, int before, int after) {
+        return (before < 0 || !Character.isLetterOrDigit(text.charAt(before)))
+                && (after >= text.length() || !Character.isLetterOrDigit(text.charAt(after)));
+    }
+
+    private static int transition(int[] offsets, char[] chars, int[] targets, int state, char c) {
+        int low = offsets[state];
+        int high = offsets[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (chars[mid] < c) {
+                low = mid + 1;
+            } else if (chars[mid] > c) {
+                high = mid - 1;
+            } else {
+                return targets[mid];
+            }
+        }
+        return -1;
+    }
+}
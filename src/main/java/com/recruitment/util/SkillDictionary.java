@@ -0,0 +1,395 @@
+package com.recruitment.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable dictionary of skills (canonical name, category, aliases) and education keywords,
+ * compiled into {@link KeywordMatcher} automata.
+ *
+ * The dictionary is read from the classpath resource {@code dictionary/skills.txt}, or from the
+ * file named by the {@code skills.dictionary.file} system property. A file-based dictionary is
+ * hot-reloaded: {@link #current()} checks the file at most once per second and atomically swaps
+ * in a newly compiled dictionary when it changes. Parsers should fetch {@code current()} once per
+ * parse so that a single resume is always matched against one consistent dictionary.
+ * Every swap bumps {@link #generation()}, which skill ids cached by the model objects and the
+ * match indexes are checked against.
+ *
+ * File format (one entry per line, '#' starts a comment):
+ * <pre>
+ * [skills]
+ * Canonical Name | Category | alias, alias, ...
+ * [education]
+ * keyword
+ * </pre>
+ */
+public final class SkillDictionary {
+
+    public static final String FILE_PROPERTY = "skills.dictionary.file";
+    private static final String DEFAULT_RESOURCE = "dictionary/skills.txt";
+    private static final long RELOAD_CHECK_INTERVAL_MS = 1000;
+
+    private static final AtomicReference<SkillDictionary> CURRENT = new AtomicReference<>();
+    private static final AtomicLong nextReloadCheck = new AtomicLong();
+    private static volatile long loadedModifiedTime;
+    // Bumped after every swap of the active dictionary
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    private final List<Entry> entries;
+    private final Map<String, Entry> entriesByAlias;
+    private final KeywordMatcher skillMatcher;
+    private final KeywordMatcher educationMatcher;
+    private final int educationKeywordCount;
+
+    private SkillDictionary(List<Entry> entries, List<String> educationKeywords) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.entriesByAlias = new HashMap<>();
+
+        List<String> skillKeywords = new ArrayList<>();
+        List<Integer> skillValues = new ArrayList<>();
+        for (Entry entry : entries) {
+            for (String name : entry.getNames()) {
+                skillKeywords.add(name);
+                skillValues.add(entry.index);
+                entriesByAlias.putIfAbsent(normalizeKey(name), entry);
+            }
+        }
+        this.skillMatcher = KeywordMatcher.build(skillKeywords,
+                skillValues.stream().mapToInt(Integer::intValue).toArray());
+        this.educationMatcher = KeywordMatcher.build(educationKeywords, new int[educationKeywords.size()]);
+        this.educationKeywordCount = educationKeywords.size();
+    }
+
+    /**
+     * Get the active dictionary, reloading it first if its file has changed
+     */
+    public static SkillDictionary current() {
+        SkillDictionary dictionary = CURRENT.get();
+        if (dictionary == null) {
+            synchronized (SkillDictionary.class) {
+                if (CURRENT.get() == null) {
+                    CURRENT.set(loadConfigured());
+                }
+            }
+            return CURRENT.get();
+        }
+
+        long now = System.currentTimeMillis();
+        long due = nextReloadCheck.get();
+        if (now >= due && nextReloadCheck.compareAndSet(due, now + RELOAD_CHECK_INTERVAL_MS)) {
+            reloadIfModified();
+        }
+        return CURRENT.get();
+    }
+
+    /**
+     * Replace the active dictionary (e.g. one loaded from the database or built for a benchmark)
+     */
+    public static void setCurrent(SkillDictionary dictionary) {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null");
+        }
+        CURRENT.set(dictionary);
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Number of times the active dictionary has been replaced. Ids computed under an older
+     * generation may map an alias to another skill than the current dictionary does.
+     */
+    public static int generation() {
+        return generation.get();
+    }
+
+    /**
+     * Load a dictionary from a file
+     */
+    public static SkillDictionary load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Parse a dictionary in the text format described in the class comment
+     */
+    public static SkillDictionary parse(Reader reader) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        List<String> educationKeywords = new ArrayList<>();
+        String section = "skills";
+
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = stripComment(line).trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            if (line.startsWith("[") && line.endsWith("]")) {
+                section = line.substring(1, line.length() - 1).trim().toLowerCase(Locale.ROOT);
+                continue;
+            }
+
+            if ("education".equals(section)) {
+                educationKeywords.add(line.toLowerCase(Locale.ROOT));
+            } else if ("skills".equals(section)) {
+                String[] fields = line.split("\\|", -1);
+                String canonicalName = fields[0].trim();
+                if (canonicalName.isEmpty()) {
+                    throw new IOException("Missing skill name on line " + lineNumber);
+                }
+                String category = fields.length > 1 ? fields[1].trim() : "";
+                List<String> aliases = new ArrayList<>();
+                if (fields.length > 2) {
+                    for (String alias : fields[2].split(",")) {
+                        if (!alias.trim().isEmpty()) {
+                            aliases.add(alias.trim());
+                        }
+                    }
+                }
+                entries.add(new Entry(entries.size(), canonicalName, category, aliases));
+            } else {
+                throw new IOException("Unknown section [" + section + "] on line " + lineNumber);
+            }
+        }
+
+        return new SkillDictionary(entries, educationKeywords);
+    }
+
+    /**
+     * Build a dictionary from already-parsed entries
+     */
+    public static SkillDictionary of(List<Entry> entries, List<String> educationKeywords) {
+        List<Entry> indexed = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            indexed.add(new Entry(indexed.size(), entry.canonicalName, entry.category, entry.aliases));
+        }
+        return new SkillDictionary(indexed, new ArrayList<>(educationKeywords));
+    }
+
+    /**
+     * Find all dictionary skills mentioned in the text, as canonical names in dictionary order
+     */
+    public List<String> findSkills(String text) {
+        BitSet found = skillMatcher.findAll(text, true);
+        List<String> skills = new ArrayList<>(found.cardinality());
+        for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+            skills.add(entries.get(i).canonicalName);
+        }
+        return skills;
+    }
+
+    /**
+     * Check whether a line contains any education keyword
+     */
+    public boolean containsEducationKeyword(String line) {
+        return educationMatcher.containsAny(line);
+    }
+
+    /**
+     * Look up a skill by its canonical name or any alias
+     */
+    public Entry lookup(String skill) {
+        if (skill == null) {
+            return null;
+        }
+        return entriesByAlias.get(normalizeKey(skill));
+    }
+
+    /**
+     * Map a skill name to its canonical form. Unknown skills keep their own name with
+     * surrounding and repeated whitespace removed.
+     */
+    public String canonicalize(String skill) {
+        if (skill == null) {
+            return null;
+        }
+        Entry entry = lookup(skill);
+        return entry != null ? entry.canonicalName : skill.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Canonicalize a list of skills, dropping blanks and aliases of skills already in the list
+     */
+    public List<String> canonicalize(List<String> skills) {
+        List<String> canonical = new ArrayList<>();
+        if (skills == null) {
+            return canonical;
+        }
+
+        Set<String> seenKeys = new HashSet<>();
+        for (String skill : skills) {
+            if (skill == null || skill.trim().isEmpty()) {
+                continue;
+            }
+            String name = canonicalize(skill);
+            if (seenKeys.add(normalizeKey(name))) {
+                canonical.add(name);
+            }
+        }
+        return canonical;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public int getSkillCount() {
+        return entries.size();
+    }
+
+    public int getEducationKeywordCount() {
+        return educationKeywordCount;
+    }
+
+    /**
+     * Normalize a skill name for alias lookup: lower case, whitespace and separators dropped,
+     * so "Spring Boot", "spring-boot" and "SpringBoot" share one key
+     */
+    public static String normalizeKey(String skill) {
+        StringBuilder key = new StringBuilder(skill.length());
+        for (int i = 0; i < skill.length(); i++) {
+            char c = skill.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Remove a trailing comment. '#' is part of skill names such as C#, so it only
+     * starts a comment at the beginning of a line or after whitespace.
+     */
+    private static String stripComment(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '#' && (i == 0 || Character.isWhitespace(line.charAt(i - 1)))) {
+                return line.substring(0, i);
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Load the dictionary from the configured file or the bundled resource
+     */
+    private static SkillDictionary loadConfigured() {
+        Path file = configuredFile();
+        try {
+            if (file != null) {
+                loadedModifiedTime = Files.getLastModifiedTime(file).toMillis();
+                return load(file);
+            }
+
+            InputStream inputStream = SkillDictionary.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE);
+            if (inputStream == null) {
+                throw new IllegalStateException("Skill dictionary resource not found: " + DEFAULT_RESOURCE);
+            }
+            try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                return parse(reader);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load skill dictionary: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recompile and swap in the dictionary file if it changed since it was loaded
+     */
+    private static void reloadIfModified() {
+        Path file = configuredFile();
+        if (file == null) {
+            return;
+        }
+
+        try {
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            if (modified == loadedModifiedTime) {
+                return;
+            }
+            SkillDictionary reloaded = load(file);
+            loadedModifiedTime = modified;
+            CURRENT.set(reloaded);
+            generation.incrementAndGet();
+            System.out.println("Skill dictionary reloaded: " + reloaded.getSkillCount() + " skills");
+        } catch (IOException e) {
+            // Keep serving the previous dictionary
+            System.err.println("Warning: Failed to reload skill dictionary: " + e.getMessage());
+        }
+    }
+
+    private static Path configuredFile() {
+        String fileName = System.getProperty(FILE_PROPERTY);
+        return fileName == null || fileName.isBlank() ? null : Paths.get(fileName);
+    }
+
+    /**
+     * A skill with its canonical name, category and aliases
+     */
+    public static final class Entry {
+        private final int index;
+        private final String canonicalName;
+        private final String category;
+        private final List<String> aliases;
+
+        public Entry(String canonicalName, String category, List<String> aliases) {
+            this(-1, canonicalName, category, aliases);
+        }
+
+        private Entry(int index, String canonicalName, String category, List<String> aliases) {
+            this.index = index;
+            this.canonicalName = canonicalName;
+            this.category = category;
+            this.aliases = Collections.unmodifiableList(new ArrayList<>(aliases));
+        }
+
+        public String getCanonicalName() {
+            return canonicalName;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public List<String> getAliases() {
+            return aliases;
+        }
+
+        /**
+         * Canonical name followed by all aliases
+         */
+        public List<String> getNames() {
+            List<String> names = new ArrayList<>(aliases.size() + 1);
+            names.add(canonicalName);
+            names.addAll(aliases);
+            return names;
+        }
+
+        @Override
+        public String toString() {
+            return canonicalName + (category.isEmpty() ? "" : " (" + category + ")");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.recruitment.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of integer skill ids.
+ * Every skill name is canonicalized through the {@link SkillDictionary} and mapped to an id,
+ * so "Spring Boot", "spring-boot" and "SpringBoot" (or "JS" and "JavaScript") share one id.
+ * The id of a canonical name never changes, but a dictionary reload can change which canonical
+ * name an alias resolves to (a reload that makes "JS" an alias sends it to the id of
+ * "JavaScript"). Id arrays are therefore cached as {@link CachedIds}, stamped with the
+ * dictionary generation, and recomputed once it moves on.
+ *
+ * Ids live only in this process and never touch the database, so computing them for an unsaved
+ * candidate or job stores nothing. The skills table has its own ids, which the DAOs resolve by
+ * name on their own connection when they write skill links.
+ */
+public final class SkillRegistry {
+
+    private static final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private static int nextId = 1;
+
+    private SkillRegistry() {
+    }
+
+    /**
+     * Get the id of a skill, assigning a new one if the canonical skill has not been seen before
+     */
+    public static int idOf(String skill) {
+        if (skill == null || skill.trim().isEmpty()) {
+            throw new IllegalArgumentException("Skill cannot be empty");
+        }
+
+        String canonicalName = SkillDictionary.current().canonicalize(skill);
+        String key = SkillDictionary.normalizeKey(canonicalName);
+
+        Integer id = idsByKey.get(key);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (SkillRegistry.class) {
+            id = idsByKey.get(key);
+            if (id == null) {
+                id = nextId++;
+                namesById.put(id, canonicalName);
+                idsByKey.put(key, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Get the canonical name registered for an id, or null if the id is unknown
+     */
+    public static String nameOf(int id) {
+        return namesById.get(id);
+    }
+
+    /**
+     * Map skills to ids, index-aligned with the list. Blank entries map to 0, which is never
+     * assigned to a skill.
+     */
+    public static int[] idsOf(List<String> skills) {
+        int[] ids = new int[skills.size()];
+        for (int i = 0; i < ids.length; i++) {
+            String skill = skills.get(i);
+            ids[i] = skill == null || skill.trim().isEmpty() ? 0 : idOf(skill);
+        }
+        return ids;
+    }
+
+    /**
+     * Skill ids computed under one dictionary generation, for caching on model objects
+     */
+    public static final class CachedIds {
+        private final int generation;
+        private final int[] ids;
+
+        private CachedIds(int generation, int[] ids) {
+            this.generation = generation;
+            this.ids = ids;
+        }
+
+        /**
+         * Ids index-aligned with the list, as {@link SkillRegistry#idsOf}
+         */
+        public static CachedIds of(List<String> skills) {
+            // Read first: a reload while mapping leaves the ids stamped stale, so they are redone
+            int generation = SkillDictionary.generation();
+            return new CachedIds(generation, idsOf(skills));
+        }
+
+        /**
+         * Sorted distinct ids, as {@link SkillRegistry#sortedIdsOf}
+         */
+        public static CachedIds sortedOf(List<String> skills) {
+            int generation = SkillDictionary.generation();
+            return new CachedIds(generation, sortedIdsOf(skills));
+        }
+
+        /**
+         * Whether the ids were computed under the active dictionary
+         */
+        public boolean isCurrent() {
+            return generation == SkillDictionary.generation();
+        }
+
+        /**
+         * The ids; shared, callers must not modify the array
+         */
+        public int[] getIds() {
+            return ids;
+        }
+    }
+
+    /**
+     * Map skills to a sorted array of distinct ids, suitable for binary search
+     */
+    public static int[] sortedIdsOf(List<String> skills) {
+        int[] ids = idsOf(skills);
+        Arrays.sort(ids);
+
+        int distinct = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != 0 && (distinct == 0 || ids[i] != ids[distinct - 1])) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+    }
+}
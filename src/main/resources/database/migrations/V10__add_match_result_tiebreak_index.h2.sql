@@ -0,0 +1,3 @@
+-- Same as V10__add_match_result_tiebreak_index.sql in H2's syntax
+CREATE INDEX IF NOT EXISTS idx_match_results_job_score_candidate ON match_results(job_posting_id, match_score DESC, candidate_id);
+DROP INDEX IF EXISTS idx_match_results_job_score;
@@ -0,0 +1,4 @@
+-- Top-K reads order equal scores by candidate id; the index now serves that order too. One
+-- ALTER applies both changes or none; a re-run fails only with "duplicate key", which is skipped.
+ALTER TABLE match_results ADD INDEX idx_match_results_job_score_candidate (job_posting_id, match_score DESC, candidate_id),
+    DROP INDEX idx_match_results_job_score;
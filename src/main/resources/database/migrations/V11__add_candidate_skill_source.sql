@@ -0,0 +1,3 @@
+-- Whether a skill link was added by re-extracting the stored resume. Re-extraction removes only
+-- such links, so skills entered or kept by hand survive it; existing links count as entered by hand.
+ALTER TABLE candidate_skills ADD COLUMN extracted BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,3 @@
+-- Same as V12__rename_skill_id_indexes.sql in H2's syntax
+ALTER INDEX IF EXISTS idx_candidate_skills_skill RENAME TO idx_candidate_skills_skill_id;
+ALTER INDEX IF EXISTS idx_job_skills_skill RENAME TO idx_job_skills_skill_id;
@@ -0,0 +1,7 @@
+-- Name the skill_id lookup indexes after their column, as in schema.sql; V6 reused the names of
+-- the old skill indexes. One ALTER per table applies both changes or none; a re-run fails only
+-- with "duplicate key", which is skipped.
+ALTER TABLE candidate_skills ADD INDEX idx_candidate_skills_skill_id (skill_id),
+    DROP INDEX idx_candidate_skills_skill;
+ALTER TABLE job_skills ADD INDEX idx_job_skills_skill_id (skill_id),
+    DROP INDEX idx_job_skills_skill;
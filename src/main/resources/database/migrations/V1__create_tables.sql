@@ -0,0 +1,65 @@
+-- Core tables. IF NOT EXISTS lets this baseline run against databases created before migrations
+
+-- Table: candidates
+CREATE TABLE IF NOT EXISTS candidates (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) UNIQUE NOT NULL,
+    phone VARCHAR(50),
+    education VARCHAR(500),
+    experience_years INT DEFAULT 0,
+    resume_path VARCHAR(500),
+    resume_text TEXT,
+    parse_status VARCHAR(20) DEFAULT 'complete',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- Table: candidate_skills
+CREATE TABLE IF NOT EXISTS candidate_skills (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    candidate_id INT NOT NULL,
+    skill VARCHAR(100) NOT NULL,
+    proficiency_level ENUM('Beginner', 'Intermediate', 'Advanced', 'Expert') DEFAULT 'Intermediate',
+    FOREIGN KEY (candidate_id) REFERENCES candidates(id) ON DELETE CASCADE,
+    UNIQUE KEY unique_candidate_skill (candidate_id, skill)
+);
+
+-- Table: job_postings
+CREATE TABLE IF NOT EXISTS job_postings (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    company VARCHAR(255),
+    location VARCHAR(255),
+    required_experience INT DEFAULT 0,
+    required_education VARCHAR(500),
+    salary_min DECIMAL(10,2),
+    salary_max DECIMAL(10,2),
+    status ENUM('Active', 'Closed', 'Draft') DEFAULT 'Active',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- Table: job_skills
+CREATE TABLE IF NOT EXISTS job_skills (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    job_posting_id INT NOT NULL,
+    skill VARCHAR(100) NOT NULL,
+    importance ENUM('Required', 'Preferred', 'Nice-to-have') DEFAULT 'Required',
+    FOREIGN KEY (job_posting_id) REFERENCES job_postings(id) ON DELETE CASCADE,
+    UNIQUE KEY unique_job_skill (job_posting_id, skill)
+);
+
+-- Table: match_results
+CREATE TABLE IF NOT EXISTS match_results (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    candidate_id INT NOT NULL,
+    job_posting_id INT NOT NULL,
+    match_score DECIMAL(5,2) NOT NULL,
+    skill_match_details TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (candidate_id) REFERENCES candidates(id) ON DELETE CASCADE,
+    FOREIGN KEY (job_posting_id) REFERENCES job_postings(id) ON DELETE CASCADE,
+    UNIQUE KEY unique_match (candidate_id, job_posting_id)
+);
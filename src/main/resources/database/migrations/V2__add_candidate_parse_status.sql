@@ -0,0 +1,2 @@
+-- Databases created before resume parsing was tracked lack this column
+ALTER TABLE candidates ADD COLUMN parse_status VARCHAR(20) DEFAULT 'complete';
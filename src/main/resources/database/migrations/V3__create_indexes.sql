@@ -0,0 +1,11 @@
+CREATE INDEX idx_candidates_email ON candidates(email);
+CREATE INDEX idx_candidates_experience ON candidates(experience_years);
+
+-- Keyset pagination: InnoDB secondary indexes end with the primary key, so these cover (column, id)
+CREATE INDEX idx_candidates_created_at ON candidates(created_at);
+CREATE INDEX idx_candidates_name ON candidates(name);
+
+CREATE INDEX idx_candidate_skills_skill ON candidate_skills(skill);
+CREATE INDEX idx_job_postings_status ON job_postings(status);
+CREATE INDEX idx_job_skills_skill ON job_skills(skill);
+CREATE INDEX idx_match_results_score ON match_results(match_score);
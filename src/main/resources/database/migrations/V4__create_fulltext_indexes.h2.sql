@@ -0,0 +1 @@
+-- H2 has no FULLTEXT indexes; search uses the in-process inverted index instead (search.mode=index)
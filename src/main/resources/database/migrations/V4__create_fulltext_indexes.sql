@@ -0,0 +1,3 @@
+-- Full-text search (search.mode=fulltext)
+CREATE FULLTEXT INDEX ft_candidates_search ON candidates(name, email, resume_text);
+CREATE FULLTEXT INDEX ft_job_postings_search ON job_postings(title, description);
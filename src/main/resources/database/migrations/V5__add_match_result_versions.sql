@@ -0,0 +1,9 @@
+-- Stored match results are fresh while the candidate, the job posting and the scoring code
+-- are unchanged since the score was calculated
+ALTER TABLE match_results ADD COLUMN candidate_updated_at TIMESTAMP NULL;
+ALTER TABLE match_results ADD COLUMN job_updated_at TIMESTAMP NULL;
+ALTER TABLE match_results ADD COLUMN scoring_version INT NOT NULL DEFAULT 0;
+ALTER TABLE match_results ADD COLUMN calculated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+
+-- Top-K candidates for a job read straight from the index
+CREATE INDEX idx_match_results_job_score ON match_results(job_posting_id, match_score DESC);
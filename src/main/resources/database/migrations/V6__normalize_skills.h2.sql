@@ -0,0 +1,34 @@
+-- Skill names are stored once in skills; candidate_skills and job_skills refer to them by id.
+-- Same as V6__normalize_skills.sql in H2's syntax for column and constraint changes
+CREATE TABLE IF NOT EXISTS skills (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    UNIQUE KEY unique_skill_name (name)
+);
+
+INSERT IGNORE INTO skills (name)
+SELECT skill FROM candidate_skills
+UNION
+SELECT skill FROM job_skills;
+
+-- candidate_skills
+ALTER TABLE candidate_skills ADD COLUMN skill_id INT NULL;
+UPDATE candidate_skills SET skill_id = (SELECT s.id FROM skills s WHERE s.name = candidate_skills.skill);
+ALTER TABLE candidate_skills ALTER COLUMN skill_id SET NOT NULL;
+ALTER TABLE candidate_skills ADD CONSTRAINT unique_candidate_skill_id UNIQUE (candidate_id, skill_id);
+ALTER TABLE candidate_skills DROP CONSTRAINT unique_candidate_skill;
+DROP INDEX idx_candidate_skills_skill;
+ALTER TABLE candidate_skills DROP COLUMN skill;
+CREATE INDEX idx_candidate_skills_skill ON candidate_skills(skill_id);
+ALTER TABLE candidate_skills ADD CONSTRAINT fk_candidate_skills_skill FOREIGN KEY (skill_id) REFERENCES skills(id);
+
+-- job_skills
+ALTER TABLE job_skills ADD COLUMN skill_id INT NULL;
+UPDATE job_skills SET skill_id = (SELECT s.id FROM skills s WHERE s.name = job_skills.skill);
+ALTER TABLE job_skills ALTER COLUMN skill_id SET NOT NULL;
+ALTER TABLE job_skills ADD CONSTRAINT unique_job_skill_id UNIQUE (job_posting_id, skill_id);
+ALTER TABLE job_skills DROP CONSTRAINT unique_job_skill;
+DROP INDEX idx_job_skills_skill;
+ALTER TABLE job_skills DROP COLUMN skill;
+CREATE INDEX idx_job_skills_skill ON job_skills(skill_id);
+ALTER TABLE job_skills ADD CONSTRAINT fk_job_skills_skill FOREIGN KEY (skill_id) REFERENCES skills(id);
@@ -0,0 +1,7 @@
+-- Same as V7__drop_link_skill_names.sql in H2's syntax. V6 already replaced the old skill
+-- indexes with ones on skill_id, which back the skill foreign keys and are kept.
+ALTER TABLE candidate_skills DROP CONSTRAINT IF EXISTS unique_candidate_skill;
+ALTER TABLE candidate_skills DROP COLUMN IF EXISTS skill;
+
+ALTER TABLE job_skills DROP CONSTRAINT IF EXISTS unique_job_skill;
+ALTER TABLE job_skills DROP COLUMN IF EXISTS skill;
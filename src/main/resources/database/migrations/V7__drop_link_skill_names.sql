@@ -0,0 +1,5 @@
+-- Drop the skill name columns V6 copied into skill_id. One ALTER per table applies all of its
+-- changes or none; a re-run after it succeeded fails only with "can't drop", which is skipped.
+-- unique_*_skill_id from V6 now backs the owner foreign keys in place of unique_*_skill.
+ALTER TABLE candidate_skills DROP INDEX unique_candidate_skill, DROP INDEX idx_candidate_skills_skill, DROP COLUMN skill;
+ALTER TABLE job_skills DROP INDEX unique_job_skill, DROP INDEX idx_job_skills_skill, DROP COLUMN skill;
@@ -0,0 +1,2 @@
+-- Latest candidate change read from the end of the index: the staleness probe before match lookups
+CREATE INDEX idx_candidates_updated_at ON candidates(updated_at);
@@ -0,0 +1,5 @@
+-- Same as V9__store_versions_in_microseconds.sql in H2's syntax; defaults are kept
+ALTER TABLE candidates ALTER COLUMN updated_at SET DATA TYPE TIMESTAMP(6);
+ALTER TABLE job_postings ALTER COLUMN updated_at SET DATA TYPE TIMESTAMP(6);
+ALTER TABLE match_results ALTER COLUMN candidate_updated_at SET DATA TYPE TIMESTAMP(6);
+ALTER TABLE match_results ALTER COLUMN job_updated_at SET DATA TYPE TIMESTAMP(6);
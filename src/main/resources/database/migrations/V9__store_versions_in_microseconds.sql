@@ -0,0 +1,5 @@
+-- Versions (updated_at) kept to the microsecond, so two writes within one second still count as
+-- different versions of a candidate or job posting, also for stored match results
+ALTER TABLE candidates MODIFY updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+ALTER TABLE job_postings MODIFY updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+ALTER TABLE match_results MODIFY candidate_updated_at TIMESTAMP(6) NULL, MODIFY job_updated_at TIMESTAMP(6) NULL;
@@ -1,4 +1,6 @@
 -- Smart Recruitment Platform Database Schema (MySQL)
+-- Reference script for setting up a database by hand. The application itself applies
+-- database/migrations at startup and loads database/seed.sql only when db.seed=true.
 
 -- Create database if not exists
 CREATE DATABASE IF NOT EXISTS smart_recruitment CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
@@ -14,18 +16,29 @@ CREATE TABLE IF NOT EXISTS candidates (
     experience_years INT DEFAULT 0,
     resume_path VARCHAR(500),
     resume_text TEXT,
+    parse_status VARCHAR(20) DEFAULT 'complete',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
+);
+
+-- Table: skills
+CREATE TABLE IF NOT EXISTS skills (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    UNIQUE KEY unique_skill_name (name)
 );
 
 -- Table: candidate_skills
 CREATE TABLE IF NOT EXISTS candidate_skills (
     id INT AUTO_INCREMENT PRIMARY KEY,
     candidate_id INT NOT NULL,
-    skill VARCHAR(100) NOT NULL,
+    skill_id INT NOT NULL,
     proficiency_level ENUM('Beginner', 'Intermediate', 'Advanced', 'Expert') DEFAULT 'Intermediate',
+    extracted BOOLEAN NOT NULL DEFAULT FALSE,
     FOREIGN KEY (candidate_id) REFERENCES candidates(id) ON DELETE CASCADE,
-    UNIQUE KEY unique_candidate_skill (candidate_id, skill)
+    FOREIGN KEY (skill_id) REFERENCES skills(id),
+    UNIQUE KEY unique_candidate_skill_id (candidate_id, skill_id),
+    INDEX idx_candidate_skills_skill_id (skill_id)
 );
 
 -- Table: job_postings
@@ -41,17 +54,19 @@ CREATE TABLE IF NOT EXISTS job_postings (
     salary_max DECIMAL(10,2),
     status ENUM('Active', 'Closed', 'Draft') DEFAULT 'Active',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
 );
 
 -- Table: job_skills
 CREATE TABLE IF NOT EXISTS job_skills (
     id INT AUTO_INCREMENT PRIMARY KEY,
     job_posting_id INT NOT NULL,
-    skill VARCHAR(100) NOT NULL,
+    skill_id INT NOT NULL,
     importance ENUM('Required', 'Preferred', 'Nice-to-have') DEFAULT 'Required',
     FOREIGN KEY (job_posting_id) REFERENCES job_postings(id) ON DELETE CASCADE,
-    UNIQUE KEY unique_job_skill (job_posting_id, skill)
+    FOREIGN KEY (skill_id) REFERENCES skills(id),
+    UNIQUE KEY unique_job_skill_id (job_posting_id, skill_id),
+    INDEX idx_job_skills_skill_id (skill_id)
 );
 
 -- Table: match_results
@@ -74,41 +89,64 @@ INSERT IGNORE INTO candidates (name, email, phone, education, experience_years,
 ('Jane Smith', 'jane.smith@email.com', '+1-555-0102', 'Master of Information Technology', 8, 'Senior software engineer with expertise in Python, Django, PostgreSQL, and machine learning. Led multiple projects in data analysis and backend development.'),
 ('Mike Johnson', 'mike.johnson@email.com', '+1-555-0103', 'Bachelor of Software Engineering', 3, 'Frontend developer specializing in React, JavaScript, HTML5, and CSS3. Experience with modern web frameworks and responsive design.');
 
-INSERT IGNORE INTO candidate_skills (candidate_id, skill, proficiency_level) VALUES
-(1, 'Java', 'Advanced'),
-(1, 'Spring Boot', 'Advanced'),
-(1, 'MySQL', 'Intermediate'),
-(1, 'REST APIs', 'Advanced'),
-(1, 'Git', 'Intermediate'),
-(2, 'Python', 'Expert'),
-(2, 'Django', 'Advanced'),
-(2, 'PostgreSQL', 'Advanced'),
-(2, 'Machine Learning', 'Intermediate'),
-(2, 'Data Analysis', 'Advanced'),
-(3, 'React', 'Advanced'),
-(3, 'JavaScript', 'Advanced'),
-(3, 'HTML5', 'Expert'),
-(3, 'CSS3', 'Advanced'),
-(3, 'Node.js', 'Intermediate');
+INSERT IGNORE INTO skills (name) VALUES
+('Java'),
+('Spring Boot'),
+('MySQL'),
+('REST APIs'),
+('Git'),
+('Python'),
+('Django'),
+('PostgreSQL'),
+('Machine Learning'),
+('Data Analysis'),
+('React'),
+('JavaScript'),
+('HTML5'),
+('CSS3'),
+('Node.js');
+
+INSERT IGNORE INTO candidate_skills (candidate_id, skill_id, proficiency_level)
+SELECT seed.candidate_id, s.id, seed.proficiency_level FROM (
+    SELECT 1 AS candidate_id, 'Java' AS skill, 'Advanced' AS proficiency_level
+    UNION ALL SELECT 1, 'Spring Boot', 'Advanced'
+    UNION ALL SELECT 1, 'MySQL', 'Intermediate'
+    UNION ALL SELECT 1, 'REST APIs', 'Advanced'
+    UNION ALL SELECT 1, 'Git', 'Intermediate'
+    UNION ALL SELECT 2, 'Python', 'Expert'
+    UNION ALL SELECT 2, 'Django', 'Advanced'
+    UNION ALL SELECT 2, 'PostgreSQL', 'Advanced'
+    UNION ALL SELECT 2, 'Machine Learning', 'Intermediate'
+    UNION ALL SELECT 2, 'Data Analysis', 'Advanced'
+    UNION ALL SELECT 3, 'React', 'Advanced'
+    UNION ALL SELECT 3, 'JavaScript', 'Advanced'
+    UNION ALL SELECT 3, 'HTML5', 'Expert'
+    UNION ALL SELECT 3, 'CSS3', 'Advanced'
+    UNION ALL SELECT 3, 'Node.js', 'Intermediate'
+) seed
+JOIN skills s ON s.name = seed.skill;
 
 INSERT IGNORE INTO job_postings (title, description, company, location, required_experience, required_education, salary_min, salary_max, status) VALUES
 ('Senior Java Developer', 'We are looking for a senior Java developer with Spring Boot experience to join our backend team.', 'TechCorp Inc.', 'New York, NY', 4, 'Bachelor degree in Computer Science or related field', 80000.00, 120000.00, 'Active'),
 ('Python Data Scientist', 'Seeking a data scientist with strong Python skills and machine learning experience.', 'DataTech Solutions', 'San Francisco, CA', 3, 'Master degree in Data Science or related field', 90000.00, 140000.00, 'Active'),
 ('Frontend React Developer', 'Looking for a frontend developer with React expertise to build modern web applications.', 'WebDev Studio', 'Austin, TX', 2, 'Bachelor degree in Software Engineering or related field', 60000.00, 85000.00, 'Active');
 
-INSERT IGNORE INTO job_skills (job_posting_id, skill, importance) VALUES
-(1, 'Java', 'Required'),
-(1, 'Spring Boot', 'Required'),
-(1, 'MySQL', 'Preferred'),
-(1, 'REST APIs', 'Required'),
-(1, 'Git', 'Preferred'),
-(2, 'Python', 'Required'),
-(2, 'Django', 'Preferred'),
-(2, 'Machine Learning', 'Required'),
-(2, 'Data Analysis', 'Required'),
-(2, 'PostgreSQL', 'Preferred'),
-(3, 'React', 'Required'),
-(3, 'JavaScript', 'Required'),
-(3, 'HTML5', 'Required'),
-(3, 'CSS3', 'Required'),
-(3, 'Node.js', 'Nice-to-have');
\ No newline at end of file
+INSERT IGNORE INTO job_skills (job_posting_id, skill_id, importance)
+SELECT seed.job_posting_id, s.id, seed.importance FROM (
+    SELECT 1 AS job_posting_id, 'Java' AS skill, 'Required' AS importance
+    UNION ALL SELECT 1, 'Spring Boot', 'Required'
+    UNION ALL SELECT 1, 'MySQL', 'Preferred'
+    UNION ALL SELECT 1, 'REST APIs', 'Required'
+    UNION ALL SELECT 1, 'Git', 'Preferred'
+    UNION ALL SELECT 2, 'Python', 'Required'
+    UNION ALL SELECT 2, 'Django', 'Preferred'
+    UNION ALL SELECT 2, 'Machine Learning', 'Required'
+    UNION ALL SELECT 2, 'Data Analysis', 'Required'
+    UNION ALL SELECT 2, 'PostgreSQL', 'Preferred'
+    UNION ALL SELECT 3, 'React', 'Required'
+    UNION ALL SELECT 3, 'JavaScript', 'Required'
+    UNION ALL SELECT 3, 'HTML5', 'Required'
+    UNION ALL SELECT 3, 'CSS3', 'Required'
+    UNION ALL SELECT 3, 'Node.js', 'Nice-to-have'
+) seed
+JOIN skills s ON s.name = seed.skill;
\ No newline at end of file
@@ -0,0 +1,69 @@
+-- Sample data, loaded at startup only when db.seed=true.
+-- Explicit ids make re-running it a no-op: job_postings has no other unique key.
+
+INSERT IGNORE INTO candidates (id, name, email, phone, education, experience_years, resume_text) VALUES
+(1, 'John Doe', 'john.doe@email.com', '+1-555-0101', 'Bachelor of Computer Science', 5, 'Experienced Java developer with 5 years of experience in Spring Boot, MySQL, and REST APIs. Strong background in web development and system design.'),
+(2, 'Jane Smith', 'jane.smith@email.com', '+1-555-0102', 'Master of Information Technology', 8, 'Senior software engineer with expertise in Python, Django, PostgreSQL, and machine learning. Led multiple projects in data analysis and backend development.'),
+(3, 'Mike Johnson', 'mike.johnson@email.com', '+1-555-0103', 'Bachelor of Software Engineering', 3, 'Frontend developer specializing in React, JavaScript, HTML5, and CSS3. Experience with modern web frameworks and responsive design.');
+
+INSERT IGNORE INTO skills (name) VALUES
+('Java'),
+('Spring Boot'),
+('MySQL'),
+('REST APIs'),
+('Git'),
+('Python'),
+('Django'),
+('PostgreSQL'),
+('Machine Learning'),
+('Data Analysis'),
+('React'),
+('JavaScript'),
+('HTML5'),
+('CSS3'),
+('Node.js');
+
+INSERT IGNORE INTO candidate_skills (candidate_id, skill_id, proficiency_level)
+SELECT seed.candidate_id, s.id, seed.proficiency_level FROM (
+    SELECT 1 AS candidate_id, 'Java' AS skill, 'Advanced' AS proficiency_level
+    UNION ALL SELECT 1, 'Spring Boot', 'Advanced'
+    UNION ALL SELECT 1, 'MySQL', 'Intermediate'
+    UNION ALL SELECT 1, 'REST APIs', 'Advanced'
+    UNION ALL SELECT 1, 'Git', 'Intermediate'
+    UNION ALL SELECT 2, 'Python', 'Expert'
+    UNION ALL SELECT 2, 'Django', 'Advanced'
+    UNION ALL SELECT 2, 'PostgreSQL', 'Advanced'
+    UNION ALL SELECT 2, 'Machine Learning', 'Intermediate'
+    UNION ALL SELECT 2, 'Data Analysis', 'Advanced'
+    UNION ALL SELECT 3, 'React', 'Advanced'
+    UNION ALL SELECT 3, 'JavaScript', 'Advanced'
+    UNION ALL SELECT 3, 'HTML5', 'Expert'
+    UNION ALL SELECT 3, 'CSS3', 'Advanced'
+    UNION ALL SELECT 3, 'Node.js', 'Intermediate'
+) seed
+JOIN skills s ON s.name = seed.skill;
+
+INSERT IGNORE INTO job_postings (id, title, description, company, location, required_experience, required_education, salary_min, salary_max, status) VALUES
+(1, 'Senior Java Developer', 'We are looking for a senior Java developer with Spring Boot experience to join our backend team.', 'TechCorp Inc.', 'New York, NY', 4, 'Bachelor degree in Computer Science or related field', 80000.00, 120000.00, 'Active'),
+(2, 'Python Data Scientist', 'Seeking a data scientist with strong Python skills and machine learning experience.', 'DataTech Solutions', 'San Francisco, CA', 3, 'Master degree in Data Science or related field', 90000.00, 140000.00, 'Active'),
+(3, 'Frontend React Developer', 'Looking for a frontend developer with React expertise to build modern web applications.', 'WebDev Studio', 'Austin, TX', 2, 'Bachelor degree in Software Engineering or related field', 60000.00, 85000.00, 'Active');
+
+INSERT IGNORE INTO job_skills (job_posting_id, skill_id, importance)
+SELECT seed.job_posting_id, s.id, seed.importance FROM (
+    SELECT 1 AS job_posting_id, 'Java' AS skill, 'Required' AS importance
+    UNION ALL SELECT 1, 'Spring Boot', 'Required'
+    UNION ALL SELECT 1, 'MySQL', 'Preferred'
+    UNION ALL SELECT 1, 'REST APIs', 'Required'
+    UNION ALL SELECT 1, 'Git', 'Preferred'
+    UNION ALL SELECT 2, 'Python', 'Required'
+    UNION ALL SELECT 2, 'Django', 'Preferred'
+    UNION ALL SELECT 2, 'Machine Learning', 'Required'
+    UNION ALL SELECT 2, 'Data Analysis', 'Required'
+    UNION ALL SELECT 2, 'PostgreSQL', 'Preferred'
+    UNION ALL SELECT 3, 'React', 'Required'
+    UNION ALL SELECT 3, 'JavaScript', 'Required'
+    UNION ALL SELECT 3, 'HTML5', 'Required'
+    UNION ALL SELECT 3, 'CSS3', 'Required'
+    UNION ALL SELECT 3, 'Node.js', 'Nice-to-have'
+) seed
+JOIN skills s ON s.name = seed.skill;